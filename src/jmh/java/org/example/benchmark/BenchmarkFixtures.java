@@ -0,0 +1,131 @@
+package org.example.benchmark;
+
+import org.example.entity.BaseEntity;
+import org.example.entity.Category;
+import org.example.entity.ChatRoom;
+import org.example.entity.LastMessageSnapshot;
+import org.example.entity.Message;
+import org.example.entity.Product;
+import org.example.entity.ProductImage;
+import org.example.entity.ProductStatus;
+import org.example.entity.UserProfile;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크에서 사용하는 엔티티 그래프를 만듭니다. DB 없이 메모리에서만 구성합니다.
+ */
+public final class BenchmarkFixtures {
+
+    private static final Field CREATED_AT;
+    private static final Field UPDATED_AT;
+
+    static {
+        try {
+            CREATED_AT = BaseEntity.class.getDeclaredField("createdAt");
+            UPDATED_AT = BaseEntity.class.getDeclaredField("updatedAt");
+            CREATED_AT.setAccessible(true);
+            UPDATED_AT.setAccessible(true);
+        } catch (NoSuchFieldException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private BenchmarkFixtures() {
+    }
+
+    public static UserProfile user(long id) {
+        UserProfile user = UserProfile.builder()
+                .id(id)
+                .kakaoId(3_000_000_000L + id)
+                .nickname("사용자" + id)
+                .profileImage("https://k.kakaocdn.net/dn/profile/" + id + ".jpg")
+                .build();
+        timestamps(user, LocalDateTime.of(2025, 1, 1, 0, 0));
+        return user;
+    }
+
+    public static Category category(long id) {
+        Category category = Category.builder().id(id).name("카테고리" + id).build();
+        timestamps(category, LocalDateTime.of(2025, 1, 1, 0, 0));
+        return category;
+    }
+
+    /**
+     * 이미지 순서가 뒤섞인 상품을 만듭니다.
+     */
+    public static Product product(long id, int imageCount, UserProfile seller, Category category) {
+        Product product = Product.builder()
+                .id(id)
+                .title("중고 상품 " + id)
+                .description("상태 좋은 중고 상품입니다. ".repeat(8))
+                .price(15_000 + (int) id)
+                .status(ProductStatus.ON_SALE)
+                .seller(seller)
+                .category(category)
+                .build();
+        List<ProductImage> images = new ArrayList<>(imageCount);
+        for (int i = 0; i < imageCount; i++) {
+            images.add(ProductImage.builder()
+                    .id(id * 100 + i)
+                    .product(product)
+                    .imageUrl("/uploads/" + Long.toHexString(id * 31 + i) + "_image" + i + ".jpg")
+                    .orderIndex(i)
+                    .build());
+        }
+        Collections.shuffle(images, new Random(id));
+        product.setImages(images);
+        timestamps(product, LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(id));
+        return product;
+    }
+
+    /**
+     * 생성 시간이 뒤섞인 메시지를 가진 채팅방을 만듭니다.
+     */
+    public static ChatRoom chatRoom(long id, int messageCount, Product product, UserProfile buyer) {
+        ChatRoom room = ChatRoom.builder()
+                .id(id)
+                .buyer(buyer)
+                .seller(product.getSeller())
+                .product(product)
+                .build();
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        List<Message> messages = new ArrayList<>(messageCount);
+        for (int i = 0; i < messageCount; i++) {
+            Message message = Message.builder()
+                    .id(id * 1000 + i)
+                    .chatRoom(room)
+                    .sender(i % 2 == 0 ? buyer : product.getSeller())
+                    .seq(i + 1L)
+                    .content("메시지 " + i)
+                    .isRead(i < messageCount - 1)
+                    .build();
+            timestamps(message, base.plusSeconds(i));
+            messages.add(message);
+        }
+        if (messageCount > 0) {
+            Message last = messages.get(messageCount - 1);
+            room.setLastMessageSeq(last.getSeq());
+            room.setLastMessageSnapshot(new LastMessageSnapshot(last.getId(),
+                    LastMessageSnapshot.preview(last.getContent()), last.getSenderId(), last.getCreatedAt()));
+        }
+        Collections.shuffle(messages, new Random(id));
+        room.setMessages(messages);
+        timestamps(room, base);
+        return room;
+    }
+
+    private static void timestamps(BaseEntity entity, LocalDateTime time) {
+        try {
+            CREATED_AT.set(entity, time);
+            UPDATED_AT.set(entity, time);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
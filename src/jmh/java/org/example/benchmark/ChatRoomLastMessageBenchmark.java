@@ -0,0 +1,59 @@
+package org.example.benchmark;
+
+import org.example.entity.ChatRoom;
+import org.example.entity.Message;
+import org.example.entity.Product;
+import org.example.entity.UserProfile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅방 목록 응답마다 호출되는 {@link ChatRoom#getLastMessage()}의 비용을 측정합니다.
+ *
+ * <p>baseline은 메시지 목록의 마지막 원소를 꺼내는 경우입니다. 마지막 메시지는 채팅방의 요약 컬럼으로
+ * 만들므로 메시지 수와 관계없이 상수 시간이어야 합니다.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChatRoomLastMessageBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int messageCount;
+
+    private ChatRoom chatRoom;
+
+    @Setup
+    public void setUp() {
+        UserProfile seller = BenchmarkFixtures.user(1);
+        UserProfile buyer = BenchmarkFixtures.user(2);
+        Product product = BenchmarkFixtures.product(1, 3, seller, BenchmarkFixtures.category(1));
+        chatRoom = BenchmarkFixtures.chatRoom(1, messageCount, product, buyer);
+    }
+
+    @Benchmark
+    public Message baseline() {
+        List<Message> messages = chatRoom.getMessages();
+        return messages.get(messages.size() - 1);
+    }
+
+    @Benchmark
+    public ChatRoom.LastMessage getLastMessage() {
+        return chatRoom.getLastMessage();
+    }
+}
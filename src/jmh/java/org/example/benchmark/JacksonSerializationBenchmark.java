@@ -0,0 +1,92 @@
+package org.example.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.config.JacksonConfig;
+import org.example.entity.Category;
+import org.example.entity.ChatRoom;
+import org.example.entity.Product;
+import org.example.entity.UserProfile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JacksonConfig}의 ObjectMapper로 상품 목록과 채팅방 목록을 직렬화하는 비용을 측정합니다.
+ *
+ * <p>baseline은 같은 그래프 크기의 단순 Map 목록 직렬화로, 엔티티 getter 호출과 어노테이션 처리 비용을 분리해 보여줍니다.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JacksonSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<Product> products;
+    private List<ChatRoom> chatRooms;
+    private List<Map<String, Object>> plainProducts;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new JacksonConfig().objectMapper(new Jackson2ObjectMapperBuilder());
+
+        Category category = BenchmarkFixtures.category(1);
+        UserProfile buyer = BenchmarkFixtures.user(1_000);
+        products = new ArrayList<>(size);
+        chatRooms = new ArrayList<>(size);
+        plainProducts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            UserProfile seller = BenchmarkFixtures.user(i);
+            Product product = BenchmarkFixtures.product(i, 3, seller, category);
+            products.add(product);
+            chatRooms.add(BenchmarkFixtures.chatRoom(i, 20, product, buyer));
+
+            Map<String, Object> plain = new LinkedHashMap<>();
+            plain.put("id", product.getId());
+            plain.put("title", product.getTitle());
+            plain.put("description", product.getDescription());
+            plain.put("price", product.getPrice());
+            plain.put("status", product.getStatus().name());
+            plain.put("sellerId", seller.getId());
+            plain.put("categoryName", category.getName());
+            plain.put("imageUrls", List.of("/uploads/a.jpg", "/uploads/b.jpg", "/uploads/c.jpg"));
+            plainProducts.add(plain);
+        }
+    }
+
+    @Benchmark
+    public byte[] baseline() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(plainProducts);
+    }
+
+    @Benchmark
+    public byte[] productList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(products);
+    }
+
+    @Benchmark
+    public byte[] chatRoomList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(chatRooms);
+    }
+}
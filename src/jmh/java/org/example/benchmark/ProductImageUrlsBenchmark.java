@@ -0,0 +1,62 @@
+package org.example.benchmark;
+
+import org.example.entity.Category;
+import org.example.entity.Product;
+import org.example.entity.ProductImage;
+import org.example.entity.UserProfile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 목록/상세 응답마다 호출되는 {@link Product#getImageUrls()}의 정렬 비용을 측정합니다.
+ *
+ * <p>baseline은 정렬 없이 URL만 복사하는 경우로, 둘의 차이가 정렬과 스트림 비용입니다.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductImageUrlsBenchmark {
+
+    @Param({"1", "5", "10"})
+    private int imageCount;
+
+    private Product product;
+
+    @Setup
+    public void setUp() {
+        UserProfile seller = BenchmarkFixtures.user(1);
+        Category category = BenchmarkFixtures.category(1);
+        product = BenchmarkFixtures.product(1, imageCount, seller, category);
+    }
+
+    @Benchmark
+    public List<String> baseline() {
+        List<ProductImage> images = product.getImages();
+        List<String> urls = new ArrayList<>(images.size());
+        for (ProductImage image : images) {
+            urls.add(image.getImageUrl());
+        }
+        return urls;
+    }
+
+    @Benchmark
+    public List<String> getImageUrls() {
+        return product.getImageUrls();
+    }
+}
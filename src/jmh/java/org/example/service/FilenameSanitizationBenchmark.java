@@ -0,0 +1,48 @@
+package org.example.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 이미지 업로드 시 {@link ProductService#toSafeFilename(String)}의 파일명 정리 비용을 측정합니다.
+ * 패키지 전용 메서드에 접근하기 위해 서비스와 같은 패키지에 둡니다.
+ *
+ * <p>baseline은 매 호출마다 정규식을 컴파일하던 기존 {@code String.replaceAll} 방식입니다.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FilenameSanitizationBenchmark {
+
+    @Param({"IMG_2024.jpg", "스크린샷 2025-01-01 오후 3.15.22.png", "상품 사진 (최종)_수정본 v2.jpeg"})
+    private String filename;
+
+    @Benchmark
+    public String baseline() {
+        String extension = "";
+        int lastDotIndex = filename.lastIndexOf('.');
+        if (lastDotIndex > 0) {
+            extension = filename.substring(lastDotIndex);
+        }
+        return filename.substring(0, lastDotIndex > 0 ? lastDotIndex : filename.length())
+                .replaceAll("[^a-zA-Z0-9._-]", "_") + extension;
+    }
+
+    @Benchmark
+    public String toSafeFilename() {
+        return ProductService.toSafeFilename(filename);
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Map;
+
+/**
+ * 채팅 시나리오입니다. 채팅방 생성(또는 기존 방 조회) → 메시지 전송 → 메시지 조회 → 내 채팅방 목록 조회를 수행합니다.
+ */
+public class ChatScenario implements Scenario {
+
+    @Override
+    public String name() {
+        return "chat";
+    }
+
+    @Override
+    public void run(LoadTestClient client, VirtualUser user) {
+        if (user.userId() == null) {
+            LoginScenario.login(client, user);
+            if (user.userId() == null) {
+                return;
+            }
+        }
+        long[] productWithSeller = user.randomProductWithSeller();
+        long productId = productWithSeller[0];
+        long sellerId = productWithSeller[1];
+        if (sellerId == user.userId()) {
+            return;
+        }
+
+        LoadTestClient.Response room = client.postJson("POST /api/chat/rooms",
+                "/api/chat/rooms?buyerId=" + user.userId() + "&sellerId=" + sellerId + "&productId=" + productId, null);
+        JsonNode body = room.isSuccess() ? room.json() : null;
+        if (body == null || !body.hasNonNull("id")) {
+            return;
+        }
+        long chatRoomId = body.get("id").asLong();
+
+        client.postJson("POST /api/chat/rooms/{id}/messages",
+                "/api/chat/rooms/" + chatRoomId + "/messages?senderId=" + user.userId(),
+                Map.of("content", "부하 테스트 메시지 " + System.nanoTime()));
+        client.get("GET /api/chat/rooms/{id}/messages", "/api/chat/rooms/" + chatRoomId + "/messages");
+        client.get("GET /api/chat/rooms/user/{userId}", "/api/chat/rooms/user/" + user.userId());
+    }
+}
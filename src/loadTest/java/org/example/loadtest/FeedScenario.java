@@ -0,0 +1,25 @@
+package org.example.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 피드 탐색 시나리오입니다. 목록 → 상세 → 카테고리 → 검색 순서로 조회합니다.
+ */
+public class FeedScenario implements Scenario {
+
+    private static final String[] KEYWORDS = {"부하", "테스트", "상품", "중고"};
+
+    @Override
+    public String name() {
+        return "feed";
+    }
+
+    @Override
+    public void run(LoadTestClient client, VirtualUser user) {
+        client.get("GET /api/products", "/api/products");
+        client.get("GET /api/products/{id}", "/api/products/" + user.randomProductId());
+        client.get("GET /api/categories", "/api/categories");
+        String keyword = KEYWORDS[ThreadLocalRandom.current().nextInt(KEYWORDS.length)];
+        client.get("GET /api/products/search", "/api/products/search?keyword=" + LoadTestClient.encode(keyword));
+    }
+}
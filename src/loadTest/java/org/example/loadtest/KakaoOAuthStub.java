@@ -0,0 +1,168 @@
+package org.example.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트용 카카오 OAuth 스텁 서버입니다.
+ *
+ * <p>{@code KakaoTokenResponse}와 {@code KakaoUserResponse} 형식의 응답을 돌려주며,
+ * 응답 전에 설정한 지연 시간만큼 대기해 실제 카카오 API 호출 비용을 흉내 냅니다.</p>
+ *
+ * <p>인가 코드가 {@code user-<번호>} 형식이면 같은 번호에 대해 항상 같은 카카오 ID를 돌려주므로
+ * 반복 로그인 시나리오를 재현할 수 있습니다.</p>
+ */
+public class KakaoOAuthStub implements AutoCloseable {
+
+    public static final String TOKEN_PATH = "/oauth/token";
+    public static final String USER_INFO_PATH = "/v2/user/me";
+
+    /** 스텁이 발급하는 카카오 ID가 실제 테스트 계정과 겹치지 않도록 더하는 값 */
+    private static final long KAKAO_ID_OFFSET = 9_000_000_000L;
+    private static final String ACCESS_TOKEN_PREFIX = "stub-access-";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyMillis;
+
+    public KakaoOAuthStub(int port, long latencyMillis) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        this.executor = Executors.newCachedThreadPool();
+        server.createContext(TOKEN_PATH, this::handleToken);
+        server.createContext(USER_INFO_PATH, this::handleUserInfo);
+        server.setExecutor(executor);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public String tokenUri() {
+        return baseUrl() + TOKEN_PATH;
+    }
+
+    public String userInfoUri() {
+        return baseUrl() + USER_INFO_PATH;
+    }
+
+    /**
+     * 인가 코드 번호에 대응하는 카카오 ID를 계산합니다.
+     */
+    public static long kakaoIdFor(long userNumber) {
+        return KAKAO_ID_OFFSET + userNumber;
+    }
+
+    private void handleToken(HttpExchange exchange) throws IOException {
+        try {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                respond(exchange, 405, "{\"error\":\"method_not_allowed\"}");
+                return;
+            }
+            String code = formValue(readBody(exchange), "code");
+            if (code == null || code.isBlank()) {
+                respond(exchange, 400, "{\"error\":\"invalid_grant\",\"error_description\":\"authorization code not found\"}");
+                return;
+            }
+            simulateLatency();
+            String body = """
+                    {"token_type":"bearer","access_token":"%s%s","expires_in":21599,\
+                    "refresh_token":"stub-refresh-%s","refresh_token_expires_in":5183999,"scope":"profile_nickname"}"""
+                    .formatted(ACCESS_TOKEN_PREFIX, code, code);
+            respond(exchange, 200, body);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleUserInfo(HttpExchange exchange) throws IOException {
+        try {
+            String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+            if (authorization == null || !authorization.startsWith("Bearer " + ACCESS_TOKEN_PREFIX)) {
+                respond(exchange, 401, "{\"msg\":\"this access token does not exist\",\"code\":-401}");
+                return;
+            }
+            String code = authorization.substring(("Bearer " + ACCESS_TOKEN_PREFIX).length());
+            simulateLatency();
+            long kakaoId = kakaoIdFor(userNumberOf(code));
+            String body = """
+                    {"id":%d,"kakao_account":{"email":"loadtest-%d@example.com",\
+                    "profile":{"nickname":"부하테스트%d","profile_image_url":"https://example.com/p/%d.jpg",\
+                    "thumbnail_image_url":"https://example.com/t/%d.jpg"}}}"""
+                    .formatted(kakaoId, kakaoId, kakaoId % 100000, kakaoId, kakaoId);
+            respond(exchange, 200, body);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * {@code user-<번호>} 형식이면 번호를, 아니면 코드 해시를 사용자 번호로 사용합니다.
+     */
+    private static long userNumberOf(String code) {
+        if (code.startsWith("user-")) {
+            try {
+                return Long.parseLong(code.substring("user-".length()));
+            } catch (NumberFormatException ignored) {
+                // 해시로 대체
+            }
+        }
+        return Math.abs((long) code.hashCode());
+    }
+
+    private void simulateLatency() {
+        if (latencyMillis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String formValue(String form, String name) {
+        for (String pair : form.split("&")) {
+            int idx = pair.indexOf('=');
+            if (idx > 0 && name.equals(pair.substring(0, idx))) {
+                return URLDecoder.decode(pair.substring(idx + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
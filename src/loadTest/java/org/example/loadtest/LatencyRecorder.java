@@ -0,0 +1,96 @@
+package org.example.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 엔드포인트별 응답 시간을 모아 p50/p95/p99와 처리량을 계산합니다.
+ */
+public class LatencyRecorder {
+
+    private final ConcurrentMap<String, EndpointSamples> samples = new ConcurrentHashMap<>();
+
+    /**
+     * 요청 한 건의 결과를 기록합니다.
+     *
+     * @param endpoint     "GET /api/products/{id}" 형식의 엔드포인트 이름
+     * @param elapsedNanos 응답까지 걸린 시간(나노초)
+     * @param success      2xx/3xx 응답 여부
+     */
+    public void record(String endpoint, long elapsedNanos, boolean success) {
+        samples.computeIfAbsent(endpoint, key -> new EndpointSamples()).add(elapsedNanos, success);
+    }
+
+    /**
+     * 기록된 값으로 엔드포인트별 통계를 계산합니다.
+     *
+     * @param elapsedSeconds 측정 구간 길이(초), 처리량 계산에 사용
+     * @return 요청 수가 많은 순으로 정렬된 통계 목록
+     */
+    public List<EndpointReport> report(double elapsedSeconds) {
+        List<EndpointReport> reports = new ArrayList<>();
+        samples.forEach((endpoint, endpointSamples) -> reports.add(endpointSamples.toReport(endpoint, elapsedSeconds)));
+        reports.sort(Comparator.comparingLong(EndpointReport::requests).reversed());
+        return reports;
+    }
+
+    /**
+     * 엔드포인트 한 개의 통계입니다. 시간 단위는 밀리초입니다.
+     */
+    public record EndpointReport(
+            String endpoint,
+            long requests,
+            long errors,
+            double throughputPerSecond,
+            double p50Millis,
+            double p95Millis,
+            double p99Millis,
+            double maxMillis
+    ) {
+    }
+
+    private static final class EndpointSamples {
+
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+
+        synchronized void add(long elapsedNanos, boolean success) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = elapsedNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized EndpointReport toReport(String endpoint, double elapsedSeconds) {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            double throughput = elapsedSeconds > 0 ? size / elapsedSeconds : 0;
+            return new EndpointReport(
+                    endpoint,
+                    size,
+                    errors,
+                    throughput,
+                    percentile(sorted, 0.50),
+                    percentile(sorted, 0.95),
+                    percentile(sorted, 0.99),
+                    size > 0 ? sorted[size - 1] / 1_000_000.0 : 0
+            );
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+        }
+    }
+}
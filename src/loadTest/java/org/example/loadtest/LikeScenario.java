@@ -0,0 +1,30 @@
+package org.example.loadtest;
+
+import java.util.Map;
+
+/**
+ * 좋아요 시나리오입니다. 좋아요 추가 → 내 좋아요 목록 조회 → 좋아요 취소를 수행합니다.
+ */
+public class LikeScenario implements Scenario {
+
+    @Override
+    public String name() {
+        return "like";
+    }
+
+    @Override
+    public void run(LoadTestClient client, VirtualUser user) {
+        if (user.userId() == null) {
+            LoginScenario.login(client, user);
+            if (user.userId() == null) {
+                return;
+            }
+        }
+        long productId = user.randomProductId();
+        client.postJson("POST /api/likes", "/api/likes",
+                Map.of("userId", user.userId(), "productId", productId));
+        client.get("GET /api/likes/user/{userId}", "/api/likes/user/" + user.userId());
+        client.delete("DELETE /api/likes",
+                "/api/likes?userId=" + user.userId() + "&productId=" + productId);
+    }
+}
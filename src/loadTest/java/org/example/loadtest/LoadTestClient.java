@@ -0,0 +1,142 @@
+package org.example.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * 부하 테스트 대상 서버를 호출하고 응답 시간을 {@link LatencyRecorder}에 기록하는 HTTP 클라이언트입니다.
+ *
+ * <p>경로 변수가 다른 요청도 하나의 엔드포인트로 집계되도록 호출 시 엔드포인트 이름을 따로 받습니다.</p>
+ */
+public class LoadTestClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final LatencyRecorder recorder;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public LoadTestClient(String baseUrl, LatencyRecorder recorder) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.recorder = recorder;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+    }
+
+    public Response get(String endpoint, String path) {
+        return send(endpoint, request(path).GET().build());
+    }
+
+    public Response delete(String endpoint, String path) {
+        return send(endpoint, request(path).DELETE().build());
+    }
+
+    public Response postJson(String endpoint, String path, Object body) {
+        try {
+            String json = body == null ? "" : objectMapper.writeValueAsString(body);
+            return send(endpoint, request(path)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(json, StandardCharsets.UTF_8))
+                    .build());
+        } catch (IOException e) {
+            throw new IllegalArgumentException("요청 본문 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    public Response postForm(String endpoint, String path, Map<String, ?> form) {
+        return send(endpoint, request(path)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(encodeForm(form), StandardCharsets.UTF_8))
+                .build());
+    }
+
+    /**
+     * 쿼리 스트링 값을 URL 인코딩합니다.
+     */
+    public static String encode(Object value) {
+        return URLEncoder.encode(String.valueOf(value), StandardCharsets.UTF_8);
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+    }
+
+    private Response send(String endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            long elapsed = System.nanoTime() - start;
+            boolean success = response.statusCode() < 400;
+            recorder.record(endpoint, elapsed, success);
+            return new Response(response.statusCode(), response.body());
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - start, false);
+            return new Response(-1, new byte[0]);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Response(-1, new byte[0]);
+        }
+    }
+
+    private static String encodeForm(Map<String, ?> form) {
+        StringJoiner joiner = new StringJoiner("&");
+        form.forEach((key, value) -> {
+            if (value != null) {
+                joiner.add(encode(key) + "=" + encode(value));
+            }
+        });
+        return joiner.toString();
+    }
+
+    /**
+     * 상태 코드와 본문만 담은 응답입니다.
+     */
+    public final class Response {
+
+        private final int status;
+        private final byte[] body;
+
+        Response(int status, byte[] body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        public int status() {
+            return status;
+        }
+
+        public boolean isSuccess() {
+            return status >= 200 && status < 400;
+        }
+
+        /**
+         * 응답 본문을 JSON 트리로 읽습니다. 본문이 없거나 JSON이 아니면 null을 반환합니다.
+         */
+        public JsonNode json() {
+            if (body.length == 0) {
+                return null;
+            }
+            try {
+                return objectMapper.readTree(body);
+            } catch (IOException e) {
+                return null;
+            }
+        }
+    }
+}
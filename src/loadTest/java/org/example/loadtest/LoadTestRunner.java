@@ -0,0 +1,248 @@
+package org.example.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.Main;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트 진입점입니다. {@code ./gradlew loadTest}로 실행합니다.
+ *
+ * <p>{@code loadtest.baseUrl}을 지정하지 않으면 카카오 OAuth 스텁과 H2 인메모리 DB로
+ * 애플리케이션을 같은 JVM에서 띄운 뒤 측정합니다. 지정하면 이미 떠 있는 서버를 대상으로 하며,
+ * 이 경우 서버의 {@code kakao.token-uri}/{@code kakao.user-info-uri}가 스텁을 가리켜야 로그인 시나리오가 동작합니다.</p>
+ *
+ * <p>설정 (시스템 프로퍼티):</p>
+ * <ul>
+ *     <li>{@code loadtest.baseUrl} - 대상 서버 주소 (기본: 내장 서버)</li>
+ *     <li>{@code loadtest.users} - 가상 사용자 수 = 동시 실행 수 (기본 20)</li>
+ *     <li>{@code loadtest.durationSeconds} - 측정 시간 (기본 30)</li>
+ *     <li>{@code loadtest.warmupSeconds} - 측정 전 예열 시간 (기본 5)</li>
+ *     <li>{@code loadtest.stubLatencyMs} - 카카오 스텁 응답 지연 (기본 50)</li>
+ *     <li>{@code loadtest.stubPort} - 카카오 스텁 포트 (기본 0 = 임의 포트)</li>
+ *     <li>{@code loadtest.products} - 사전 등록할 상품 수 (기본 50)</li>
+ *     <li>{@code loadtest.scenarios} - 실행할 시나리오, 쉼표 구분 (기본 login,feed,like,chat)</li>
+ *     <li>{@code loadtest.reportFile} - 결과 JSON 파일 경로 (기본: 저장하지 않음)</li>
+ * </ul>
+ */
+public class LoadTestRunner {
+
+    private static final Map<String, Scenario> SCENARIOS = new LinkedHashMap<>();
+
+    static {
+        for (Scenario scenario : List.of(new LoginScenario(), new FeedScenario(), new LikeScenario(), new ChatScenario())) {
+            SCENARIOS.put(scenario.name(), scenario);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int users = Integer.getInteger("loadtest.users", 20);
+        int durationSeconds = Integer.getInteger("loadtest.durationSeconds", 30);
+        int warmupSeconds = Integer.getInteger("loadtest.warmupSeconds", 5);
+        long stubLatencyMs = Long.getLong("loadtest.stubLatencyMs", 50L);
+        int stubPort = Integer.getInteger("loadtest.stubPort", 0);
+        int productCount = Integer.getInteger("loadtest.products", 50);
+        String baseUrl = System.getProperty("loadtest.baseUrl");
+        String reportFile = System.getProperty("loadtest.reportFile");
+        List<Scenario> scenarios = parseScenarios(System.getProperty("loadtest.scenarios", "login,feed,like,chat"));
+
+        try (KakaoOAuthStub stub = new KakaoOAuthStub(stubPort, stubLatencyMs)) {
+            stub.start();
+            System.out.printf("[loadtest] 카카오 스텁 시작 - %s (지연 %dms)%n", stub.baseUrl(), stubLatencyMs);
+
+            ConfigurableApplicationContext context = null;
+            try {
+                if (baseUrl == null || baseUrl.isBlank()) {
+                    context = startEmbeddedServer(stub);
+                    baseUrl = "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port");
+                }
+                System.out.printf("[loadtest] 대상 서버 - %s%n", baseUrl);
+
+                SeedData seed = seed(baseUrl, users, productCount);
+                System.out.printf("[loadtest] 상품 %d개 준비 완료%n", seed.productIds().size());
+
+                if (warmupSeconds > 0) {
+                    System.out.printf("[loadtest] 예열 %d초%n", warmupSeconds);
+                    runPhase(baseUrl, new LatencyRecorder(), scenarios, users, seed, warmupSeconds);
+                }
+
+                System.out.printf("[loadtest] 측정 %d초 - 가상 사용자 %d명, 시나리오 %s%n",
+                        durationSeconds, users, scenarios.stream().map(Scenario::name).toList());
+                LatencyRecorder recorder = new LatencyRecorder();
+                double elapsedSeconds = runPhase(baseUrl, recorder, scenarios, users, seed, durationSeconds);
+
+                List<LatencyRecorder.EndpointReport> reports = recorder.report(elapsedSeconds);
+                printReport(reports, elapsedSeconds);
+                if (reportFile != null && !reportFile.isBlank()) {
+                    writeReport(Path.of(reportFile), reports, elapsedSeconds, users);
+                }
+            } finally {
+                if (context != null) {
+                    context.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * 카카오 엔드포인트를 스텁으로 바꾸고 H2 인메모리 DB로 애플리케이션을 띄웁니다.
+     */
+    private static ConfigurableApplicationContext startEmbeddedServer(KakaoOAuthStub stub) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1");
+        properties.put("spring.jpa.hibernate.ddl-auto", "none"); // Flyway 마이그레이션으로 스키마와 인덱스 생성
+        properties.put("spring.jpa.show-sql", false);
+        properties.put("spring.h2.console.enabled", false);
+        properties.put("kakao.client-id", "loadtest-client");
+        properties.put("kakao.token-uri", stub.tokenUri());
+        properties.put("kakao.user-info-uri", stub.userInfoUri());
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.org.example", "WARN");
+        return new SpringApplicationBuilder(Main.class)
+                .properties(properties)
+                .run();
+    }
+
+    /**
+     * 판매자 계정과 상품을 미리 등록합니다. 판매자는 가상 사용자와 겹치지 않는 번호로 로그인합니다.
+     */
+    private static SeedData seed(String baseUrl, int users, int productCount) {
+        LoadTestClient client = new LoadTestClient(baseUrl, new LatencyRecorder());
+
+        JsonNode categories = client.get("GET /api/categories", "/api/categories").json();
+        if (categories == null || !categories.isArray() || categories.isEmpty()) {
+            throw new IllegalStateException("카테고리가 없어 상품을 등록할 수 없습니다.");
+        }
+
+        int sellerCount = Math.max(1, Math.min(10, productCount));
+        List<Long> sellers = new ArrayList<>();
+        for (int i = 0; i < sellerCount; i++) {
+            VirtualUser seller = new VirtualUser(users + 1L + i, List.of(), List.of());
+            LoginScenario.login(client, seller);
+            if (seller.userId() == null) {
+                throw new IllegalStateException("판매자 로그인 실패 - 카카오 스텁 설정을 확인하세요.");
+            }
+            sellers.add(seller.userId());
+        }
+
+        List<Long> productIds = new ArrayList<>();
+        List<Long> sellerIds = new ArrayList<>();
+        for (int i = 0; i < productCount; i++) {
+            long sellerId = sellers.get(i % sellers.size());
+            long categoryId = categories.get(i % categories.size()).get("id").asLong();
+            Map<String, Object> form = new LinkedHashMap<>();
+            form.put("title", "부하 테스트 상품 " + i);
+            form.put("price", 1000 + i * 100);
+            form.put("description", "부하 테스트용 중고 상품 설명 " + i);
+            form.put("categoryId", categoryId);
+            form.put("sellerId", sellerId);
+            JsonNode product = client.postForm("POST /api/products/with-upload", "/api/products/with-upload", form).json();
+            if (product != null && product.hasNonNull("id")) {
+                productIds.add(product.get("id").asLong());
+                sellerIds.add(sellerId);
+            }
+        }
+        if (productIds.isEmpty()) {
+            throw new IllegalStateException("상품 등록에 모두 실패했습니다.");
+        }
+        return new SeedData(List.copyOf(productIds), List.copyOf(sellerIds));
+    }
+
+    /**
+     * 가상 사용자 수만큼 스레드를 띄워 지정 시간 동안 시나리오를 반복합니다.
+     *
+     * @return 실제 경과 시간(초)
+     */
+    private static double runPhase(String baseUrl, LatencyRecorder recorder, List<Scenario> scenarios,
+                                   int users, SeedData seed, int durationSeconds) throws InterruptedException {
+        LoadTestClient client = new LoadTestClient(baseUrl, recorder);
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        CountDownLatch done = new CountDownLatch(users);
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        for (int i = 1; i <= users; i++) {
+            VirtualUser user = new VirtualUser(i, seed.productIds(), seed.sellerIds());
+            executor.execute(() -> {
+                try {
+                    while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                        for (Scenario scenario : scenarios) {
+                            scenario.run(client, user);
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        done.await();
+        executor.shutdown();
+        return (System.nanoTime() - start) / 1_000_000_000.0;
+    }
+
+    private static List<Scenario> parseScenarios(String value) {
+        List<Scenario> scenarios = new ArrayList<>();
+        for (String name : value.split(",")) {
+            String trimmed = name.trim().toLowerCase(Locale.ROOT);
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            Scenario scenario = SCENARIOS.get(trimmed);
+            if (scenario == null) {
+                throw new IllegalArgumentException("알 수 없는 시나리오: " + trimmed + " (사용 가능: " + SCENARIOS.keySet() + ")");
+            }
+            scenarios.add(scenario);
+        }
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("실행할 시나리오가 없습니다.");
+        }
+        return scenarios;
+    }
+
+    private static void printReport(List<LatencyRecorder.EndpointReport> reports, double elapsedSeconds) {
+        System.out.printf("%n[loadtest] 결과 (%.1f초)%n", elapsedSeconds);
+        System.out.printf("%-40s %8s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        long total = 0;
+        for (LatencyRecorder.EndpointReport report : reports) {
+            total += report.requests();
+            System.out.printf("%-40s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    report.endpoint(), report.requests(), report.errors(), report.throughputPerSecond(),
+                    report.p50Millis(), report.p95Millis(), report.p99Millis(), report.maxMillis());
+        }
+        System.out.printf("%-40s %8d %7s %9.1f%n", "TOTAL", total, "", total / elapsedSeconds);
+    }
+
+    private static void writeReport(Path path, List<LatencyRecorder.EndpointReport> reports,
+                                    double elapsedSeconds, int users) throws IOException {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("users", users);
+        document.put("elapsedSeconds", elapsedSeconds);
+        document.put("endpoints", reports);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), document);
+        System.out.printf("[loadtest] 결과 저장 - %s%n", path.toAbsolutePath());
+    }
+
+    private record SeedData(List<Long> productIds, List<Long> sellerIds) {
+    }
+}
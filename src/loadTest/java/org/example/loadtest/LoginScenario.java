@@ -0,0 +1,36 @@
+package org.example.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Map;
+
+/**
+ * 카카오 로그인 시나리오입니다.
+ *
+ * <p>가상 사용자마다 고정된 인가 코드를 사용하므로 첫 반복은 신규 가입, 이후 반복은 재로그인 경로를 측정합니다.</p>
+ */
+public class LoginScenario implements Scenario {
+
+    @Override
+    public String name() {
+        return "login";
+    }
+
+    @Override
+    public void run(LoadTestClient client, VirtualUser user) {
+        login(client, user);
+    }
+
+    /**
+     * 로그인하고 응답의 내부 사용자 ID를 가상 사용자에 저장합니다.
+     * 다른 시나리오가 로그인 전 상태일 때도 사용합니다.
+     */
+    static void login(LoadTestClient client, VirtualUser user) {
+        LoadTestClient.Response response = client.postJson("POST /api/auth/kakao", "/api/auth/kakao",
+                Map.of("code", user.authorizationCode()));
+        JsonNode body = response.isSuccess() ? response.json() : null;
+        if (body != null && body.hasNonNull("userId")) {
+            user.userId(body.get("userId").asLong());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.loadtest;
+
+/**
+ * 가상 사용자가 한 번의 반복에서 수행하는 요청 묶음입니다.
+ */
+public interface Scenario {
+
+    /**
+     * 명령행에서 시나리오를 고를 때 사용하는 이름입니다.
+     */
+    String name();
+
+    /**
+     * 가상 사용자 한 명의 반복 1회를 실행합니다.
+     *
+     * @param client 요청에 사용할 클라이언트
+     * @param user   현재 가상 사용자의 상태
+     */
+    void run(LoadTestClient client, VirtualUser user);
+}
@@ -0,0 +1,57 @@
+package org.example.loadtest;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트의 가상 사용자 한 명입니다.
+ *
+ * <p>로그인 시나리오가 채운 내부 사용자 ID를 좋아요/채팅 시나리오가 이어서 사용합니다.
+ * 한 가상 사용자는 하나의 스레드에서만 사용됩니다.</p>
+ */
+public class VirtualUser {
+
+    private final long number;
+    private final List<Long> productIds;
+    private final List<Long> sellerIds;
+    private Long userId;
+
+    public VirtualUser(long number, List<Long> productIds, List<Long> sellerIds) {
+        this.number = number;
+        this.productIds = productIds;
+        this.sellerIds = sellerIds;
+    }
+
+    public long number() {
+        return number;
+    }
+
+    /**
+     * 카카오 스텁이 같은 카카오 ID를 돌려주도록 번호를 담은 인가 코드를 만듭니다.
+     */
+    public String authorizationCode() {
+        return "user-" + number;
+    }
+
+    public Long userId() {
+        return userId;
+    }
+
+    public void userId(Long userId) {
+        this.userId = userId;
+    }
+
+    public long randomProductId() {
+        return productIds.get(ThreadLocalRandom.current().nextInt(productIds.size()));
+    }
+
+    /**
+     * 상품 인덱스와 같은 위치의 판매자 ID를 함께 돌려줍니다.
+     *
+     * @return [상품 ID, 판매자 ID]
+     */
+    public long[] randomProductWithSeller() {
+        int index = ThreadLocalRandom.current().nextInt(productIds.size());
+        return new long[]{productIds.get(index), sellerIds.get(index)};
+    }
+}
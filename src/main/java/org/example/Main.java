@@ -3,14 +3,27 @@ package org.example;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.example.cache.ResponseCacheProperties;
+import org.example.chat.ChatBufferProperties;
+import org.example.chat.ChatGroupCommitProperties;
+import org.example.chat.MessageSearchProperties;
+import org.example.chat.MessageStorageProperties;
 import org.example.config.KakaoProperties;
+import org.example.config.ProductImportProperties;
+import org.example.monitoring.HealthProperties;
+import org.example.monitoring.QueryCountProperties;
+import org.example.recommend.SimilarProductProperties;
+import org.example.trending.TrendingProperties;
+import org.example.view.ViewCountProperties;
 
 @SpringBootApplication
-@EnableConfigurationProperties(KakaoProperties.class)
+@EnableConfigurationProperties({KakaoProperties.class, QueryCountProperties.class, HealthProperties.class,
+        ResponseCacheProperties.class, TrendingProperties.class,
+        ViewCountProperties.class, SimilarProductProperties.class, ChatBufferProperties.class,
+        ChatGroupCommitProperties.class, MessageStorageProperties.class,
+        MessageSearchProperties.class, ProductImportProperties.class})
 public class Main {
     public static void main(String[] args) {
-        System.out.println("============ [Main.java] Main.main() 시작 ============");
         SpringApplication.run(Main.class, args);
-        System.out.println("============ [Main.java] Main.main() 종료 ============");
     }
 }
\ No newline at end of file
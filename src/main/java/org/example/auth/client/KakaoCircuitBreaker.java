@@ -0,0 +1,103 @@
+package org.example.auth.client;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import org.example.auth.exception.KakaoApiException;
+import org.example.config.KakaoProperties;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 카카오 API 호출용 서킷 브레이커입니다.
+ *
+ * <p>카카오가 5xx를 반환하거나 연결 자체가 실패하는 호출이 연속으로 설정 횟수만큼 발생하면
+ * 일정 시간 동안 호출을 막아(OPEN) 로그인 요청이 타임아웃까지 스레드를 붙잡지 않도록 합니다.
+ * 차단 시간이 지나면 한 번의 시험 호출(HALF_OPEN)로 복구 여부를 확인합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class KakaoCircuitBreaker {
+
+	private static final Logger log = LoggerFactory.getLogger(KakaoCircuitBreaker.class);
+
+	/**
+	 * 서킷 상태.
+	 */
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final KakaoProperties kakaoProperties;
+
+	private final AtomicInteger consecutiveFailures = new AtomicInteger();
+	/** OPEN 상태가 끝나는 시각. 0이면 CLOSED */
+	private final AtomicLong openUntilMillis = new AtomicLong();
+	/** HALF_OPEN 상태에서 시험 호출을 시작한 시각. 0이면 진행 중인 시험 호출 없음 */
+	private final AtomicLong halfOpenTrialAt = new AtomicLong();
+
+	/**
+	 * 호출 가능 여부를 확인합니다. 차단 중이면 예외를 던집니다.
+	 *
+	 * @throws KakaoApiException 서킷이 열려 있는 경우
+	 */
+	public void checkAvailable() {
+		long openUntil = openUntilMillis.get();
+		if (openUntil == 0) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		if (now >= openUntil) {
+			// 차단 시간이 지나면 시험 호출 1건만 통과. 시험 호출 결과가 기록되지 않은 채 차단 시간만큼 지나면 다시 허용
+			long trialAt = halfOpenTrialAt.get();
+			boolean trialAvailable = trialAt == 0 || now - trialAt >= kakaoProperties.getCircuitOpenSeconds() * 1000L;
+			if (trialAvailable && halfOpenTrialAt.compareAndSet(trialAt, now)) {
+				return;
+			}
+		}
+		throw new KakaoApiException("카카오 API 장애로 일시적으로 로그인을 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+	}
+
+	/**
+	 * 카카오가 정상 응답(4xx 포함)을 준 경우 호출합니다.
+	 */
+	public void recordSuccess() {
+		if (openUntilMillis.get() != 0) {
+			log.info("카카오 API 서킷 닫힘 - 호출 정상화");
+		}
+		consecutiveFailures.set(0);
+		openUntilMillis.set(0);
+		halfOpenTrialAt.set(0);
+	}
+
+	/**
+	 * 카카오 5xx 응답 또는 연결 실패 시 호출합니다.
+	 */
+	public void recordFailure() {
+		int failures = consecutiveFailures.incrementAndGet();
+		boolean halfOpenTrialFailed = halfOpenTrialAt.getAndSet(0) != 0;
+		if (halfOpenTrialFailed || failures >= kakaoProperties.getCircuitFailureThreshold()) {
+			openUntilMillis.set(System.currentTimeMillis() + kakaoProperties.getCircuitOpenSeconds() * 1000L);
+			log.warn("카카오 API 서킷 열림 - 연속 실패 {}회, {}초 동안 호출 차단", failures, kakaoProperties.getCircuitOpenSeconds());
+		}
+	}
+
+	/**
+	 * 현재 서킷 상태를 반환합니다.
+	 */
+	public State getState() {
+		long openUntil = openUntilMillis.get();
+		if (openUntil == 0) {
+			return State.CLOSED;
+		}
+		return System.currentTimeMillis() < openUntil ? State.OPEN : State.HALF_OPEN;
+	}
+
+	public int getConsecutiveFailures() {
+		return consecutiveFailures.get();
+	}
+}
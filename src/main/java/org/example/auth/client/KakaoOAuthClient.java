@@ -16,6 +16,7 @@ import org.springframework.util.MultiValueMap;
 import org.springframework.util.StringUtils;
 import org.springframework.util.Assert;
 import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
 import org.example.auth.dto.KakaoTokenResponse;
@@ -36,6 +37,7 @@ public class KakaoOAuthClient {
 
 	private final RestTemplate restTemplate;
 	private final KakaoProperties kakaoProperties;
+	private final KakaoCircuitBreaker circuitBreaker;
 
 	/**
 	 * 카카오 OAuth 서버에 인가 코드를 전달해 액세스/리프레시 토큰을 요청합니다.
@@ -51,11 +53,12 @@ public class KakaoOAuthClient {
 		String clientSecret = kakaoProperties.getClientSecret();
 		String redirectUri = kakaoProperties.getRedirectUri();
 
-		log.info("카카오 토큰 요청 파라미터 확인 - clientId={}, redirectUri={}, secretSet={}",
+		log.debug("카카오 토큰 요청 파라미터 확인 - clientId={}, redirectUri={}, secretSet={}",
 				clientId,
 				redirectUri,
 				StringUtils.hasText(clientSecret));
 
+		circuitBreaker.checkAvailable();
 		try {
 			HttpHeaders headers = new HttpHeaders();
 			headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
@@ -82,8 +85,10 @@ public class KakaoOAuthClient {
 					KakaoTokenResponse.class
 			);
 
+			circuitBreaker.recordSuccess();
 			return Objects.requireNonNull(response.getBody(), "카카오 토큰 응답이 비어있습니다.");
 		} catch (HttpStatusCodeException ex) {
+			recordStatus(ex);
 			String responseBody = ex.getResponseBodyAsString();
 			log.error("카카오 토큰 발급 API 호출 실패. status={}, body={}, clientId={}, redirectUri={}", 
 					ex.getStatusCode(), responseBody, clientId, redirectUri, ex);
@@ -91,8 +96,8 @@ public class KakaoOAuthClient {
 			// 401 오류의 경우 더 자세한 정보 로깅
 			if (ex.getStatusCode().value() == 401) {
 				log.error("401 오류 가능 원인: 1) Redirect URI 불일치 2) Client ID/Secret 불일치 3) 카카오 개발자 콘솔 설정 확인 필요");
-				log.error("요청 파라미터 - grant_type={}, client_id={}, redirect_uri={}, code={}", 
-						"authorization_code", clientId, redirectUri, code);
+				log.error("요청 파라미터 - grant_type={}, client_id={}, redirect_uri={}", 
+						"authorization_code", clientId, redirectUri);
 			}
 			
 			String reason = String.format(
@@ -101,6 +106,10 @@ public class KakaoOAuthClient {
 					StringUtils.hasText(responseBody) ? responseBody : "null"
 			);
 			throw new KakaoApiException(reason, ex);
+		} catch (ResourceAccessException ex) {
+			circuitBreaker.recordFailure();
+			log.error("카카오 토큰 발급 API 연결 실패: {}", ex.getMessage(), ex);
+			throw new KakaoApiException("카카오 토큰 발급 API에 연결할 수 없습니다.", ex);
 		}
 	}
 
@@ -112,6 +121,7 @@ public class KakaoOAuthClient {
 	 * @throws KakaoApiException 카카오 API가 오류를 반환한 경우
 	 */
 	public KakaoUserResponse requestUserProfile(String accessToken) {
+		circuitBreaker.checkAvailable();
 		try {
 			HttpHeaders headers = new HttpHeaders();
 			String bearerToken = Objects.requireNonNull(accessToken, "카카오 액세스 토큰은 비어 있을 수 없습니다.");
@@ -135,8 +145,10 @@ public class KakaoOAuthClient {
 
 			ResponseEntity<KakaoUserResponse> response = restTemplate.exchange(request, KakaoUserResponse.class);
 
+			circuitBreaker.recordSuccess();
 			return Objects.requireNonNull(response.getBody(), "카카오 사용자 정보 응답이 비어있습니다.");
 		} catch (HttpStatusCodeException ex) {
+			recordStatus(ex);
 			String responseBody = ex.getResponseBodyAsString();
 			String reason = String.format(
 					"카카오 사용자 정보 조회가 실패했습니다. status=%s, body=%s",
@@ -145,6 +157,21 @@ public class KakaoOAuthClient {
 			);
 			log.error("카카오 사용자 정보 API 호출 실패. status={}, body={}", ex.getStatusCode(), responseBody, ex);
 			throw new KakaoApiException(reason, ex);
+		} catch (ResourceAccessException ex) {
+			circuitBreaker.recordFailure();
+			log.error("카카오 사용자 정보 API 연결 실패: {}", ex.getMessage(), ex);
+			throw new KakaoApiException("카카오 사용자 정보 API에 연결할 수 없습니다.", ex);
+		}
+	}
+
+	/**
+	 * 4xx는 요청 문제(만료된 코드 등)이므로 카카오가 정상 동작 중인 것으로 보고, 5xx만 장애로 집계합니다.
+	 */
+	private void recordStatus(HttpStatusCodeException ex) {
+		if (ex.getStatusCode().is5xxServerError()) {
+			circuitBreaker.recordFailure();
+		} else {
+			circuitBreaker.recordSuccess();
 		}
 	}
 }
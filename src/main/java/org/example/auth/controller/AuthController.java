@@ -41,23 +41,20 @@ public class AuthController {
 	 * @return 액세스 토큰, 리프레시 토큰, 사용자 프로필을 포함한 응답
 	 */
 	public ResponseEntity<LoginResponse> loginWithKakao(@Valid @RequestBody AuthCodeRequest request) {
-		log.info("POST /api/auth/kakao 호출 - code={} (처음 20자: {})", 
-				request.code(), 
-				request.code() != null && request.code().length() > 20 
-					? request.code().substring(0, 20) + "..." 
-					: request.code());
+		// 인가 코드는 일회용 자격 증명이므로 로그에 남기지 않음
+		log.debug("POST /api/auth/kakao 호출");
 		try {
 			LoginResponse response = authService.loginWithKakao(request.code());
 			log.info("카카오 로그인 성공 - 사용자 ID: {}", response.profile().id());
 			return ResponseEntity.ok(response);
 		} catch (org.example.auth.exception.KakaoApiException e) {
-			log.error("카카오 API 오류 발생 - code={}, message={}", request.code(), e.getMessage(), e);
+			log.error("카카오 API 오류 발생 - message={}", e.getMessage(), e);
 			throw e; // GlobalExceptionHandler에서 처리
 		} catch (IllegalArgumentException e) {
-			log.error("잘못된 요청 파라미터 - code={}, message={}", request.code(), e.getMessage(), e);
+			log.error("잘못된 요청 파라미터 - message={}", e.getMessage(), e);
 			throw e; // GlobalExceptionHandler에서 처리
 		} catch (Exception e) {
-			log.error("카카오 로그인 처리 중 예상치 못한 오류 발생 - code={}, error={}", request.code(), e.getClass().getSimpleName(), e);
+			log.error("카카오 로그인 처리 중 예상치 못한 오류 발생 - error={}", e.getClass().getSimpleName(), e);
 			throw new RuntimeException("카카오 로그인 처리 중 오류가 발생했습니다: " + e.getMessage(), e);
 		}
 	}
@@ -6,6 +6,7 @@ import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
@@ -35,88 +36,70 @@ public class AuthService {
 
 	private final KakaoOAuthClient kakaoOAuthClient;
 	private final UserProfileRepository userProfileRepository;
+	private final KakaoProfileCache kakaoProfileCache;
 
 	/**
 	 * 카카오 인가 코드를 기반으로 로그인 절차를 수행합니다.
 	 *
+	 * <p>카카오 API를 호출하는 동안 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행하며,
+	 * 사용자 저장은 upsert 한 문장의 트랜잭션으로만 수행합니다.</p>
+	 *
 	 * @param code 카카오에서 발급한 인가 코드
 	 * @return 액세스 토큰/리프레시 토큰 및 사용자 프로필 정보를 포함한 응답
 	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public LoginResponse loginWithKakao(String code) {
-		log.info("카카오 로그인 서비스 시작 - code={}", code);
+		// 인가 코드와 토큰은 자격 증명이므로 로그에 남기지 않음
 		KakaoTokenResponse tokenResponse = kakaoOAuthClient.requestToken(code);
-		log.info("카카오 토큰 발급 성공 - accessToken={}, refreshToken={}", tokenResponse.accessToken(), tokenResponse.refreshToken());
+		log.debug("카카오 토큰 발급 성공");
 		KakaoUserResponse userResponse = kakaoOAuthClient.requestUserProfile(tokenResponse.accessToken());
-		log.info("카카오 사용자 정보 조회 성공 - id={}", userResponse.id());
+		log.debug("카카오 사용자 정보 조회 성공 - id={}", userResponse.id());
 
 		KakaoProfile profile = toProfile(userResponse);
 		
 		// UserProfile 저장 또는 업데이트
-		UserProfile userProfile = saveOrUpdateUserProfile(profile);
-		log.info("사용자 프로필 저장/업데이트 완료 - userId={}, kakaoId={}", userProfile.getId(), userProfile.getKakaoId());
+		Long userId = saveOrUpdateUserProfile(profile);
+		log.info("사용자 프로필 저장/업데이트 완료 - userId={}, kakaoId={}", userId, profile.id());
 		
 		TokenPair tokens = issueToken(profile);
 
-		log.info("임시 토큰 발급 완료 - accessToken={}, refreshToken={}", tokens.accessToken(), tokens.refreshToken());
 		// 로그인 응답에 내부 userId와 kakaoId 포함
 		return new LoginResponse(
 				tokens.accessToken(), 
 				tokens.refreshToken(), 
 				profile,
-				userProfile.getId(),      // 백엔드 내부 userId
-				userProfile.getKakaoId()  // 카카오 ID (호환성)
+				userId,       // 백엔드 내부 userId
+				profile.id()  // 카카오 ID (호환성)
 		);
 	}
 	
 	/**
 	 * 카카오 프로필 정보를 기반으로 UserProfile을 저장하거나 업데이트합니다.
-	 * 
+	 *
+	 * <p>조회/저장/검증을 따로 하지 않고 한 번의 upsert 문으로 처리합니다.
+	 * 신규 사용자는 기본 닉네임과 매너온도로 생성되고, 기존 사용자는 값이 있는 항목만 갱신됩니다.
+	 * 직전 로그인 이후 닉네임과 이미지가 바뀌지 않았다면 {@link KakaoProfileCache}의 값을 사용해
+	 * DB 쓰기를 생략합니다.</p>
+	 *
 	 * @param profile 카카오 프로필 정보
-	 * @return 저장/업데이트된 UserProfile
+	 * @return 저장/업데이트된 사용자의 내부 ID (UserProfile.id)
 	 */
-	private UserProfile saveOrUpdateUserProfile(KakaoProfile profile) {
+	private Long saveOrUpdateUserProfile(KakaoProfile profile) {
 		try {
-			log.info("사용자 저장/업데이트 시작 - kakaoId={}, nickname={}", profile.id(), profile.nickname());
-			
-			// 기존 사용자 찾기 (카카오 ID로)
-			UserProfile userProfile = userProfileRepository.findByKakaoId(profile.id());
-			log.debug("기존 사용자 조회 결과 - kakaoId={}, 존재여부={}", profile.id(), userProfile != null);
-			
-			if (userProfile == null) {
-				// 새 사용자 생성
-				log.info("새 사용자 생성 시작 - kakaoId={}, nickname={}", profile.id(), profile.nickname());
-				userProfile = new UserProfile();
-				userProfile.setKakaoId(profile.id());
-				userProfile.setNickname(profile.nickname() != null ? profile.nickname() : "카카오 사용자");
-				userProfile.setProfileImage(profile.profileImageUrl() != null ? profile.profileImageUrl() : profile.thumbnailImageUrl());
-				userProfile.setTemperature(36.5); // 기본 매너온도
-				log.info("새 사용자 엔티티 생성 완료 - kakaoId={}, nickname={}", userProfile.getKakaoId(), userProfile.getNickname());
-			} else {
-				// 기존 사용자 정보 업데이트
-				log.info("기존 사용자 발견 - userId={}, kakaoId={}, nickname={}", 
-						userProfile.getId(), userProfile.getKakaoId(), userProfile.getNickname());
-				userProfile.setNickname(profile.nickname() != null ? profile.nickname() : userProfile.getNickname());
-				if (profile.profileImageUrl() != null || profile.thumbnailImageUrl() != null) {
-					userProfile.setProfileImage(profile.profileImageUrl() != null ? profile.profileImageUrl() : profile.thumbnailImageUrl());
-				}
-				log.info("기존 사용자 정보 업데이트 준비 완료");
+			Optional<Long> cachedUserId = kakaoProfileCache.findUnchangedUserId(profile);
+			if (cachedUserId.isPresent()) {
+				log.debug("프로필 변경 없음, 사용자 저장 생략 - kakaoId={}, userId={}", profile.id(), cachedUserId.get());
+				return cachedUserId.get();
 			}
-			
-			// 사용자 저장
-			log.info("데이터베이스에 사용자 저장 시작 - kakaoId={}", profile.id());
-			UserProfile saved = userProfileRepository.save(userProfile);
-			log.info("데이터베이스에 사용자 저장 완료 - userId={}, kakaoId={}, nickname={}", 
-					saved.getId(), saved.getKakaoId(), saved.getNickname());
-			
-			// 저장 확인
-			UserProfile verify = userProfileRepository.findById(saved.getId()).orElse(null);
-			if (verify == null) {
-				log.error("사용자 저장 후 조회 실패 - userId={}, kakaoId={}", saved.getId(), saved.getKakaoId());
-				throw new RuntimeException("사용자 저장 후 조회에 실패했습니다.");
-			}
-			log.info("사용자 저장 검증 완료 - userId={}, kakaoId={}", verify.getId(), verify.getKakaoId());
-			
-			return saved;
+
+			log.debug("사용자 저장/업데이트 시작 - kakaoId={}", profile.id());
+
+			String profileImage = profile.profileImageUrl() != null ? profile.profileImageUrl() : profile.thumbnailImageUrl();
+			UserProfile saved = userProfileRepository.upsertByKakaoId(profile.id(), profile.nickname(), profileImage);
+			log.debug("데이터베이스에 사용자 저장 완료 - userId={}, kakaoId={}", saved.getId(), saved.getKakaoId());
+
+			kakaoProfileCache.put(profile, saved.getId());
+			return saved.getId();
 		} catch (Exception e) {
 			log.error("사용자 저장/업데이트 중 오류 발생 - kakaoId={}, error={}", profile.id(), e.getMessage(), e);
 			throw new RuntimeException("사용자 저장 중 오류가 발생했습니다: " + e.getMessage(), e);
@@ -0,0 +1,149 @@
+package org.example.auth.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import org.example.auth.dto.KakaoProfile;
+import org.example.config.KakaoProperties;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 최근 로그인한 카카오 사용자의 프로필을 짧은 시간 동안 보관하는 캐시입니다.
+ *
+ * <p>카카오 사용자 ID를 키로 DB에 반영된 닉네임/이미지와 내부 사용자 ID를 저장합니다.
+ * 다른 기기에서 연달아 로그인하는 경우처럼 닉네임과 이미지가 그대로라면
+ * {@link AuthService}가 users 테이블 쓰기를 생략할 수 있도록 내부 사용자 ID를 돌려줍니다.</p>
+ *
+ * <p>최대 크기에 도달하면 가장 오래 사용하지 않은 항목(LRU)을 밀어내므로 로그인이 몰릴 때도 새 사용자가 캐시됩니다.
+ * 로그인 경로에서만 쓰이므로 맵 전체를 하나의 락으로 보호합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class KakaoProfileCache {
+
+	private final KakaoProperties kakaoProperties;
+
+	// 접근 순서 LinkedHashMap (가장 오래 사용하지 않은 항목이 맨 앞), entries로 동기화
+	private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+			return size() > kakaoProperties.getProfileCacheMaxSize();
+		}
+	};
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * 캐시된 프로필과 내용이 같으면 내부 사용자 ID를 반환합니다.
+	 *
+	 * @param profile 카카오에서 방금 조회한 프로필
+	 * @return 프로필이 바뀌지 않았다면 내부 사용자 ID, 아니면 빈 값
+	 */
+	public Optional<Long> findUnchangedUserId(KakaoProfile profile) {
+		if (!kakaoProperties.isProfileCacheEnabled() || profile == null || profile.id() == null) {
+			return Optional.empty();
+		}
+		Entry entry;
+		synchronized (entries) {
+			entry = entries.get(profile.id());
+			if (entry != null && entry.isExpired(System.currentTimeMillis())) {
+				entries.remove(profile.id());
+				entry = null;
+			}
+		}
+		if (entry == null) {
+			misses.increment();
+			return Optional.empty();
+		}
+		if (!entry.matches(profile)) {
+			misses.increment();
+			return Optional.empty();
+		}
+		hits.increment();
+		return Optional.of(entry.userId());
+	}
+
+	/**
+	 * DB에 반영된 프로필을 캐시에 저장합니다.
+	 *
+	 * @param profile 저장된 카카오 프로필
+	 * @param userId  내부 사용자 ID (UserProfile.id)
+	 */
+	public void put(KakaoProfile profile, Long userId) {
+		if (!kakaoProperties.isProfileCacheEnabled() || profile == null || profile.id() == null || userId == null) {
+			return;
+		}
+		long expiresAt = System.currentTimeMillis() + kakaoProperties.getProfileCacheTtlSeconds() * 1000L;
+		Entry entry = new Entry(profile.nickname(), profileImage(profile), userId, expiresAt);
+		synchronized (entries) {
+			// 최대 크기를 넘으면 removeEldestEntry가 가장 오래 사용하지 않은 항목을 제거
+			entries.put(profile.id(), entry);
+		}
+	}
+
+	/**
+	 * 내부 사용자 ID에 해당하는 캐시 항목을 제거합니다.
+	 * 사용자 정보가 로그인 외의 경로로 수정되거나 삭제될 때 호출합니다.
+	 *
+	 * @param userId 내부 사용자 ID (UserProfile.id)
+	 */
+	public void evictUser(Long userId) {
+		if (userId == null) {
+			return;
+		}
+		synchronized (entries) {
+			entries.values().removeIf(entry -> userId.equals(entry.userId()));
+		}
+	}
+
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * 누적 적중률(0~1). 조회가 없었다면 0을 반환합니다.
+	 */
+	public double getHitRatio() {
+		long hitCount = hits.sum();
+		long total = hitCount + misses.sum();
+		return total == 0 ? 0 : (double) hitCount / total;
+	}
+
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	/**
+	 * 로그인 시 DB에 반영되는 대표 이미지 (원본이 없으면 썸네일)
+	 */
+	private static String profileImage(KakaoProfile profile) {
+		return profile.profileImageUrl() != null ? profile.profileImageUrl() : profile.thumbnailImageUrl();
+	}
+
+	/**
+	 * DB에 반영된 항목(닉네임, 대표 이미지)만 보관합니다.
+	 */
+	private record Entry(String nickname, String profileImage, Long userId, long expiresAtMillis) {
+
+		boolean isExpired(long now) {
+			return now >= expiresAtMillis;
+		}
+
+		// 해시가 아닌 값 비교 (해시 충돌로 실제 변경을 놓치지 않도록)
+		boolean matches(KakaoProfile profile) {
+			return Objects.equals(nickname, profile.nickname()) && Objects.equals(profileImage, profileImage(profile));
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package org.example.cache;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 엔티티의 수정 시각({@code BaseEntity.updatedAt})으로 약한 ETag와 Last-Modified 값을 만듭니다.
+ *
+ * <p>컨트롤러는 먼저 id와 수정 시각만 조회해 {@link #checkNotModified}로 비교하고,
+ * 변경이 없으면 엔티티 그래프를 읽거나 직렬화하지 않고 304를 반환합니다.
+ * {@code WebRequest.checkNotModified}가 ETag/Last-Modified 헤더를 응답에 직접 설정하므로
+ * 200 응답에서는 {@link #revalidate()}로 Cache-Control만 추가합니다.</p>
+ */
+public final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    /**
+     * {@code W/"<type>-<id>-<가장 늦은 수정 시각(ms)>"} 형식의 약한 ETag.
+     * 연관 엔티티(판매자, 카테고리 등)의 수정 시각을 함께 넘기면 그중 하나만 바뀌어도 값이 달라집니다.
+     */
+    public static String weak(String type, Long id, LocalDateTime... updatedAts) {
+        return "W/\"" + type + "-" + id + "-" + latestMillis(updatedAts) + "\"";
+    }
+
+    /**
+     * {@code W/"<type>-<id>-<가장 늦은 수정 시각(ms)>-<revision>"} 형식의 약한 ETag.
+     * 수정 시각을 바꾸지 않고 따로 갱신되는 값(예: 조회수)이 응답에 포함될 때 그 값을 revision으로 넘깁니다.
+     */
+    public static String weak(String type, Long id, long revision, LocalDateTime... updatedAts) {
+        return "W/\"" + type + "-" + id + "-" + latestMillis(updatedAts) + "-" + revision + "\"";
+    }
+
+    /**
+     * 내용 해시로 만든 약한 ETag (목록 응답용).
+     */
+    public static String weak(String hash) {
+        return "W/\"" + hash + "\"";
+    }
+
+    /**
+     * 가장 늦은 수정 시각(epoch ms). 값이 하나도 없으면 -1 (Last-Modified 미사용).
+     */
+    public static long latestMillis(LocalDateTime... updatedAts) {
+        long latest = -1;
+        for (LocalDateTime updatedAt : updatedAts) {
+            if (updatedAt != null) {
+                latest = Math.max(latest, updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * If-None-Match / If-Modified-Since를 비교합니다. true면 {@link #notModified()}를 반환하면 됩니다.
+     */
+    public static boolean checkNotModified(WebRequest request, String etag, long lastModifiedMillis) {
+        return lastModifiedMillis > 0
+                ? request.checkNotModified(etag, lastModifiedMillis)
+                : request.checkNotModified(etag);
+    }
+
+    public static <T> ResponseEntity<T> notModified() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
+
+    /**
+     * 클라이언트가 저장은 하되 매번 ETag로 재검증하도록 합니다.
+     */
+    public static ResponseEntity.BodyBuilder revalidate() {
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache());
+    }
+}
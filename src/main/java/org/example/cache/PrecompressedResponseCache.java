@@ -0,0 +1,201 @@
+package org.example.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 자주 조회되고 모든 사용자에게 같은 목록 응답을 JSON 바이트와 gzip 바이트로 미리 만들어 보관합니다.
+ *
+ * <p>캐시가 살아 있는 동안은 요청마다 엔티티 조회, Jackson 직렬화, 압축을 모두 건너뛰고
+ * 저장된 바이트를 그대로 내려보냅니다. 클라이언트가 gzip을 받지 않으면 압축 전 JSON을 보냅니다.
+ * 서버 압축(server.compression)은 Content-Encoding이 이미 있는 응답을 다시 압축하지 않습니다.</p>
+ *
+ * <p>데이터가 바뀌면 {@link #invalidate(String)}로 지우고, 다른 인스턴스의 변경은 TTL로 반영됩니다.
+ * ETag는 JSON 내용의 해시라서 인스턴스가 달라도 내용이 같으면 같은 값이 되고,
+ * If-None-Match가 일치하면 본문 없이 304를 반환합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PrecompressedResponseCache {
+
+    /** GET /api/categories */
+    public static final String CATEGORY_LIST = "categories";
+    /** GET /api/products */
+    public static final String PRODUCT_LIST = "products";
+
+    private final ObjectMapper objectMapper;
+    private final ResponseCacheProperties properties;
+
+    private final ConcurrentMap<String, CachedBody> entries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, List<Runnable>> invalidationListeners = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * 캐시된 본문. {@code etag}는 JSON 바이트의 MD5로 만든 약한 ETag입니다.
+     */
+    public record CachedBody(byte[] json, byte[] gzip, String etag, long expiresAtMillis) {
+    }
+
+    /**
+     * 캐시된 본문을 반환하고, 없거나 만료되었으면 {@code loader}의 결과를 직렬화/압축해 저장합니다.
+     */
+    public CachedBody get(String key, Supplier<?> loader) {
+        long now = System.currentTimeMillis();
+        CachedBody cached = properties.isEnabled() ? entries.get(key) : null;
+        if (cached != null && now < cached.expiresAtMillis()) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        byte[] json = serialize(loader.get());
+        CachedBody body = new CachedBody(json, gzip(json), EntityTags.weak(DigestUtils.md5DigestAsHex(json)),
+                now + properties.getTtlSeconds() * 1000L);
+        if (properties.isEnabled()) {
+            entries.put(key, body);
+        }
+        return body;
+    }
+
+    /**
+     * 캐시된 본문으로 응답을 만듭니다. ETag가 일치하면 304, 클라이언트가 gzip을 받으면({@link #acceptsGzip}) 압축 바이트를 그대로 보냅니다.
+     */
+    public ResponseEntity<byte[]> toResponse(CachedBody body, WebRequest request) {
+        if (request.checkNotModified(body.etag())) {
+            return EntityTags.notModified();
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+            return EntityTags.revalidate().headers(headers).body(body.gzip());
+        }
+        return EntityTags.revalidate().headers(headers).body(body.json());
+    }
+
+    /**
+     * Accept-Encoding이 gzip을 허용하는지 확인합니다. 쉼표로 나눈 코딩마다 q 값을 읽어, gzip(x-gzip)이 있으면 그 q 값,
+     * 없으면 {@code *}의 q 값이 0보다 클 때만 허용합니다. (예: {@code gzip;q=0}은 거부, {@code x-gzip-foo}는 gzip이 아님)
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double anyQuality = null;
+        for (String part : acceptEncoding.split(",")) {
+            String[] params = part.split(";");
+            String coding = params[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1;
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+                if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        quality = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+            } else if (coding.equals("*")) {
+                anyQuality = quality;
+            }
+        }
+        double quality = gzipQuality != null ? gzipQuality : anyQuality != null ? anyQuality : 0;
+        return quality > 0;
+    }
+
+    /**
+     * 캐시 항목을 지웁니다. 트랜잭션 안에서 호출되면 커밋 후에 지워,
+     * 커밋 전 데이터를 다른 요청이 다시 캐시하는 일을 막습니다.
+     */
+    public void invalidate(String key) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(key);
+                }
+            });
+        } else {
+            evict(key);
+        }
+    }
+
+    /**
+     * {@code key}가 무효화될 때 함께 비워야 하는 다른 캐시(예: 상품 탐색 패싯)를 등록합니다.
+     */
+    public void onInvalidate(String key, Runnable listener) {
+        invalidationListeners.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    private void evict(String key) {
+        entries.remove(key);
+        invalidationListeners.getOrDefault(key, List.of()).forEach(Runnable::run);
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 누적 적중률(0~1). 조회가 없었다면 0을 반환합니다.
+     */
+    public double getHitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("응답 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 미리 압축한 목록 응답 캐시 설정입니다. (ssak3.response-cache.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ssak3.response-cache")
+public class ResponseCacheProperties {
+
+    /**
+     * 캐시 사용 여부. 끄면 매 요청 직렬화합니다(압축은 서버 설정에 따름).
+     */
+    @Value("${ssak3.response-cache.enabled:true}")
+    private boolean enabled = true;
+
+    /**
+     * 캐시 유지 시간(초). 쓰기 시 즉시 무효화되므로 다른 서버 인스턴스와의 최대 지연 시간입니다.
+     */
+    @Value("${ssak3.response-cache.ttl-seconds:30}")
+    private long ttlSeconds = 30;
+}
@@ -0,0 +1,46 @@
+package org.example.chat;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 채팅방 최근 메시지 버퍼 설정입니다. (ssak3.chat-buffer.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ssak3.chat-buffer")
+public class ChatBufferProperties {
+
+    /**
+     * 버퍼 사용 여부. 끄면 모든 메시지 조회가 DB로 갑니다.
+     */
+    @Value("${ssak3.chat-buffer.enabled:true}")
+    private boolean enabled = true;
+
+    /**
+     * 채팅방마다 메모리에 보관할 최근 메시지 수
+     */
+    @Value("${ssak3.chat-buffer.capacity:50}")
+    private int capacity = 50;
+
+    /**
+     * 이 시간(분) 동안 조회/전송이 없던 채팅방의 버퍼는 제거합니다.
+     */
+    @Value("${ssak3.chat-buffer.idle-minutes:10}")
+    private int idleMinutes = 10;
+
+    /**
+     * 버퍼를 유지할 최대 채팅방 수. 넘으면 오래 사용하지 않은 채팅방부터 제거합니다.
+     */
+    @Value("${ssak3.chat-buffer.max-rooms:10000}")
+    private int maxRooms = 10000;
+
+    /**
+     * 버퍼를 DB에서 다시 읽기까지의 최대 시간(초). 0이면 제한 없음.
+     * 여러 인스턴스로 운영하면 다른 인스턴스에서 보낸 메시지가 이 시간 안에 반영되도록 설정합니다.
+     */
+    @Value("${ssak3.chat-buffer.max-age-seconds:0}")
+    private long maxAgeSeconds = 0;
+}
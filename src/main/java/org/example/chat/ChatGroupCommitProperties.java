@@ -0,0 +1,45 @@
+package org.example.chat;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 메시지 그룹 커밋 설정입니다. (ssak3.chat-group-commit.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ssak3.chat-group-commit")
+public class ChatGroupCommitProperties {
+
+    /**
+     * 그룹 커밋 사용 여부. 끄면 메시지마다 트랜잭션 하나로 저장합니다.
+     */
+    @Value("${ssak3.chat-group-commit.enabled:false}")
+    private boolean enabled = false;
+
+    /**
+     * 한 트랜잭션에 저장할 최대 메시지 수
+     */
+    @Value("${ssak3.chat-group-commit.max-batch-size:100}")
+    private int maxBatchSize = 100;
+
+    /**
+     * 첫 메시지가 들어온 뒤 같은 배치로 묶기 위해 기다리는 최대 시간(ms)
+     */
+    @Value("${ssak3.chat-group-commit.max-wait-ms:5}")
+    private long maxWaitMs = 5;
+
+    /**
+     * 저장 대기 큐 크기. 가득 차면 요청 스레드에서 바로 저장합니다.
+     */
+    @Value("${ssak3.chat-group-commit.queue-capacity:10000}")
+    private int queueCapacity = 10000;
+
+    /**
+     * 요청 스레드가 저장 완료를 기다리는 최대 시간(ms)
+     */
+    @Value("${ssak3.chat-group-commit.timeout-ms:5000}")
+    private long timeoutMs = 5000;
+}
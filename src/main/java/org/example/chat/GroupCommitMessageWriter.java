@@ -0,0 +1,316 @@
+package org.example.chat;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.entity.ChatRoom;
+import org.example.entity.LastMessageSnapshot;
+import org.example.entity.Message;
+import org.example.entity.UserProfile;
+import org.example.monitoring.ChatActivityTracker;
+import org.example.repository.ChatRoomReadCursors;
+import org.example.repository.ChatRoomRepository;
+import org.example.repository.MessageRepository;
+import org.example.repository.UserProfileRepository;
+import org.example.service.ChatService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 여러 요청의 메시지를 모아 한 트랜잭션으로 저장하는 그룹 커밋 writer입니다.
+ * ({@code ssak3.chat-group-commit.enabled=true}일 때만 사용)
+ *
+ * <ul>
+ *     <li>요청 스레드: 채팅방/발신자를 검증한 뒤 큐에 넣고, 커밋이 끝날 때까지 기다렸다가 저장된 메시지를 반환</li>
+ *     <li>writer 스레드: 첫 메시지가 들어오면 {@code max-wait-ms} 동안 더 모아 최대 {@code max-batch-size}개를
+ *     한 트랜잭션으로 저장 (채팅방마다 순번 발급 1회, 읽음 커서/마지막 메시지 요약 갱신)</li>
+ * </ul>
+ *
+ * <p>요청은 커밋된 뒤에만 성공 응답을 받으므로 메시지마다 커밋할 때와 내구성은 같습니다.
+ * 배치 저장이 실패하면 해당 배치의 메시지를 하나씩 {@link ChatService#sendMessage}로 다시 저장해
+ * 한 메시지의 오류가 다른 요청에 영향을 주지 않도록 합니다. 큐가 가득 차면 요청 스레드에서 바로 저장합니다.</p>
+ *
+ * <p>대기 시간이 {@code timeout-ms}를 넘으면 아직 큐에 있는 메시지는 큐에서 빼고 오류를 반환하므로,
+ * 오류 응답을 받은 메시지가 나중에 저장되어 클라이언트 재전송과 중복되는 일은 없습니다.
+ * 이미 writer가 가져가 저장 중인 메시지는 취소할 수 없으므로 그 결과(성공 또는 실패)가 나올 때까지 기다립니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GroupCommitMessageWriter {
+
+    private static final long POLL_INTERVAL_MS = 100;
+
+    private final ChatGroupCommitProperties properties;
+    private final ChatRoomRepository chatRoomRepository;
+    private final MessageRepository messageRepository;
+    private final UserProfileRepository userProfileRepository;
+    private final ChatService chatService;
+    private final RecentMessageBuffer recentMessageBuffer;
+    private final ChatActivityTracker chatActivityTracker;
+    private final PlatformTransactionManager transactionManager;
+
+    private final LongAdder batchCount = new LongAdder();
+    private final LongAdder messageCount = new LongAdder();
+    private final LongAdder timedOutCount = new LongAdder();
+
+    private BlockingQueue<PendingMessage> queue;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    private record PendingMessage(Long chatRoomId, Long senderId, String content, CompletableFuture<Message> result) {
+    }
+
+    private record Written(PendingMessage pending, Message message) {
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        running = true;
+        writerThread = new Thread(this::runWriter, "chat-group-commit");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("메시지 그룹 커밋 사용: maxBatchSize={}, maxWaitMs={}", properties.getMaxBatchSize(), properties.getMaxWaitMs());
+    }
+
+    /**
+     * 큐에 남은 메시지를 모두 저장한 뒤 writer 스레드를 종료합니다.
+     * (JDBC 작업 중 인터럽트되지 않도록 interrupt 대신 플래그로 멈춤)
+     */
+    @PreDestroy
+    void stop() {
+        if (writerThread == null) {
+            return;
+        }
+        running = false;
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isEnabled() {
+        return queue != null;
+    }
+
+    /**
+     * 메시지를 검증하고 그룹 커밋으로 저장합니다. 커밋이 끝나면 저장된 메시지를 반환합니다.
+     *
+     * @throws IllegalArgumentException 채팅방이 없거나 발신자가 참여자가 아닌 경우
+     * @throws IllegalStateException    {@code timeout-ms} 안에 writer가 메시지를 가져가지 않은 경우 (메시지는 저장되지 않음)
+     */
+    public Message send(Long chatRoomId, Long senderId, String content) {
+        ChatRoomReadCursors room = chatRoomRepository.findReadCursorsById(chatRoomId)
+                .orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다."));
+        Long senderInternalId = resolveParticipant(room, senderId);
+        chatActivityTracker.touch(chatRoomId);
+
+        PendingMessage pending = new PendingMessage(chatRoomId, senderInternalId, content, new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            log.debug("그룹 커밋 큐를 사용할 수 없어 바로 저장합니다: chatRoomId={}", chatRoomId);
+            return chatService.sendMessage(chatRoomId, senderInternalId, content);
+        }
+        try {
+            return await(pending, chatRoomId);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("메시지 저장에 실패했습니다.", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("메시지 저장을 기다리는 중 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * 저장 결과를 기다립니다. {@code timeout-ms}가 지나면 큐에서 메시지를 빼서 취소하고,
+     * 이미 writer가 가져간 메시지라면 커밋 또는 실패가 확정될 때까지 더 기다립니다.
+     */
+    private Message await(PendingMessage pending, Long chatRoomId) throws ExecutionException, InterruptedException {
+        try {
+            return pending.result().get(properties.getTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // writer의 poll/drainTo와 같은 큐 락으로 처리되므로, 빼는 데 성공하면 이 메시지는 저장되지 않음
+            if (queue.remove(pending)) {
+                timedOutCount.increment();
+                throw new IllegalStateException("메시지 저장이 지연되고 있습니다. 다시 시도해주세요. chatRoomId: " + chatRoomId);
+            }
+            log.debug("그룹 커밋 대기 시간 초과, 저장 중인 배치의 결과를 기다립니다: chatRoomId={}", chatRoomId);
+            return pending.result().get();
+        }
+    }
+
+    public int getQueueSize() {
+        return queue != null ? queue.size() : 0;
+    }
+
+    public long getBatchCount() {
+        return batchCount.sum();
+    }
+
+    public long getMessageCount() {
+        return messageCount.sum();
+    }
+
+    /**
+     * 대기 시간을 넘어 저장하지 않고 취소한 메시지 수
+     */
+    public long getTimedOutCount() {
+        return timedOutCount.sum();
+    }
+
+    /**
+     * 발신자를 채팅방 참여자의 UserProfile id로 바꿉니다. 참여자 id가 아니면 id/kakaoId 순으로 조회합니다.
+     * (ChatService.sendMessage와 같은 규칙)
+     */
+    private Long resolveParticipant(ChatRoomReadCursors room, Long senderId) {
+        if (senderId.equals(room.getBuyerId()) || senderId.equals(room.getSellerId())) {
+            return senderId;
+        }
+        UserProfile sender = userProfileRepository.findById(senderId).orElse(null);
+        if (sender == null) {
+            sender = userProfileRepository.findByKakaoId(senderId);
+        }
+        if (sender == null) {
+            throw new IllegalArgumentException("발신자를 찾을 수 없습니다. senderId: " + senderId);
+        }
+        if (!sender.getId().equals(room.getBuyerId()) && !sender.getId().equals(room.getSellerId())) {
+            throw new IllegalArgumentException("채팅방에 참여하지 않은 사용자입니다. senderId: " + senderId);
+        }
+        return sender.getId();
+    }
+
+    private void runWriter() {
+        int maxBatchSize = Math.max(1, properties.getMaxBatchSize());
+        List<PendingMessage> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingMessage first = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getMaxWaitMs());
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingMessage next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        queue.drainTo(batch, maxBatchSize - batch.size());
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingMessage> batch) {
+        List<Written> written;
+        try {
+            written = new TransactionTemplate(transactionManager).execute(status -> writeBatch(batch));
+        } catch (Exception e) {
+            log.warn("메시지 그룹 커밋 실패, 메시지별로 다시 저장합니다: {}건, error={}", batch.size(), e.getMessage());
+            for (PendingMessage pending : batch) {
+                if (pending.result().isDone()) {
+                    continue;
+                }
+                try {
+                    pending.result().complete(chatService.sendMessage(pending.chatRoomId(), pending.senderId(), pending.content()));
+                } catch (Exception ex) {
+                    pending.result().completeExceptionally(ex);
+                }
+            }
+            return;
+        }
+
+        batchCount.increment();
+        messageCount.add(written.size());
+        // 커밋된 뒤에 버퍼에 반영하고 요청 스레드를 깨움
+        for (Written item : written) {
+            recentMessageBuffer.append(item.pending().chatRoomId(), item.message());
+            item.pending().result().complete(item.message());
+        }
+    }
+
+    /**
+     * 배치를 채팅방별로 저장합니다. 채팅방 id 순으로 행을 잠가 다른 배치/단건 전송과 교착되지 않도록 합니다.
+     */
+    private List<Written> writeBatch(List<PendingMessage> batch) {
+        Map<Long, List<PendingMessage>> byRoom = new TreeMap<>();
+        for (PendingMessage pending : batch) {
+            byRoom.computeIfAbsent(pending.chatRoomId(), id -> new ArrayList<>()).add(pending);
+        }
+
+        Map<Long, UserProfile> senders = new HashMap<>();
+        List<Written> written = new ArrayList<>(batch.size());
+        for (Map.Entry<Long, List<PendingMessage>> entry : byRoom.entrySet()) {
+            Long chatRoomId = entry.getKey();
+            List<PendingMessage> pendings = entry.getValue();
+
+            // 채팅방 순번을 메시지 수만큼 한 번에 발급 (검증 이후 삭제된 채팅방은 해당 요청만 실패)
+            if (chatRoomRepository.addMessageSeq(chatRoomId, pendings.size()) == 0) {
+                pendings.forEach(pending -> pending.result().completeExceptionally(
+                        new IllegalArgumentException("채팅방을 찾을 수 없습니다.")));
+                continue;
+            }
+            long seq = chatRoomRepository.findLastMessageSeqById(chatRoomId) - pendings.size();
+            ChatRoom chatRoom = chatRoomRepository.getReferenceById(chatRoomId);
+
+            List<Message> messages = new ArrayList<>(pendings.size());
+            Map<Long, Long> lastSeqBySender = new HashMap<>();
+            for (PendingMessage pending : pendings) {
+                UserProfile sender = senders.computeIfAbsent(pending.senderId(), id -> userProfileRepository.findById(id)
+                        .orElseThrow(() -> new IllegalArgumentException("발신자를 찾을 수 없습니다. senderId: " + id)));
+                seq++;
+                messages.add(Message.builder()
+                        .chatRoom(chatRoom)
+                        .sender(sender)
+                        .seq(seq)
+                        .content(pending.content())
+                        .isRead(false)
+                        .build());
+                lastSeqBySender.put(pending.senderId(), seq);
+            }
+            List<Message> saved = messageRepository.saveAll(messages);
+
+            // 보낸 사람의 읽음 커서와 마지막 메시지 요약 갱신
+            lastSeqBySender.forEach((senderId, lastSeq) -> chatRoomRepository.advanceReadCursor(chatRoomId, senderId, lastSeq));
+            Message last = saved.get(saved.size() - 1);
+            chatRoomRepository.updateLastMessage(chatRoomId, last.getId(), LastMessageSnapshot.preview(last.getContent()),
+                    last.getSenderId(), last.getCreatedAt());
+
+            for (int i = 0; i < saved.size(); i++) {
+                written.add(new Written(pendings.get(i), saved.get(i)));
+            }
+        }
+        return written;
+    }
+}
@@ -0,0 +1,335 @@
+package org.example.chat;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.entity.ChatRoom;
+import org.example.entity.Message;
+import org.example.entity.UserProfile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 오래된 메시지를 월 단위로 채팅방별 압축 청크(message_archives)로 옮겨 보관합니다.
+ *
+ * <ul>
+ *     <li>보관: 한 달 전체가 {@code archive-after-days}일보다 오래된 월의 메시지를 채팅방마다 id 순으로
+ *     {@code archive-chunk-size}개씩 묶어 gzip 청크로 저장. PostgreSQL은 그 월 파티션을 떼어 내 삭제하고
+ *     ({@link MessagePartitionMaintainer#dropPartition}), 파티션이 없는 DB(H2)는 보관한 행만 삭제</li>
+ *     <li>조회: messages에서 부족한 이전 기록은 {@link #loadBefore}로 필요한 청크만 최신 청크부터 풀어 채움 (ChatService)</li>
+ *     <li>청크는 (채팅방, 첫 메시지 id)로 찾으며, 새로 보관할 때 기존 청크를 다시 풀거나 쓰지 않음</li>
+ * </ul>
+ *
+ * <p>월 하나는 한 트랜잭션으로 보관합니다. 보관하는 동안 파티션에는 쓰기 잠금을 걸어, 보관 후 떼어 낸 파티션에
+ * 보관되지 않은 행이 남지 않도록 합니다. chat_rooms.archived_through_seq에는 보관한 마지막 순번을 기록합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessageArchive {
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final String SELECT_OLDEST_MESSAGE = "SELECT MIN(created_at) FROM messages";
+    private static final String SELECT_CHUNK_BEFORE =
+            "SELECT first_id, payload FROM message_archives WHERE chat_room_id = ? AND first_id < ? "
+                    + "ORDER BY first_id DESC LIMIT 1";
+    private static final String INSERT_CHUNK =
+            "INSERT INTO message_archives (chat_room_id, first_id, last_id, last_seq, message_count, payload, archived_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_ARCHIVED_SEQ =
+            "UPDATE chat_rooms SET archived_through_seq = GREATEST(archived_through_seq, ?) WHERE id = ?";
+    private static final String DELETE_ARCHIVE = "DELETE FROM message_archives WHERE chat_room_id = ?";
+
+    private final MessageStorageProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final RecentMessageBuffer recentMessageBuffer;
+    private final MessageSearchIndex messageSearchIndex;
+    private final MessagePartitionMaintainer partitionMaintainer;
+
+    /**
+     * 보관된 메시지 한 건 (압축 청크의 한 항목)
+     */
+    record ArchivedMessage(long id, long seq, long senderId, String content, LocalDateTime createdAt) {
+    }
+
+    /**
+     * 보관할 메시지를 읽을 곳. 월 파티션이면 그 테이블 전체(from/to 없음), 아니면 messages의 created_at 범위입니다.
+     */
+    private record Source(String table, LocalDateTime from, LocalDateTime to) {
+
+        String where() {
+            return from == null ? "" : " AND created_at >= ? AND created_at < ?";
+        }
+
+        Object[] args(Object... leading) {
+            if (from == null) {
+                return leading;
+            }
+            Object[] args = Arrays.copyOf(leading, leading.length + 2);
+            args[leading.length] = Timestamp.valueOf(from);
+            args[leading.length + 1] = Timestamp.valueOf(to);
+            return args;
+        }
+    }
+
+    /**
+     * 채팅방의 보관된 메시지 중 id가 beforeId보다 작은 최신 count개를 오래된 순으로 복원합니다.
+     */
+    public List<Message> loadBefore(ChatRoom chatRoom, long beforeId, int count) {
+        List<Message> messages = new ArrayList<>(count);
+        if (count > 0) {
+            scanBefore(chatRoom, beforeId, message -> {
+                messages.add(message);
+                return messages.size() < count;
+            });
+        }
+        Collections.reverse(messages);
+        return messages;
+    }
+
+    /**
+     * 채팅방의 보관된 메시지 전체를 오래된 순으로 복원합니다. 보관된 메시지가 없으면 빈 목록입니다.
+     */
+    public List<Message> loadAll(ChatRoom chatRoom) {
+        List<Message> messages = new ArrayList<>();
+        scanBefore(chatRoom, Long.MAX_VALUE, messages::add);
+        Collections.reverse(messages);
+        return messages;
+    }
+
+    /**
+     * 보관된 메시지 중 id가 beforeId보다 작은 메시지를 최신순으로 넘깁니다. visitor가 false를 반환하면 멈추며,
+     * 청크는 필요할 때 하나씩 읽어 풉니다. 발신자는 채팅방의 구매자/판매자로 채웁니다.
+     */
+    public void scanBefore(ChatRoom chatRoom, long beforeId, Predicate<Message> visitor) {
+        if (chatRoom.getArchivedThroughSeq() <= 0) {
+            return;
+        }
+        long cursor = beforeId;
+        while (true) {
+            List<Object[]> chunk = jdbcTemplate.query(SELECT_CHUNK_BEFORE,
+                    (rs, rowNum) -> new Object[]{rs.getLong("first_id"), rs.getBytes("payload")}, chatRoom.getId(), cursor);
+            if (chunk.isEmpty()) {
+                return;
+            }
+            List<ArchivedMessage> archived = decode((byte[]) chunk.get(0)[1]);
+            for (int i = archived.size() - 1; i >= 0; i--) {
+                ArchivedMessage item = archived.get(i);
+                if (item.id() < beforeId && !visitor.test(restore(chatRoom, item))) {
+                    return;
+                }
+            }
+            cursor = (Long) chunk.get(0)[0];
+        }
+    }
+
+    /**
+     * 채팅방의 보관 데이터를 삭제합니다. (채팅방 삭제 시, 호출한 트랜잭션 안에서 실행)
+     */
+    public void delete(Long chatRoomId) {
+        jdbcTemplate.update(DELETE_ARCHIVE, chatRoomId);
+    }
+
+    /**
+     * 보관 기준보다 오래된 월을 오래된 순으로 찾아 월마다 별도 트랜잭션으로 보관합니다.
+     */
+    @Scheduled(initialDelayString = "${ssak3.message-storage.archive-interval-ms:3600000}",
+            fixedDelayString = "${ssak3.message-storage.archive-interval-ms:3600000}")
+    public void archiveOldMessages() {
+        if (!properties.isArchiveEnabled()) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(properties.getArchiveAfterDays());
+        boolean partitioned = partitionMaintainer.isPartitioned();
+        for (LocalDate month : archivableMonths(cutoff, partitioned)) {
+            try {
+                Set<Long> rooms = new TransactionTemplate(transactionManager).execute(status -> archiveMonth(month, partitioned));
+                if (rooms != null) {
+                    rooms.forEach(recentMessageBuffer::invalidate);
+                }
+            } catch (Exception e) {
+                // 채팅방마다 청크가 id 순으로 쌓이도록 이후 월은 다음 주기에 이어서 보관
+                log.warn("메시지 보관 실패: month={}, error={}", month, e.getMessage());
+                return;
+            }
+        }
+    }
+
+    // 한 달 전체가 cutoff 이전인 월 (파티션 테이블이면 남아 있는 월 파티션, 아니면 가장 오래된 메시지의 월부터)
+    private List<LocalDate> archivableMonths(LocalDateTime cutoff, boolean partitioned) {
+        List<LocalDate> months = new ArrayList<>();
+        if (partitioned) {
+            for (LocalDate month : partitionMaintainer.monthlyPartitions()) {
+                if (!month.plusMonths(1).atStartOfDay().isAfter(cutoff)) {
+                    months.add(month);
+                }
+            }
+            return months;
+        }
+        Timestamp oldest = jdbcTemplate.queryForObject(SELECT_OLDEST_MESSAGE, Timestamp.class);
+        if (oldest == null) {
+            return months;
+        }
+        for (LocalDate month = oldest.toLocalDateTime().toLocalDate().withDayOfMonth(1);
+             !month.plusMonths(1).atStartOfDay().isAfter(cutoff); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        return months;
+    }
+
+    // 보관한 채팅방 id 목록
+    private Set<Long> archiveMonth(LocalDate month, boolean partitioned) {
+        Source source = partitioned
+                ? new Source(MessagePartitionMaintainer.partitionName(month), null, null)
+                : new Source("messages", month.atStartOfDay(), month.plusMonths(1).atStartOfDay());
+        if (partitioned) {
+            partitionMaintainer.lockPartition(month);
+        }
+
+        List<Long> roomIds = jdbcTemplate.queryForList(
+                "SELECT DISTINCT chat_room_id FROM " + source.table() + " WHERE 1 = 1" + source.where(),
+                Long.class, source.args());
+        Set<Long> archivedRooms = new HashSet<>();
+        long archivedMessages = 0;
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        for (Long roomId : roomIds) {
+            long lastId = 0;
+            while (true) {
+                List<ArchivedMessage> chunk = jdbcTemplate.query(
+                        "SELECT id, seq, sender_id, content, created_at FROM " + source.table()
+                                + " WHERE chat_room_id = ? AND id > ?" + source.where() + " ORDER BY id LIMIT ?",
+                        (rs, rowNum) -> new ArchivedMessage(rs.getLong("id"), rs.getLong("seq"), rs.getLong("sender_id"),
+                                rs.getString("content"), rs.getTimestamp("created_at").toLocalDateTime()),
+                        chunkArgs(source, roomId, lastId));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                writeChunk(roomId, chunk, source, partitioned, now);
+                archivedMessages += chunk.size();
+                lastId = chunk.get(chunk.size() - 1).id();
+                if (chunk.size() < properties.getArchiveChunkSize()) {
+                    break;
+                }
+            }
+            archivedRooms.add(roomId);
+        }
+
+        if (partitioned) {
+            partitionMaintainer.dropPartition(month);
+        }
+        if (partitioned || archivedMessages > 0) {
+            log.info("메시지 보관: month={}, {}개 채팅방, {}건{}", month, archivedRooms.size(), archivedMessages,
+                    partitioned ? ", 파티션 삭제" : "");
+        }
+        return archivedRooms;
+    }
+
+    private Object[] chunkArgs(Source source, Long roomId, long lastId) {
+        Object[] args = source.args(roomId, lastId);
+        Object[] withLimit = Arrays.copyOf(args, args.length + 1);
+        withLimit[args.length] = properties.getArchiveChunkSize();
+        return withLimit;
+    }
+
+    private void writeChunk(Long roomId, List<ArchivedMessage> chunk, Source source, boolean partitioned, Timestamp now) {
+        ArchivedMessage first = chunk.get(0);
+        ArchivedMessage last = chunk.get(chunk.size() - 1);
+        long lastSeq = chunk.stream().mapToLong(ArchivedMessage::seq).max().orElse(last.seq());
+        jdbcTemplate.update(INSERT_CHUNK, roomId, first.id(), last.id(), lastSeq, chunk.size(), encode(chunk), now);
+        jdbcTemplate.update(UPDATE_ARCHIVED_SEQ, lastSeq, roomId);
+        // 보관된 메시지는 검색 시 보관 데이터에서 직접 확인하므로 색인에서 제거
+        messageSearchIndex.deleteBetween(roomId, first.id(), last.id());
+        if (!partitioned) {
+            // 파티션이 없으면 보관한 행만 삭제 (파티션은 월 전체를 보관한 뒤 통째로 삭제)
+            jdbcTemplate.update("DELETE FROM messages WHERE chat_room_id = ? AND id BETWEEN ? AND ?" + source.where(),
+                    source.args(roomId, first.id(), last.id()));
+        }
+    }
+
+    private static Message restore(ChatRoom chatRoom, ArchivedMessage item) {
+        UserProfile sender = Long.valueOf(item.senderId()).equals(chatRoom.getBuyerId()) ? chatRoom.getBuyer()
+                : Long.valueOf(item.senderId()).equals(chatRoom.getSellerId()) ? chatRoom.getSeller() : null;
+        return Message.restored(item.id(), chatRoom, sender, item.seq(), item.content(), item.createdAt());
+    }
+
+    /**
+     * 형식: gzip(버전 1바이트, 건수 int, [id, seq, senderId long, 작성 시각(UTC 기준 epoch 마이크로초) long,
+     * 내용 길이 int + UTF-8 바이트]...)
+     */
+    static byte[] encode(List<ArchivedMessage> messages) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes))) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeInt(messages.size());
+            for (ArchivedMessage message : messages) {
+                out.writeLong(message.id());
+                out.writeLong(message.seq());
+                out.writeLong(message.senderId());
+                out.writeLong(toEpochMicros(message.createdAt()));
+                byte[] content = message.content().getBytes(StandardCharsets.UTF_8);
+                out.writeInt(content.length);
+                out.write(content);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static List<ArchivedMessage> decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(payload)))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalStateException("지원하지 않는 메시지 보관 형식입니다: " + version);
+            }
+            int count = in.readInt();
+            List<ArchivedMessage> messages = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                long id = in.readLong();
+                long seq = in.readLong();
+                long senderId = in.readLong();
+                LocalDateTime createdAt = fromEpochMicros(in.readLong());
+                byte[] content = new byte[in.readInt()];
+                in.readFully(content);
+                messages.add(new ArchivedMessage(id, seq, senderId, new String(content, StandardCharsets.UTF_8), createdAt));
+            }
+            return messages;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long toEpochMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,140 @@
+package org.example.chat;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * PostgreSQL에서 월별로 파티션된 messages 테이블의 파티션을 미리 만듭니다.
+ *
+ * <p>시작할 때와 매일 한 번, 이번 달부터 {@code partition-months-ahead}개월 뒤까지의 파티션
+ * ({@code messages_YYYY_MM})이 없으면 만듭니다. 파티션이 없을 때 들어온 메시지는 기본 파티션
+ * ({@code messages_default})에 저장되며, 기본 파티션에 같은 기간의 행이 있으면 해당 월 파티션을 만들 수 없어
+ * 경고를 남깁니다. H2처럼 파티션되지 않은 테이블에서는 아무 것도 하지 않습니다.</p>
+ *
+ * <p>오래된 월 파티션의 보관이 끝나면 {@link MessageArchive}가 {@link #dropPartition}으로 파티션째 삭제합니다.
+ * 기본 파티션의 행은 월 단위로 떼어 낼 수 없어 보관하지 않습니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessagePartitionMaintainer {
+
+    private static final String DETACH_LOCK_TIMEOUT = "5s";
+    private static final String SELECT_PARTITIONED =
+            "SELECT COUNT(*) FROM pg_partitioned_table pt JOIN pg_class c ON c.oid = pt.partrelid "
+                    + "WHERE c.relname = 'messages' AND pg_table_is_visible(c.oid)";
+    private static final String SELECT_PARTITIONS =
+            "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                    + "JOIN pg_class p ON p.oid = i.inhparent WHERE p.relname = 'messages' AND pg_table_is_visible(p.oid)";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile("messages_(\\d{4})_(\\d{2})");
+
+    private final MessageStorageProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean partitioned;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        ensurePartitions();
+    }
+
+    @Scheduled(cron = "0 30 3 * * *")
+    public void ensurePartitions() {
+        if (!isPartitioned()) {
+            return;
+        }
+        LocalDate month = LocalDate.now().withDayOfMonth(1);
+        for (int i = 0; i <= properties.getPartitionMonthsAhead(); i++) {
+            createPartition(month.plusMonths(i));
+        }
+    }
+
+    /**
+     * 월별 파티션의 시작일 목록 (오래된 순, 기본 파티션 제외)
+     */
+    public List<LocalDate> monthlyPartitions() {
+        List<LocalDate> months = new ArrayList<>();
+        for (String name : jdbcTemplate.queryForList(SELECT_PARTITIONS, String.class)) {
+            Matcher matcher = MONTHLY_PARTITION.matcher(name);
+            if (matcher.matches()) {
+                months.add(LocalDate.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)), 1));
+            }
+        }
+        Collections.sort(months);
+        return months;
+    }
+
+    /**
+     * 보관하는 동안 월 파티션에 쓰기가 들어오지 않도록 잠급니다. (호출한 트랜잭션이 끝날 때까지, 읽기는 허용)
+     */
+    public void lockPartition(LocalDate monthStart) {
+        jdbcTemplate.execute("LOCK TABLE " + partitionName(monthStart) + " IN SHARE MODE");
+    }
+
+    /**
+     * 월 파티션을 떼어 내고 삭제합니다. (호출한 트랜잭션 안에서 실행)
+     * DETACH는 messages 전체에 잠깐 배타 잠금을 잡으므로, 실행 중인 긴 쿼리 뒤에서 전송을 막고 기다리지 않도록
+     * lock_timeout을 짧게 둡니다. 시간 안에 잠금을 얻지 못하면 트랜잭션이 실패하고 다음 주기에 다시 시도합니다.
+     */
+    public void dropPartition(LocalDate monthStart) {
+        String name = partitionName(monthStart);
+        jdbcTemplate.execute("SET LOCAL lock_timeout = '" + DETACH_LOCK_TIMEOUT + "'");
+        jdbcTemplate.execute("ALTER TABLE messages DETACH PARTITION " + name);
+        jdbcTemplate.execute("DROP TABLE " + name);
+    }
+
+    static String partitionName(LocalDate monthStart) {
+        return "messages_" + monthStart.format(PARTITION_SUFFIX);
+    }
+
+    private void createPartition(LocalDate monthStart) {
+        String name = partitionName(monthStart);
+        String sql = "CREATE TABLE IF NOT EXISTS " + name + " PARTITION OF messages FOR VALUES FROM ('"
+                + monthStart + "') TO ('" + monthStart.plusMonths(1) + "')";
+        try {
+            jdbcTemplate.execute(sql);
+        } catch (Exception e) {
+            log.warn("메시지 파티션 생성 실패: {} (기본 파티션에 같은 기간의 행이 있는지 확인하세요), error={}",
+                    name, e.getMessage());
+        }
+    }
+
+    /**
+     * messages가 월별 파티션 테이블인지 (PostgreSQL)
+     */
+    public boolean isPartitioned() {
+        Boolean cached = partitioned;
+        if (cached != null) {
+            return cached;
+        }
+        boolean result = false;
+        try {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            if ("PostgreSQL".equalsIgnoreCase(product)) {
+                List<Long> counts = jdbcTemplate.queryForList(SELECT_PARTITIONED, Long.class);
+                result = !counts.isEmpty() && counts.get(0) > 0;
+            }
+        } catch (Exception e) {
+            log.warn("메시지 파티션 여부 확인 실패: {}", e.getMessage());
+            return false;
+        }
+        partitioned = result;
+        return result;
+    }
+}
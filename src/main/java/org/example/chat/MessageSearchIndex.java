@@ -0,0 +1,239 @@
+package org.example.chat;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 채팅방 내 메시지 검색용 토큰 색인(message_search_tokens)입니다.
+ *
+ * <ul>
+ *     <li>토큰: NFKC 정규화 + 소문자로 바꾼 내용을 글자/숫자 연속 구간(단어)으로 나누고, 단어마다 2글자씩 겹쳐 자른
+ *     bigram. 띄어쓰기와 조사에 상관없이 한글 부분 문자열을 찾을 수 있습니다. (예: "강남역 2번출구" → 강남, 남역, 2번, 번출, 출구)</li>
+ *     <li>색인: 메시지 전송 트랜잭션에서는 색인하지 않고, {@link #indexNewMessages}가 커밋된 메시지를 id 순으로 나눠
+ *     색인하며 진행 위치(message_search_progress)를 옮깁니다. 기존 메시지도 같은 작업이 처음부터 색인합니다.</li>
+ *     <li>검색: 진행 위치 이후 메시지는 호출한 쪽에서 messages를 직접 확인하고, 이전 메시지는 검색어의 bigram을 모두 가진
+ *     메시지 id를 후보로 찾은 뒤 ({@link #findCandidates}) 실제 내용에 검색어가 있는지 {@link #matches}로 확인</li>
+ * </ul>
+ *
+ * <p>id는 insert 시점에 발급되어 작은 id가 나중에 커밋될 수 있으므로, 작성된 지 {@code index-settle-ms}가 지난 메시지까지만
+ * 진행 위치를 옮깁니다. 이전 버전 인스턴스가 저장한 메시지도 같은 방식으로 색인됩니다.</p>
+ *
+ * <p>보관된 메시지(MessageArchive)의 토큰은 보관할 때 지우며, 보관된 메시지는 검색 시 보관 데이터에서 직접 확인합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessageSearchIndex {
+
+    // 검색어가 길어도 후보 조회에는 앞쪽 토큰만 사용 (나머지는 내용 확인 단계에서 걸러짐)
+    static final int MAX_QUERY_TOKENS = 16;
+
+    private static final String INSERT_TOKEN =
+            "INSERT INTO message_search_tokens (chat_room_id, token, message_id) VALUES (?, ?, ?)";
+    private static final String DELETE_ROOM_TOKENS = "DELETE FROM message_search_tokens WHERE chat_room_id = ?";
+    private static final String DELETE_TOKENS_BETWEEN =
+            "DELETE FROM message_search_tokens WHERE chat_room_id = ? AND message_id BETWEEN ? AND ?";
+    private static final String SELECT_PROGRESS = "SELECT next_message_id FROM message_search_progress WHERE id = 1";
+    private static final String LOCK_PROGRESS = SELECT_PROGRESS + " FOR UPDATE";
+    private static final String SELECT_MESSAGES_FROM =
+            "SELECT id, chat_room_id, content, created_at FROM messages WHERE id >= ? ORDER BY id LIMIT ?";
+    private static final String UPDATE_PROGRESS = "UPDATE message_search_progress SET next_message_id = ? WHERE id = 1";
+
+    private final MessageSearchProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    private record TokenRow(long chatRoomId, String token, long messageId) {
+    }
+
+    /**
+     * 색인 진행 위치. 이 id 이상인 메시지는 아직 색인되지 않았을 수 있습니다.
+     */
+    public long indexedBefore() {
+        List<Long> next = jdbcTemplate.queryForList(SELECT_PROGRESS, Long.class);
+        return next.isEmpty() ? 0 : next.get(0);
+    }
+
+    /**
+     * 검색어 토큰을 모두 가진 메시지 id를 최신순으로 찾습니다.
+     *
+     * @param beforeId 이 id보다 작은 메시지만 조회
+     */
+    public List<Long> findCandidates(Long chatRoomId, Collection<String> tokens, long beforeId, int limit) {
+        List<String> queryTokens = tokens.stream().limit(MAX_QUERY_TOKENS).toList();
+        String sql = "SELECT message_id FROM message_search_tokens WHERE chat_room_id = ? AND token IN ("
+                + String.join(", ", Collections.nCopies(queryTokens.size(), "?"))
+                + ") AND message_id < ? GROUP BY message_id HAVING COUNT(*) = ? ORDER BY message_id DESC LIMIT ?";
+        List<Object> args = new ArrayList<>(queryTokens.size() + 4);
+        args.add(chatRoomId);
+        args.addAll(queryTokens);
+        args.add(beforeId);
+        args.add(queryTokens.size());
+        args.add(limit);
+        return jdbcTemplate.queryForList(sql, Long.class, args.toArray());
+    }
+
+    /**
+     * 채팅방의 색인을 모두 삭제합니다. (채팅방 삭제 시, 호출한 트랜잭션 안에서 실행)
+     */
+    public void deleteRoom(Long chatRoomId) {
+        jdbcTemplate.update(DELETE_ROOM_TOKENS, chatRoomId);
+    }
+
+    /**
+     * 채팅방에서 id가 fromId~toId인 메시지의 색인을 삭제합니다. (메시지 보관 시)
+     */
+    public void deleteBetween(Long chatRoomId, long fromId, long toId) {
+        jdbcTemplate.update(DELETE_TOKENS_BETWEEN, chatRoomId, fromId, toId);
+    }
+
+    /**
+     * 진행 위치부터 커밋된 메시지를 id 순으로 나눠 색인합니다. 배치마다 별도 트랜잭션이며,
+     * 진행 위치 행을 잠가 여러 인스턴스가 같은 구간을 색인하지 않도록 합니다.
+     */
+    @Scheduled(initialDelayString = "${ssak3.message-search.index-interval-ms:2000}",
+            fixedDelayString = "${ssak3.message-search.index-interval-ms:2000}")
+    public void indexNewMessages() {
+        Timestamp settledBefore = new Timestamp(System.currentTimeMillis() - properties.getIndexSettleMs());
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        try {
+            int total = 0;
+            Integer indexed;
+            do {
+                indexed = transaction.execute(status -> indexBatch(settledBefore));
+                total += indexed != null ? indexed : 0;
+            } while (indexed != null && indexed == properties.getIndexBatchSize());
+            if (total > 0) {
+                log.debug("메시지 검색 색인: {}건", total);
+            }
+        } catch (Exception e) {
+            log.warn("메시지 검색 색인 실패: {}", e.getMessage());
+        }
+    }
+
+    // 색인한 메시지 수 (settledBefore 이후에 작성된 메시지를 만나면 그 앞까지만 색인)
+    private int indexBatch(Timestamp settledBefore) {
+        List<Long> progress = jdbcTemplate.queryForList(LOCK_PROGRESS, Long.class);
+        if (progress.isEmpty()) {
+            return 0;
+        }
+        long next = progress.get(0);
+
+        List<TokenRow> rows = new ArrayList<>();
+        long[] lastId = {next - 1};
+        int[] count = {0};
+        boolean[] unsettled = {false};
+        jdbcTemplate.query(SELECT_MESSAGES_FROM, rs -> {
+            if (unsettled[0]) {
+                return;
+            }
+            Timestamp createdAt = rs.getTimestamp("created_at");
+            if (createdAt != null && !createdAt.before(settledBefore)) {
+                // 이 메시지보다 작은 id가 아직 커밋 중일 수 있으므로 다음 실행에서 이어서 색인
+                unsettled[0] = true;
+                return;
+            }
+            long messageId = rs.getLong("id");
+            long chatRoomId = rs.getLong("chat_room_id");
+            for (String token : tokens(terms(rs.getString("content")))) {
+                rows.add(new TokenRow(chatRoomId, token, messageId));
+            }
+            lastId[0] = messageId;
+            count[0]++;
+        }, next, properties.getIndexBatchSize());
+        insert(rows);
+
+        if (count[0] > 0) {
+            jdbcTemplate.update(UPDATE_PROGRESS, lastId[0] + 1);
+        }
+        return count[0];
+    }
+
+    private void insert(List<TokenRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_TOKEN, rows, 500, (ps, row) -> {
+            ps.setLong(1, row.chatRoomId());
+            ps.setString(2, row.token());
+            ps.setLong(3, row.messageId());
+        });
+    }
+
+    /**
+     * 텍스트를 정규화한 뒤 글자/숫자 연속 구간(단어)으로 나눕니다. 중복 단어는 한 번만 포함합니다.
+     */
+    public static List<String> terms(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = normalize(text);
+        Set<String> terms = new LinkedHashSet<>();
+        int start = -1;
+        for (int i = 0; i < normalized.length(); ) {
+            int codePoint = normalized.codePointAt(i);
+            if (Character.isLetterOrDigit(codePoint)) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                terms.add(normalized.substring(start, i));
+                start = -1;
+            }
+            i += Character.charCount(codePoint);
+        }
+        if (start >= 0) {
+            terms.add(normalized.substring(start));
+        }
+        return new ArrayList<>(terms);
+    }
+
+    /**
+     * 단어마다 2글자씩 겹쳐 자른 토큰 (한 글자 단어는 토큰이 없음)
+     */
+    public static Set<String> tokens(List<String> terms) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String term : terms) {
+            int[] codePoints = term.codePoints().toArray();
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                tokens.add(new String(codePoints, i, 2));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 내용에 검색어의 모든 단어가 (정규화 기준으로) 포함되어 있는지 확인합니다.
+     */
+    public static boolean matches(String content, List<String> terms) {
+        if (content == null) {
+            return false;
+        }
+        String normalized = normalize(content);
+        for (String term : terms) {
+            if (!normalized.contains(term)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+}
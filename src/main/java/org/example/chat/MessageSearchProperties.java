@@ -0,0 +1,47 @@
+package org.example.chat;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 채팅방 내 메시지 검색 설정입니다. (ssak3.message-search.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ssak3.message-search")
+public class MessageSearchProperties {
+
+    /**
+     * 검색 결과 한 페이지의 기본 건수
+     */
+    @Value("${ssak3.message-search.default-limit:20}")
+    private int defaultLimit = 20;
+
+    /**
+     * 검색 결과 한 페이지의 최대 건수
+     */
+    @Value("${ssak3.message-search.max-limit:50}")
+    private int maxLimit = 50;
+
+    /**
+     * 색인 작업이 한 트랜잭션에서 읽을 메시지 수
+     */
+    @Value("${ssak3.message-search.index-batch-size:1000}")
+    private int indexBatchSize = 1000;
+
+    /**
+     * 색인 작업 실행 주기(ms). 새 메시지는 보통 이 주기 + {@code index-settle-ms} 안에 색인됩니다.
+     */
+    @Value("${ssak3.message-search.index-interval-ms:2000}")
+    private long indexIntervalMs = 2_000;
+
+    /**
+     * 작성된 지 이 시간(ms)이 지난 메시지만 색인하고 진행 위치를 옮깁니다.
+     * id는 insert 시점에 발급되므로, 그보다 늦게 커밋되는 작은 id를 건너뛰지 않도록 메시지 저장 트랜잭션의
+     * 최대 시간(그룹 커밋 대기 포함)과 인스턴스 간 시계 차이보다 길게 둡니다.
+     */
+    @Value("${ssak3.message-search.index-settle-ms:10000}")
+    private long indexSettleMs = 10_000;
+}
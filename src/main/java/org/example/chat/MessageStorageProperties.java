@@ -0,0 +1,45 @@
+package org.example.chat;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 메시지 저장소 수명 주기 설정입니다. (ssak3.message-storage.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ssak3.message-storage")
+public class MessageStorageProperties {
+
+    /**
+     * 오래된 메시지를 월 단위로 압축 보관할지 여부
+     */
+    @Value("${ssak3.message-storage.archive-enabled:true}")
+    private boolean archiveEnabled = true;
+
+    /**
+     * 이 일수보다 오래된 메시지를 보관합니다. 한 달 전체가 이 기준보다 오래된 월만 통째로 보관합니다.
+     */
+    @Value("${ssak3.message-storage.archive-after-days:90}")
+    private int archiveAfterDays = 90;
+
+    /**
+     * 보관 작업 실행 주기(ms)
+     */
+    @Value("${ssak3.message-storage.archive-interval-ms:3600000}")
+    private long archiveIntervalMs = 3_600_000;
+
+    /**
+     * 보관 청크 하나에 담을 최대 메시지 수. 이전 기록 조회는 필요한 청크만 풉니다.
+     */
+    @Value("${ssak3.message-storage.archive-chunk-size:500}")
+    private int archiveChunkSize = 500;
+
+    /**
+     * PostgreSQL 월별 파티션을 미리 만들어 둘 개월 수 (이번 달 포함 이후 N개월)
+     */
+    @Value("${ssak3.message-storage.partition-months-ahead:3}")
+    private int partitionMonthsAhead = 3;
+}
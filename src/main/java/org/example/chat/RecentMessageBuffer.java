@@ -0,0 +1,241 @@
+package org.example.chat;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.entity.Message;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 활성 채팅방마다 최근 메시지 N개를 원형 버퍼로 보관합니다.
+ *
+ * <ul>
+ *     <li>쓰기: 메시지 전송이 커밋되면 해당 채팅방 버퍼에 추가 (write-through)</li>
+ *     <li>읽기: 첫 조회 시 DB에서 최근 N개를 읽어 채우고, 이후 첫 페이지는 메모리에서 응답</li>
+ *     <li>정리: {@code ssak3.chat-buffer.idle-minutes} 동안 사용하지 않은 채팅방은 제거</li>
+ * </ul>
+ *
+ * <p>메시지는 ID 순으로 정렬해 보관하므로, 커밋 순서가 뒤바뀌거나 DB 조회와 전송이 겹쳐도
+ * 중복 없이 합쳐집니다. 버퍼는 넣을 때 복사한 메시지를 보관하고 응답할 때도 복사본을 반환하므로,
+ * 요청마다 읽음 여부({@code isRead})를 채팅방 읽음 커서로 다시 계산해 채워도 다른 요청이나 버퍼에 영향이 없습니다.
+ * 읽음 처리로 버퍼를 비울 필요도 없습니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecentMessageBuffer {
+
+    private final ChatBufferProperties properties;
+
+    private final ConcurrentMap<Long, RoomBuffer> rooms = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * 채팅방 하나의 원형 버퍼. 모든 접근은 인스턴스 락으로 직렬화합니다.
+     */
+    private static final class RoomBuffer {
+        private final Message[] ring;
+        private int head;
+        private int size;
+        // DB에서 한 번 채웠는지 (전송만 반영된 버퍼는 최근 메시지가 빠져 있을 수 있음)
+        private boolean seeded;
+        // 채팅방의 전체 메시지를 담고 있는지
+        private boolean complete;
+        private long seededAtMillis;
+        private volatile long lastAccessMillis = System.currentTimeMillis();
+
+        RoomBuffer(int capacity) {
+            this.ring = new Message[capacity];
+        }
+
+        private Message get(int i) {
+            return ring[(head + i) % ring.length];
+        }
+
+        private void set(int i, Message message) {
+            ring[(head + i) % ring.length] = message;
+        }
+
+        synchronized void insert(Message message) {
+            long id = message.getId();
+            // 거의 항상 맨 뒤에 붙으므로 뒤에서부터 위치를 찾음
+            int position = size;
+            while (position > 0 && get(position - 1).getId() > id) {
+                position--;
+            }
+            if (position > 0 && get(position - 1).getId() == id) {
+                return;
+            }
+            if (size == ring.length) {
+                complete = false;
+                if (position == 0) {
+                    return;
+                }
+                // 가장 오래된 메시지를 버림
+                ring[head] = null;
+                head = (head + 1) % ring.length;
+                size--;
+                position--;
+            }
+            for (int i = size; i > position; i--) {
+                set(i, get(i - 1));
+            }
+            set(position, message);
+            size++;
+        }
+
+        synchronized void seed(List<Message> ascending, boolean hasMore) {
+            complete = !hasMore;
+            ascending.forEach(message -> insert(message.copy()));
+            seeded = true;
+            seededAtMillis = System.currentTimeMillis();
+        }
+
+        synchronized List<Message> tail(int count) {
+            int n = Math.min(count, size);
+            List<Message> messages = new ArrayList<>(n);
+            for (int i = size - n; i < size; i++) {
+                messages.add(get(i).copy());
+            }
+            return messages;
+        }
+    }
+
+    /**
+     * 버퍼에서 최근 메시지를 오래된 순으로 반환합니다. 반환한 메시지는 요청마다 새로 만든 복사본입니다.
+     *
+     * @param limit null이면 전체 기록 (버퍼가 채팅방의 모든 메시지를 담고 있을 때만 응답)
+     * @return 버퍼로 응답할 수 없으면 empty (DB 조회 필요)
+     */
+    public Optional<List<Message>> recent(Long chatRoomId, Integer limit) {
+        RoomBuffer buffer = usableBuffer(chatRoomId);
+        if (buffer != null) {
+            synchronized (buffer) {
+                boolean enough = limit == null ? buffer.complete : buffer.size >= limit || buffer.complete;
+                if (enough) {
+                    hits.increment();
+                    return Optional.of(buffer.tail(limit == null ? buffer.size : limit));
+                }
+            }
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * DB에서 읽은 최근 메시지로 버퍼를 채웁니다.
+     *
+     * @param ascending 오래된 순 메시지 (최대 capacity개)
+     * @param hasMore   DB에 이보다 오래된 메시지가 더 있는지
+     */
+    public void seed(Long chatRoomId, List<Message> ascending, boolean hasMore) {
+        if (!properties.isEnabled() || chatRoomId == null) {
+            return;
+        }
+        bufferFor(chatRoomId).seed(ascending, hasMore);
+    }
+
+    /**
+     * 새 메시지를 버퍼에 추가합니다. 트랜잭션 안이면 커밋된 뒤에 추가합니다.
+     */
+    public void append(Long chatRoomId, Message message) {
+        if (!properties.isEnabled() || chatRoomId == null || message == null || message.getId() == null) {
+            return;
+        }
+        Message copy = message.copy();
+        afterCommit(() -> bufferFor(chatRoomId).insert(copy));
+    }
+
+    /**
+     * 채팅방 버퍼를 제거합니다. (채팅방 삭제 등) 트랜잭션 안이면 커밋된 뒤에 제거합니다.
+     */
+    public void invalidate(Long chatRoomId) {
+        if (chatRoomId == null) {
+            return;
+        }
+        afterCommit(() -> rooms.remove(chatRoomId));
+    }
+
+    /**
+     * 오래 사용하지 않은 채팅방 버퍼를 제거합니다.
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdle() {
+        long threshold = System.currentTimeMillis() - properties.getIdleMinutes() * 60_000L;
+        rooms.values().removeIf(buffer -> buffer.lastAccessMillis < threshold);
+        int overflow = rooms.size() - properties.getMaxRooms();
+        if (overflow > 0) {
+            rooms.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().lastAccessMillis))
+                    .limit(overflow)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(rooms::remove);
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return rooms.size();
+    }
+
+    private RoomBuffer usableBuffer(Long chatRoomId) {
+        if (!properties.isEnabled() || chatRoomId == null) {
+            return null;
+        }
+        RoomBuffer buffer = rooms.get(chatRoomId);
+        if (buffer == null) {
+            return null;
+        }
+        buffer.lastAccessMillis = System.currentTimeMillis();
+        synchronized (buffer) {
+            if (!buffer.seeded) {
+                return null;
+            }
+            if (properties.getMaxAgeSeconds() > 0
+                    && System.currentTimeMillis() - buffer.seededAtMillis > properties.getMaxAgeSeconds() * 1000L) {
+                rooms.remove(chatRoomId, buffer);
+                return null;
+            }
+        }
+        return buffer;
+    }
+
+    private RoomBuffer bufferFor(Long chatRoomId) {
+        RoomBuffer buffer = rooms.computeIfAbsent(chatRoomId, id -> new RoomBuffer(properties.getCapacity()));
+        buffer.lastAccessMillis = System.currentTimeMillis();
+        return buffer;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -51,6 +51,42 @@ public class KakaoProperties {
 	@Value("${kakao.user-info-uri:${KAKAO_USER_INFO_URI:https://kapi.kakao.com/v2/user/me}}")
 	private String userInfoUri;
 
+	/**
+	 * 카카오 프로필 캐시 사용 여부.
+	 * 환경 변수: KAKAO_PROFILE_CACHE_ENABLED
+	 * <p>같은 사용자가 짧은 시간 안에 다시 로그인하면 프로필이 바뀌지 않은 경우 DB 쓰기를 생략합니다.</p>
+	 */
+	@Value("${kakao.profile-cache-enabled:${KAKAO_PROFILE_CACHE_ENABLED:true}}")
+	private boolean profileCacheEnabled = true;
+
+	/**
+	 * 카카오 프로필 캐시 유지 시간(초).
+	 * 환경 변수: KAKAO_PROFILE_CACHE_TTL_SECONDS
+	 */
+	@Value("${kakao.profile-cache-ttl-seconds:${KAKAO_PROFILE_CACHE_TTL_SECONDS:60}}")
+	private long profileCacheTtlSeconds = 60;
+
+	/**
+	 * 카카오 프로필 캐시에 보관할 최대 사용자 수.
+	 * 환경 변수: KAKAO_PROFILE_CACHE_MAX_SIZE
+	 */
+	@Value("${kakao.profile-cache-max-size:${KAKAO_PROFILE_CACHE_MAX_SIZE:10000}}")
+	private int profileCacheMaxSize = 10000;
+
+	/**
+	 * 카카오 API 서킷을 여는 연속 실패(5xx, 연결 실패) 횟수.
+	 * 환경 변수: KAKAO_CIRCUIT_FAILURE_THRESHOLD
+	 */
+	@Value("${kakao.circuit-failure-threshold:${KAKAO_CIRCUIT_FAILURE_THRESHOLD:5}}")
+	private int circuitFailureThreshold = 5;
+
+	/**
+	 * 서킷이 열린 뒤 호출을 막아두는 시간(초).
+	 * 환경 변수: KAKAO_CIRCUIT_OPEN_SECONDS
+	 */
+	@Value("${kakao.circuit-open-seconds:${KAKAO_CIRCUIT_OPEN_SECONDS:30}}")
+	private long circuitOpenSeconds = 30;
+
 }
 
 
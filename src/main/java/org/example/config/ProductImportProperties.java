@@ -0,0 +1,41 @@
+package org.example.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.io.File;
+
+/**
+ * 상품 일괄 등록 설정입니다. (ssak3.product-import.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ssak3.product-import")
+public class ProductImportProperties {
+
+    /**
+     * 이미지를 저장할 디렉토리. /uploads/** 정적 경로(WebConfig)와 같은 위치여야 합니다.
+     */
+    @Value("${ssak3.product-import.upload-dir:${user.dir}/uploads}")
+    private String uploadDir = System.getProperty("user.dir") + File.separator + "uploads";
+
+    /**
+     * 한 번에 등록할 수 있는 최대 상품 수
+     */
+    @Value("${ssak3.product-import.max-items:500}")
+    private int maxItems = 500;
+
+    /**
+     * zip 압축 파일의 압축 해제 후 최대 크기(MB)
+     */
+    @Value("${ssak3.product-import.max-archive-mb:100}")
+    private long maxArchiveMb = 100;
+
+    /**
+     * 한 트랜잭션으로 저장할 상품 수
+     */
+    @Value("${ssak3.product-import.batch-size:100}")
+    private int batchSize = 100;
+}
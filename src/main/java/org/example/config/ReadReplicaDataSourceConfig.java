@@ -0,0 +1,86 @@
+package org.example.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 레플리카 설정 ({@code ssak3.datasource.replica.url}이 있을 때만 활성화)
+ *
+ * <p>프라이머리 풀은 {@code spring.datasource.*}, 레플리카 풀은 {@code ssak3.datasource.replica.*}로 만들고
+ * {@link ReadWriteRoutingDataSource}를 {@link LazyConnectionDataSourceProxy}로 감싸 기본 DataSource로 등록합니다.
+ * {@code @Transactional(readOnly = true)} 작업만 레플리카로 가고, 쓰기와 트랜잭션 밖의 조회(OSIV 지연 로딩 등)는 프라이머리로 갑니다.</p>
+ *
+ * <p>OSIV로 요청 내내 같은 세션을 쓰므로, 세션이 첫 커넥션을 계속 붙잡고 있으면 첫 트랜잭션의 대상이
+ * 요청 끝까지 유지됩니다. 그래서 트랜잭션이 끝날 때마다 커넥션을 반납하도록 Hibernate 설정을 바꿉니다.</p>
+ *
+ * <p>레플리카는 복제 지연이 있으므로 방금 쓴 데이터를 같은 요청에서 다시 읽어야 하면 쓰기 트랜잭션 안에서 읽어야 합니다.</p>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "ssak3.datasource.replica", name = "url")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties primaryDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(@Qualifier("primaryDataSourceProperties") DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("ssak3.datasource.replica")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("ssak3.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(@Qualifier("replicaDataSourceProperties") DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource();
+        routing.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.Route.PRIMARY, primary,
+                ReadWriteRoutingDataSource.Route.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        log.info("읽기 전용 트랜잭션을 레플리카로 라우팅합니다.");
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션이 {@code @Transactional(readOnly = true)}이면 레플리카, 그 외에는 프라이머리로 연결합니다.
+ *
+ * <p>트랜잭션 시작 시점에는 읽기 전용 여부가 아직 동기화 매니저에 등록되지 않으므로
+ * 반드시 {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}로 감싸
+ * 첫 SQL 실행 시점에 대상을 고르도록 해야 합니다.</p>
+ *
+ * <p>레플리카 점검(HealthSnapshotRefresher)이 실패하면 {@link #setReplicaAvailable}로 표시되고,
+ * 다시 정상이 될 때까지 읽기 전용 트랜잭션도 프라이머리로 보냅니다.</p>
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private volatile boolean replicaAvailable = true;
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return replicaAvailable && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? Route.REPLICA : Route.PRIMARY;
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    public void setReplicaAvailable(boolean replicaAvailable) {
+        this.replicaAvailable = replicaAvailable;
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * {@code @Scheduled} 백그라운드 작업을 활성화합니다.
+ * (인기 상품 점수 스냅샷 저장, 조회수 반영, 비슷한 상품 인덱스 갱신, 채팅방 메시지 버퍼 정리,
+ * 오래된 채팅방 메시지 보관, 메시지 월별 파티션 생성, 기존 메시지 검색 색인 등)
+ *
+ * <p>스레드 풀 크기는 {@code spring.task.scheduling.pool.size}로 정합니다. 헬스 체크 스냅샷 갱신은
+ * 긴 작업 뒤에 밀리지 않도록 {@code HealthSnapshotRefresher}의 전용 스레드에서 실행합니다.</p>
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,5 +1,6 @@
 package org.example.config;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -31,6 +32,7 @@ import java.util.Arrays;
  * @version 1.0
  * @since 2024-10-05
  */
+@Slf4j
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
@@ -57,9 +59,6 @@ public class SecurityConfig {
      */
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
-        System.out.println("============ [SecurityConfig.java] SecurityConfig.filterChain() 시작 ============");
-        System.out.println("입력 매개변수 - http: " + http.getClass().getSimpleName());
-        
         http
             // CORS 설정 적용 (CSRF 설정 전에 적용)
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -94,8 +93,7 @@ public class SecurityConfig {
             );
 
         SecurityFilterChain result = http.build();
-        System.out.println("반환값: " + result.getClass().getSimpleName());
-        System.out.println("============ [SecurityConfig.java] SecurityConfig.filterChain() 종료 ============");
+        log.debug("보안 필터 체인 구성 완료: {}", result.getClass().getSimpleName());
         return result;
     }
 
@@ -1,7 +1,10 @@
 package org.example.config;
 
+import lombok.RequiredArgsConstructor;
+import org.example.monitoring.ControllerTimingInterceptor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -12,8 +15,11 @@ import java.io.File;
  * CORS 설정과 정적 리소스 설정을 구성합니다.
  */
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final ControllerTimingInterceptor controllerTimingInterceptor;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
@@ -29,6 +35,14 @@ public class WebConfig implements WebMvcConfigurer {
                 .maxAge(3600);
     }
 
+    /**
+     * 컨트롤러 메서드별 처리 시간 타이머를 등록합니다.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(controllerTimingInterceptor);
+    }
+
     /**
      * 업로드된 이미지 파일을 정적 리소스로 제공합니다.
      * /uploads/** 경로로 접근 가능하도록 설정합니다.
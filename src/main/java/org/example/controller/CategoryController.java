@@ -2,10 +2,14 @@ package org.example.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.cache.EntityTags;
+import org.example.cache.PrecompressedResponseCache;
 import org.example.entity.Category;
 import org.example.repository.CategoryRepository;
+import org.example.repository.EntityVersion;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -17,26 +21,38 @@ import java.util.List;
 public class CategoryController {
 
     private final CategoryRepository categoryRepository;
+    private final PrecompressedResponseCache responseCache;
 
-    // 전체 카테고리 조회
+    // 전체 카테고리 조회 (미리 압축해 둔 JSON을 그대로 응답, 내용 해시 ETag가 같으면 304)
     @GetMapping
-    public ResponseEntity<List<Category>> getAllCategories() {
+    public ResponseEntity<?> getAllCategories(WebRequest request) {
         try {
-            List<Category> categories = categoryRepository.findAll();
-            log.info("카테고리 조회 성공: {}개", categories != null ? categories.size() : 0);
-            return ResponseEntity.ok(categories != null ? categories : new ArrayList<>());
+            PrecompressedResponseCache.CachedBody body = responseCache.get(PrecompressedResponseCache.CATEGORY_LIST, () -> {
+                List<Category> categories = categoryRepository.findAll();
+                log.debug("카테고리 조회 성공: {}개", categories != null ? categories.size() : 0);
+                return categories != null ? categories : new ArrayList<>();
+            });
+            return responseCache.toResponse(body, request);
         } catch (Exception e) {
             log.error("카테고리 조회 중 오류 발생", e);
             return ResponseEntity.ok(new ArrayList<>());
         }
     }
 
-    // 특정 카테고리 조회
+    // 특정 카테고리 조회 (수정 시각으로 ETag, 변경 없으면 304)
     @GetMapping("/{id}")
-    public ResponseEntity<Category> getCategoryById(@PathVariable Long id) {
+    public ResponseEntity<Category> getCategoryById(@PathVariable Long id, WebRequest request) {
         try {
+            EntityVersion version = categoryRepository.findVersionById(id).orElse(null);
+            if (version == null) {
+                return ResponseEntity.notFound().build();
+            }
+            String etag = EntityTags.weak("category", id, version.getUpdatedAt());
+            if (EntityTags.checkNotModified(request, etag, EntityTags.latestMillis(version.getUpdatedAt()))) {
+                return EntityTags.notModified();
+            }
             return categoryRepository.findById(id)
-                    .map(ResponseEntity::ok)
+                    .map(category -> EntityTags.revalidate().body(category))
                     .orElse(ResponseEntity.notFound().build());
         } catch (Exception e) {
             log.error("카테고리 조회 중 오류 발생: categoryId={}", id, e);
@@ -78,6 +94,7 @@ public class CategoryController {
             }
 
             Category saved = categoryRepository.save(category);
+            responseCache.invalidate(PrecompressedResponseCache.CATEGORY_LIST);
             log.info("카테고리 생성 성공: categoryId={}, name={}", saved.getId(), saved.getName());
             return ResponseEntity.ok(saved);
         } catch (Exception e) {
@@ -104,6 +121,8 @@ public class CategoryController {
 
             existingCategory.setName(category.getName());
             Category updated = categoryRepository.save(existingCategory);
+            responseCache.invalidate(PrecompressedResponseCache.CATEGORY_LIST);
+            responseCache.invalidate(PrecompressedResponseCache.PRODUCT_LIST);
             log.info("카테고리 수정 성공: categoryId={}, name={}", updated.getId(), updated.getName());
             return ResponseEntity.ok(updated);
         } catch (IllegalArgumentException e) {
@@ -125,6 +144,8 @@ public class CategoryController {
             }
 
             categoryRepository.deleteById(id);
+            responseCache.invalidate(PrecompressedResponseCache.CATEGORY_LIST);
+            responseCache.invalidate(PrecompressedResponseCache.PRODUCT_LIST);
             log.info("카테고리 삭제 성공: categoryId={}", id);
             return ResponseEntity.noContent().build();
         } catch (Exception e) {
@@ -2,6 +2,8 @@ package org.example.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.chat.GroupCommitMessageWriter;
+import org.example.dto.MessageSearchResult;
 import org.example.entity.ChatRoom;
 import org.example.entity.Message;
 import org.example.service.ChatService;
@@ -19,6 +21,7 @@ import java.util.Map;
 public class ChatController {
 
     private final ChatService chatService;
+    private final GroupCommitMessageWriter messageWriter;
 
     // 채팅방 생성 또는 조회 (프론트엔드 호환성을 위해 두 경로 모두 지원)
     @PostMapping({"/rooms", ""})  // /api/chat/rooms, /api/chatrooms/rooms, /api/chatrooms 모두 지원
@@ -46,10 +49,10 @@ public class ChatController {
     @GetMapping({"/rooms/{chatRoomId}", "/{chatRoomId}"})
     public ResponseEntity<ChatRoom> getChatRoom(@PathVariable Long chatRoomId) {
         try {
-            log.info("GET /api/chat/rooms/{} 요청 받음", chatRoomId);
+            log.debug("GET /api/chat/rooms/{} 요청 받음", chatRoomId);
             ChatRoom chatRoom = chatService.getChatRoomById(chatRoomId);
             if (chatRoom != null) {
-                log.info("채팅방 조회 성공: chatRoomId={}", chatRoomId);
+                log.debug("채팅방 조회 성공: chatRoomId={}", chatRoomId);
                 return ResponseEntity.ok(chatRoom);
             } else {
                 log.warn("채팅방을 찾을 수 없습니다: chatRoomId={}", chatRoomId);
@@ -68,16 +71,15 @@ public class ChatController {
     @GetMapping({"/rooms/user/{userId}", "/user/{userId}"})
     public ResponseEntity<List<ChatRoom>> getUserChatRooms(@PathVariable Long userId) {
         try {
-            log.info("GET /api/chat/rooms/user/{} 요청 받음", userId);
+            log.debug("GET /api/chat/rooms/user/{} 요청 받음", userId);
             List<ChatRoom> chatRooms = chatService.getUserChatRooms(userId);
-            log.info("채팅방 목록 조회 성공: userId={}, count={}", userId, chatRooms != null ? chatRooms.size() : 0);
+            log.debug("채팅방 목록 조회 성공: userId={}, count={}", userId, chatRooms != null ? chatRooms.size() : 0);
             return ResponseEntity.ok(chatRooms != null ? chatRooms : new ArrayList<>());
         } catch (IllegalArgumentException e) {
             log.warn("채팅방 목록 조회 실패 (사용자 없음): userId={}, error={}", userId, e.getMessage());
             return ResponseEntity.ok(new ArrayList<>());
         } catch (Exception e) {
             log.error("채팅방 목록 조회 중 오류 발생: userId={}, error={}", userId, e.getMessage(), e);
-            e.printStackTrace();
             // 예외가 발생해도 빈 리스트를 반환하여 500 에러 방지
             return ResponseEntity.ok(new ArrayList<>());
         }
@@ -85,12 +87,16 @@ public class ChatController {
     
 
     // 채팅방의 메시지 목록 조회
+    // limit을 주면 최근 메시지 limit개, beforeId를 함께 주면 해당 메시지 이전 기록을 조회 (없으면 전체 기록)
     @GetMapping("/rooms/{chatRoomId}/messages")
-    public ResponseEntity<List<Message>> getChatRoomMessages(@PathVariable Long chatRoomId) {
+    public ResponseEntity<List<Message>> getChatRoomMessages(
+            @PathVariable Long chatRoomId,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(required = false) Integer limit) {
         try {
-            log.info("메시지 목록 조회 요청: chatRoomId={}", chatRoomId);
-            List<Message> messages = chatService.getChatRoomMessages(chatRoomId);
-            log.info("메시지 목록 조회 성공: chatRoomId={}, count={}", chatRoomId, messages != null ? messages.size() : 0);
+            log.debug("메시지 목록 조회 요청: chatRoomId={}, beforeId={}, limit={}", chatRoomId, beforeId, limit);
+            List<Message> messages = chatService.getChatRoomMessages(chatRoomId, beforeId, limit);
+            log.debug("메시지 목록 조회 성공: chatRoomId={}, count={}", chatRoomId, messages != null ? messages.size() : 0);
             return ResponseEntity.ok(messages != null ? messages : new ArrayList<>());
         } catch (IllegalArgumentException e) {
             log.warn("메시지 목록 조회 실패 (채팅방 없음): chatRoomId={}, error={}", chatRoomId, e.getMessage());
@@ -102,6 +108,27 @@ public class ChatController {
         }
     }
 
+    // 채팅방 내 메시지 검색 (최신순, beforeId에 이전 결과의 nextCursor를 넘기면 다음 페이지)
+    @GetMapping("/rooms/{chatRoomId}/messages/search")
+    public ResponseEntity<MessageSearchResult> searchMessages(
+            @PathVariable Long chatRoomId,
+            @RequestParam String q,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            log.debug("메시지 검색 요청: chatRoomId={}, beforeId={}, limit={}", chatRoomId, beforeId, limit);
+            MessageSearchResult result = chatService.searchMessages(chatRoomId, q, beforeId, limit);
+            log.debug("메시지 검색 성공: chatRoomId={}, count={}", chatRoomId, result.hits().size());
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            log.warn("메시지 검색 실패: chatRoomId={}, error={}", chatRoomId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("메시지 검색 중 오류 발생: chatRoomId={}", chatRoomId, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     // 메시지 전송 (RequestBody 또는 쿼리 파라미터 모두 지원)
     @PostMapping("/rooms/{chatRoomId}/messages")
     public ResponseEntity<Message> sendMessage(
@@ -122,9 +149,12 @@ public class ChatController {
                 return ResponseEntity.badRequest().build();
             }
             
-            log.info("메시지 전송 요청: chatRoomId={}, senderId={}, content={}", chatRoomId, senderId, messageContent);
-            Message message = chatService.sendMessage(chatRoomId, senderId, messageContent);
-            log.info("메시지 전송 성공: messageId={}, chatRoomId={}, senderId={}", 
+            // 메시지 본문은 개인정보이므로 길이만 기록
+            log.debug("메시지 전송 요청: chatRoomId={}, senderId={}, length={}", chatRoomId, senderId, messageContent.length());
+            Message message = messageWriter.isEnabled()
+                    ? messageWriter.send(chatRoomId, senderId, messageContent)
+                    : chatService.sendMessage(chatRoomId, senderId, messageContent);
+            log.debug("메시지 전송 성공: messageId={}, chatRoomId={}, senderId={}", 
                     message.getId(), chatRoomId, senderId);
             return ResponseEntity.ok(message);
         } catch (IllegalArgumentException e) {
@@ -0,0 +1,79 @@
+package org.example.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.service.ExportService;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * 관리용 전체 데이터 내보내기 (NDJSON/CSV 스트리밍)
+ *
+ * <p>목록 API와 달리 전체 결과를 메모리에 모으지 않고 응답 스트림에 바로 씁니다.
+ * 예: {@code GET /api/export/products?format=csv}</p>
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final ExportService exportService;
+
+    @FunctionalInterface
+    private interface Exporter {
+        long export(ExportService.Format format, OutputStream out) throws IOException;
+    }
+
+    // 사용자 내보내기
+    @GetMapping("/users")
+    public void exportUsers(@RequestParam(defaultValue = "ndjson") String format, HttpServletResponse response)
+            throws IOException {
+        export("users", format, response, exportService::exportUsers);
+    }
+
+    // 상품 내보내기
+    @GetMapping("/products")
+    public void exportProducts(@RequestParam(defaultValue = "ndjson") String format, HttpServletResponse response)
+            throws IOException {
+        export("products", format, response, exportService::exportProducts);
+    }
+
+    // 찜 내보내기
+    @GetMapping("/likes")
+    public void exportLikes(@RequestParam(defaultValue = "ndjson") String format, HttpServletResponse response)
+            throws IOException {
+        export("likes", format, response, exportService::exportLikes);
+    }
+
+    private void export(String name, String formatParam, HttpServletResponse response, Exporter exporter)
+            throws IOException {
+        // 형식 오류는 응답을 쓰기 전에 IllegalArgumentException으로 처리 (GlobalExceptionHandler → 400)
+        ExportService.Format format = ExportService.Format.from(formatParam);
+        String filename = name + "-" + LocalDate.now() + "." + format.getExtension();
+
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(filename).build().toString());
+
+        long startedAt = System.nanoTime();
+        try {
+            long rows = exporter.export(format, response.getOutputStream());
+            log.info("내보내기 완료: {} {}행, {}ms", filename, rows, (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (IOException e) {
+            // 클라이언트가 다운로드를 중단한 경우 등. 이미 응답이 시작되어 상태 코드를 바꿀 수 없음
+            log.warn("내보내기 중단: {} - {}", filename, e.getMessage());
+        }
+    }
+}
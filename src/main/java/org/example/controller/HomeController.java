@@ -22,6 +22,14 @@ import java.util.Map;
 @RestController
 public class HomeController {
 
+    private static final Map<String, Object> HOME_RESPONSE = Map.of(
+            "message", "Ssak3 Backend API",
+            "status", "OK",
+            "version", "1.0.0"
+    );
+    private static final Map<String, Object> USER_RESPONSE = Map.of("message", "REST API 방식으로 구현됨", "status", "OK");
+    private static final Map<String, String> HEALTH_RESPONSE = Map.of("status", "OK", "message", "Ssak3 Backend is running!");
+
     /**
      * 애플리케이션의 홈페이지를 JSON 형태로 반환합니다.
      * 
@@ -34,18 +42,8 @@ public class HomeController {
     @GetMapping("/")
     @ResponseBody
     public Map<String, Object> home() {
-        System.out.println("============ [HomeController.java] HomeController.home() 시작 ============");
-        System.out.println("입력 매개변수: 없음");
-        
         // REST API 방식으로 JSON 응답 반환
-        Map<String, Object> result = Map.of(
-            "message", "Ssak3 Backend API",
-            "status", "OK",
-            "version", "1.0.0"
-        );
-        System.out.println("반환값: " + result);
-        System.out.println("============ [HomeController.java] HomeController.home() 종료 ============");
-        return result;
+        return HOME_RESPONSE;
     }
 
     /**
@@ -59,14 +57,8 @@ public class HomeController {
      */
     @GetMapping("/login")
     public String login() {
-        System.out.println("============ [HomeController.java] HomeController.login() 시작 ============");
-        System.out.println("입력 매개변수: 없음");
-        
         // 로그인 페이지로 리다이렉트
-        String result = "redirect:/login/page";
-        System.out.println("반환값: " + result);
-        System.out.println("============ [HomeController.java] HomeController.login() 종료 ============");
-        return result;
+        return "redirect:/login/page";
     }
 
     /**
@@ -82,16 +74,10 @@ public class HomeController {
     @GetMapping("/user")
     @ResponseBody
     public Map<String, Object> user() {
-        System.out.println("============ [HomeController.java] HomeController.user() 시작 ============");
-        System.out.println("입력 매개변수: 없음");
-        
         // REST API 방식에서는 세션 또는 JWT로 사용자 정보를 관리
         // 현재는 단순히 메시지만 반환
         // 향후 확장 가능: 실제 사용자 정보, 권한, 프로필 등
-        Map<String, Object> result = Map.of("message", "REST API 방식으로 구현됨", "status", "OK");
-        System.out.println("반환값: " + result);
-        System.out.println("============ [HomeController.java] HomeController.user() 종료 ============");
-        return result;
+        return USER_RESPONSE;
     }
 
     /**
@@ -107,14 +93,9 @@ public class HomeController {
     @GetMapping("/api/health")
     @ResponseBody
     public Map<String, String> health() {
-        System.out.println("============ [HomeController.java] HomeController.health() 시작 ============");
-        System.out.println("입력 매개변수: 없음");
-        
         // 애플리케이션 상태 확인
         // 향후 확장 가능: 데이터베이스 연결 상태, 외부 API 연결 상태 등
-        Map<String, String> result = Map.of("status", "OK", "message", "Ssak3 Backend is running!");
-        System.out.println("반환값: " + result);
-        System.out.println("============ [HomeController.java] HomeController.health() 종료 ============");
-        return result;
+        // 로드 밸런서가 계속 호출하는 경로이므로 로그 없이 고정 응답만 반환
+        return HEALTH_RESPONSE;
     }
 }
@@ -87,7 +87,7 @@ public class LikeController {
     public ResponseEntity<List<Like>> getUserLikes(@PathVariable Long userId) {
         try {
             List<Like> likes = likeService.getUserLikes(userId);
-            log.info("찜 목록 조회 성공: userId={}, count={}", userId, likes != null ? likes.size() : 0);
+            log.debug("찜 목록 조회 성공: userId={}, count={}", userId, likes != null ? likes.size() : 0);
             return ResponseEntity.ok(likes != null ? likes : new ArrayList<>());
         } catch (IllegalArgumentException e) {
             log.error("찜 목록 조회 실패: userId={}, error={}", userId, e.getMessage());
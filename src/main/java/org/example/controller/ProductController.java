@@ -1,14 +1,28 @@
 package org.example.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
+import org.example.dto.BulkImportResult;
+import org.example.dto.ProductBrowseResult;
+import org.example.dto.SimilarProduct;
+import org.example.recommend.SimilarProductRecommender;
+import org.example.service.ProductBrowseService;
+import org.example.service.ProductImportService;
 import org.example.service.ProductService;
+import org.example.view.ProductViewCounter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.cache.EntityTags;
+import org.example.cache.PrecompressedResponseCache;
 import org.example.entity.Product;
+import org.example.repository.ProductRepository;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -19,6 +33,11 @@ import java.util.List;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductImportService productImportService;
+    private final ProductBrowseService productBrowseService;
+    private final ProductViewCounter productViewCounter;
+    private final SimilarProductRecommender similarProductRecommender;
+    private final PrecompressedResponseCache responseCache;
 
     // form-data + 이미지 업로드
     @PostMapping("/with-upload")
@@ -72,7 +91,6 @@ public class ProductController {
             return ResponseEntity.status(500).body((Product) null);
         } catch (Exception e) {
             log.error("상품 등록 중 오류 발생: {}", e.getMessage(), e);
-            e.printStackTrace();
             return ResponseEntity.status(500).body((Product) null);
         }
     }
@@ -111,36 +129,135 @@ public class ProductController {
         }
     }
 
-    // 전체 상품 조회
+    // 일괄 등록 (form-data: 매니페스트 + 이미지들, 또는 zip 압축 파일 하나)
+    @PostMapping(value = "/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<BulkImportResult> importProducts(
+            @RequestParam("sellerId") Long sellerId,
+            @RequestParam(value = "manifest", required = false) MultipartFile manifest,
+            @RequestParam(value = "archive", required = false) MultipartFile archive,
+            @RequestParam(value = "images", required = false) List<MultipartFile> images
+    ) throws IOException {
+        log.info("상품 일괄 등록 요청 - sellerId: {}, manifest: {}, archive: {}, images: {}",
+                sellerId, manifest != null, archive != null, images != null ? images.size() : 0);
+        BulkImportResult result;
+        if (archive != null && !archive.isEmpty()) {
+            try (InputStream in = archive.getInputStream()) {
+                result = productImportService.importArchive(sellerId, in);
+            }
+        } else if (manifest != null && !manifest.isEmpty()) {
+            try (InputStream in = manifest.getInputStream()) {
+                result = productImportService.importManifest(sellerId, in, images);
+            }
+        } else {
+            throw new IllegalArgumentException("manifest 또는 archive 파일이 필요합니다.");
+        }
+        return ResponseEntity.ok(result);
+    }
+
+    // 일괄 등록 (이미지 없이 NDJSON 본문만)
+    @PostMapping(value = "/bulk", consumes = "application/x-ndjson")
+    public ResponseEntity<BulkImportResult> importProductsNdjson(
+            @RequestParam("sellerId") Long sellerId,
+            HttpServletRequest request
+    ) throws IOException {
+        try (InputStream in = request.getInputStream()) {
+            return ResponseEntity.ok(productImportService.importManifest(sellerId, in, List.of()));
+        }
+    }
+
+    // 전체 상품 조회 (미리 압축해 둔 JSON을 그대로 응답, 상품/판매자/카테고리 변경 시 무효화)
     @GetMapping
-    public ResponseEntity<List<Product>> getAllProducts() {
+    public ResponseEntity<?> getAllProducts(WebRequest request) {
         try {
-            log.info("GET /api/products 요청 받음");
-            List<Product> products = productService.getAllProducts();
-            log.info("상품 조회 성공: {}개", products != null ? products.size() : 0);
-            return ResponseEntity.ok(products != null ? products : new ArrayList<>());
+            log.debug("GET /api/products 요청 받음");
+            PrecompressedResponseCache.CachedBody body = responseCache.get(PrecompressedResponseCache.PRODUCT_LIST, () -> {
+                List<Product> products = productService.getAllProducts();
+                log.debug("상품 조회 성공: {}개", products != null ? products.size() : 0);
+                return products != null ? products : new ArrayList<>();
+            });
+            return responseCache.toResponse(body, request);
         } catch (Exception e) {
             log.error("상품 조회 중 오류 발생: {}", e.getMessage(), e);
-            e.printStackTrace();
             // 에러가 발생해도 빈 리스트를 반환하여 500 에러 방지
             return ResponseEntity.ok(new ArrayList<>());
         }
     }
 
-    // 상품 상세 조회
+    // 필터/정렬 조합 탐색 (키셋 페이지네이션, 첫 페이지에 패싯 건수 포함)
+    // 예: GET /api/products/browse?categoryId=1&minPrice=10000&maxPrice=50000&status=ON_SALE&sort=price_asc&size=20
+    @GetMapping("/browse")
+    public ResponseEntity<ProductBrowseResult> browseProducts(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Integer minPrice,
+            @RequestParam(required = false) Integer maxPrice,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        ProductBrowseResult result = productBrowseService.browse(
+                categoryId, minPrice, maxPrice, status, keyword, sort, cursor, size);
+        log.debug("상품 탐색 성공: count={}, hasNext={}", result.items().size(), result.hasNext());
+        return ResponseEntity.ok(result);
+    }
+
+    // 인기 상품 (찜/채팅 신호를 시간 감쇠해 매긴 순위, categoryId 없으면 전체)
+    @GetMapping("/trending")
+    public ResponseEntity<List<Product>> getTrendingProducts(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Integer limit
+    ) {
+        List<Product> products = productBrowseService.trending(categoryId, limit);
+        log.debug("인기 상품 조회 성공: categoryId={}, count={}", categoryId, products.size());
+        return ResponseEntity.ok(products);
+    }
+
+    // 상품 상세 조회 (상품/판매자/카테고리 수정 시각 + DB에 반영된 조회수로 ETag, 변경 없으면 304)
+    // 조회수는 수정 시각을 바꾸지 않으므로 If-Modified-Since만 보내는 클라이언트는 조회수 변경을 304로 받을 수 있음
+    // 304 응답도 조회로 셈 (같은 사용자의 반복 조회는 ProductViewCounter에서 거름)
     @GetMapping("/{id}")
-    public ResponseEntity<Product> getProduct(@PathVariable Long id) {
+    public ResponseEntity<Product> getProduct(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long userId,
+            WebRequest request,
+            HttpServletRequest servletRequest
+    ) {
+        ProductRepository.ProductVersion version = productService.getProductVersion(id).orElse(null);
+        if (version == null) {
+            return ResponseEntity.notFound().build();
+        }
+        productViewCounter.record(id, ProductViewCounter.viewerKey(userId, servletRequest));
+        String etag = EntityTags.weak("product", id, version.getViewCount(),
+                version.getUpdatedAt(), version.getSellerUpdatedAt(), version.getCategoryUpdatedAt());
+        long lastModified = EntityTags.latestMillis(
+                version.getUpdatedAt(), version.getSellerUpdatedAt(), version.getCategoryUpdatedAt());
+        if (EntityTags.checkNotModified(request, etag, lastModified)) {
+            return EntityTags.notModified();
+        }
         return productService.getProductById(id)
-                .map(ResponseEntity::ok)
+                .map(product -> EntityTags.revalidate().body(product))
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    // 비슷한 상품 (함께 찜/문의한 사용자 기준, 부족하면 같은 카테고리 최신 상품. 메모리 인덱스만 조회)
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<List<SimilarProduct>> getSimilarProducts(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        if (limit < 1 || limit > 50) {
+            throw new IllegalArgumentException("조회 개수는 1~50 사이여야 합니다. limit=" + limit);
+        }
+        return ResponseEntity.ok(similarProductRecommender.similar(id, limit));
+    }
+
     // 카테고리별 조회
     @GetMapping("/category/{categoryId}")
     public ResponseEntity<List<Product>> getProductsByCategory(@PathVariable Long categoryId) {
         try {
             List<Product> products = productService.getProductsByCategory(categoryId);
-            log.info("카테고리별 상품 조회 성공: categoryId={}, count={}", categoryId, products != null ? products.size() : 0);
+            log.debug("카테고리별 상품 조회 성공: categoryId={}, count={}", categoryId, products != null ? products.size() : 0);
             return ResponseEntity.ok(products != null ? products : new ArrayList<>());
         } catch (IllegalArgumentException e) {
             log.error("카테고리별 상품 조회 실패: categoryId={}, error={}", categoryId, e.getMessage());
@@ -159,7 +276,7 @@ public class ProductController {
     ) {
         try {
             List<Product> products = productService.getProductsBySeller(sellerId, userId);
-            log.info("판매자별 상품 조회 성공: sellerId={}, userId={}, count={}", sellerId, userId, products != null ? products.size() : 0);
+            log.debug("판매자별 상품 조회 성공: sellerId={}, userId={}, count={}", sellerId, userId, products != null ? products.size() : 0);
             return ResponseEntity.ok(products != null ? products : new ArrayList<>());
         } catch (Exception e) {
             log.error("판매자별 상품 조회 중 오류 발생: sellerId={}, userId={}", sellerId, userId, e);
@@ -171,13 +288,12 @@ public class ProductController {
     @GetMapping("/search")
     public ResponseEntity<List<Product>> searchProducts(@RequestParam String keyword) {
         try {
-            log.info("상품 검색 요청: keyword={}", keyword);
+            log.debug("상품 검색 요청: keyword={}", keyword);
             List<Product> products = productService.searchProducts(keyword);
-            log.info("상품 검색 성공: keyword={}, count={}", keyword, products != null ? products.size() : 0);
+            log.debug("상품 검색 성공: keyword={}, count={}", keyword, products != null ? products.size() : 0);
             return ResponseEntity.ok(products != null ? products : new ArrayList<>());
         } catch (Exception e) {
             log.error("상품 검색 중 오류 발생: keyword={}, error={}", keyword, e.getMessage(), e);
-            e.printStackTrace();
             // 에러가 발생해도 빈 리스트를 반환하여 500 에러 방지
             return ResponseEntity.ok(new ArrayList<>());
         }
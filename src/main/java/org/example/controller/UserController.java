@@ -2,10 +2,15 @@ package org.example.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.auth.service.KakaoProfileCache;
+import org.example.cache.EntityTags;
+import org.example.cache.PrecompressedResponseCache;
 import org.example.entity.UserProfile;
+import org.example.repository.EntityVersion;
 import org.example.repository.UserProfileRepository;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -17,6 +22,8 @@ import java.util.List;
 public class UserController {
 
     private final UserProfileRepository userRepository;
+    private final KakaoProfileCache kakaoProfileCache;
+    private final PrecompressedResponseCache responseCache;
 
     // 유저 등록
     @PostMapping
@@ -47,7 +54,7 @@ public class UserController {
     public ResponseEntity<List<UserProfile>> getAllUsers() {
         try {
             List<UserProfile> users = userRepository.findAll();
-            log.info("유저 조회 성공: {}개", users != null ? users.size() : 0);
+            log.debug("유저 조회 성공: {}개", users != null ? users.size() : 0);
             return ResponseEntity.ok(users != null ? users : new ArrayList<>());
         } catch (Exception e) {
             log.error("유저 조회 중 오류 발생", e);
@@ -55,24 +62,32 @@ public class UserController {
         }
     }
 
-    // 특정 유저 조회 (id 또는 kakaoId로 조회)
+    // 특정 유저 조회 (id 또는 kakaoId로 조회, 수정 시각으로 ETag, 변경 없으면 304)
     @GetMapping("/{id}")
-    public ResponseEntity<UserProfile> getUserById(@PathVariable Long id) {
+    public ResponseEntity<UserProfile> getUserById(@PathVariable Long id, WebRequest request) {
         try {
-            log.info("유저 조회 요청: id={}", id);
+            log.debug("유저 조회 요청: id={}", id);
             
-            // 먼저 UserProfile의 id로 조회 시도
-            UserProfile user = userRepository.findById(id).orElse(null);
-            
-            // id로 찾지 못했으면 kakaoId로 시도
-            if (user == null) {
+            // 먼저 UserProfile의 id로 조회 시도, 찾지 못했으면 kakaoId로 시도 (수정 시각만 조회)
+            EntityVersion version = userRepository.findVersionById(id).orElse(null);
+            if (version == null) {
                 log.debug("UserProfile id로 사용자를 찾지 못함. kakaoId로 시도: {}", id);
-                user = userRepository.findByKakaoId(id);
+                version = userRepository.findVersionByKakaoId(id).orElse(null);
             }
-            
+            if (version == null) {
+                log.warn("유저를 찾을 수 없습니다: id={} (UserProfile id 또는 kakaoId로 조회 실패)", id);
+                return ResponseEntity.notFound().build();
+            }
+
+            String etag = EntityTags.weak("user", version.getId(), version.getUpdatedAt());
+            if (EntityTags.checkNotModified(request, etag, EntityTags.latestMillis(version.getUpdatedAt()))) {
+                return EntityTags.notModified();
+            }
+
+            UserProfile user = userRepository.findById(version.getId()).orElse(null);
             if (user != null) {
-                log.info("유저 조회 성공: userId={}, kakaoId={}, nickname={}", user.getId(), user.getKakaoId(), user.getNickname());
-                return ResponseEntity.ok(user);
+                log.debug("유저 조회 성공: userId={}, kakaoId={}, nickname={}", user.getId(), user.getKakaoId(), user.getNickname());
+                return EntityTags.revalidate().body(user);
             } else {
                 log.warn("유저를 찾을 수 없습니다: id={} (UserProfile id 또는 kakaoId로 조회 실패)", id);
                 return ResponseEntity.notFound().build();
@@ -87,10 +102,10 @@ public class UserController {
     @GetMapping("/kakao/{kakaoId}")
     public ResponseEntity<UserProfile> getUserByKakaoId(@PathVariable Long kakaoId) {
         try {
-            log.info("카카오 ID로 유저 조회 요청: kakaoId={}", kakaoId);
+            log.debug("카카오 ID로 유저 조회 요청: kakaoId={}", kakaoId);
             UserProfile user = userRepository.findByKakaoId(kakaoId);
             if (user != null) {
-                log.info("유저 조회 성공: userId={}, kakaoId={}, nickname={}", user.getId(), user.getKakaoId(), user.getNickname());
+                log.debug("유저 조회 성공: userId={}, kakaoId={}, nickname={}", user.getId(), user.getKakaoId(), user.getNickname());
                 return ResponseEntity.ok(user);
             } else {
                 log.warn("유저를 찾을 수 없습니다: kakaoId={}", kakaoId);
@@ -116,10 +131,10 @@ public class UserController {
             // kakaoId가 없으면 userId로 조회 시도
             UserProfile user = null;
             if (targetKakaoId != null) {
-                log.info("현재 사용자 조회 요청: kakaoId={}", targetKakaoId);
+                log.debug("현재 사용자 조회 요청: kakaoId={}", targetKakaoId);
                 user = userRepository.findByKakaoId(targetKakaoId);
             } else if (userId != null) {
-                log.info("현재 사용자 조회 요청: userId={}", userId);
+                log.debug("현재 사용자 조회 요청: userId={}", userId);
                 // userId로 조회 시도 (내부 ID 또는 kakaoId일 수 있음)
                 user = userRepository.findById(userId).orElse(null);
                 if (user == null) {
@@ -128,7 +143,7 @@ public class UserController {
             }
             
             if (user != null) {
-                log.info("현재 사용자 조회 성공: userId={}, kakaoId={}, nickname={}, temperature={}", 
+                log.debug("현재 사용자 조회 성공: userId={}, kakaoId={}, nickname={}, temperature={}", 
                         user.getId(), user.getKakaoId(), user.getNickname(), user.getTemperature());
                 return ResponseEntity.ok(user);
             } else {
@@ -162,6 +177,8 @@ public class UserController {
             }
 
             UserProfile updated = userRepository.save(existingUser);
+            kakaoProfileCache.evictUser(updated.getId());
+            responseCache.invalidate(PrecompressedResponseCache.PRODUCT_LIST); // 상품 목록에 판매자 정보 포함
             log.info("유저 수정 성공: userId={}, nickname={}", updated.getId(), updated.getNickname());
             return ResponseEntity.ok(updated);
         } catch (IllegalArgumentException e) {
@@ -183,6 +200,8 @@ public class UserController {
             }
 
             userRepository.deleteById(id);
+            kakaoProfileCache.evictUser(id);
+            responseCache.invalidate(PrecompressedResponseCache.PRODUCT_LIST);
             log.info("유저 삭제 성공: userId={}", id);
             return ResponseEntity.noContent().build();
         } catch (Exception e) {
@@ -0,0 +1,36 @@
+package org.example.dto;
+
+import java.util.List;
+
+/**
+ * 상품 일괄 등록 결과. 항목별 성공/실패를 매니페스트 줄 번호와 함께 반환합니다.
+ */
+public record BulkImportResult(
+        int total,
+        int created,
+        int failed,
+        long elapsedMillis,
+        List<Item> items
+) {
+
+    public enum Status {
+        CREATED,
+        FAILED
+    }
+
+    /**
+     * @param line      매니페스트 줄 번호 (1부터)
+     * @param productId 생성된 상품 ID (실패 시 null)
+     * @param error     실패 사유 (성공 시 null)
+     */
+    public record Item(int line, String title, Status status, Long productId, String error) {
+
+        public static Item created(int line, String title, Long productId) {
+            return new Item(line, title, Status.CREATED, productId, null);
+        }
+
+        public static Item failed(int line, String title, String error) {
+            return new Item(line, title, Status.FAILED, null, error);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.dto;
+
+import java.util.List;
+
+/**
+ * 일괄 등록 매니페스트(NDJSON)의 한 줄.
+ *
+ * <pre>{"title":"자전거","price":50000,"description":"...","categoryName":"스포츠","images":["bike1.jpg","bike2.jpg"]}</pre>
+ *
+ * <p>카테고리는 {@code categoryId} 또는 {@code categoryName} 중 하나로 지정합니다.
+ * {@code images}는 같은 요청으로 올린 이미지 파일(또는 압축 파일 안 항목)의 파일명입니다.</p>
+ */
+public record BulkProductItem(
+        String title,
+        Integer price,
+        String description,
+        Long categoryId,
+        String categoryName,
+        List<String> images
+) {
+}
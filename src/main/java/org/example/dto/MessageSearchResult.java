@@ -0,0 +1,33 @@
+package org.example.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 채팅방 내 메시지 검색 결과 한 페이지 (최신 메시지부터).
+ *
+ * @param nextCursor 다음 페이지 요청의 beforeId로 넘길 값 (마지막 페이지면 null)
+ */
+public record MessageSearchResult(
+        List<Hit> hits,
+        Long nextCursor,
+        boolean hasNext
+) {
+
+    /**
+     * 검색어가 포함된 메시지 한 건.
+     *
+     * @param preview         메시지 내용 앞부분 (최대 200자)
+     * @param contextBeforeId 메시지 목록 API({@code GET /rooms/{id}/messages})의 beforeId로 넘기면
+     *                        이 메시지로 끝나는 대화 페이지를 받을 수 있는 커서
+     */
+    public record Hit(
+            Long messageId,
+            Long seq,
+            Long senderId,
+            String preview,
+            LocalDateTime createdAt,
+            Long contextBeforeId
+    ) {
+    }
+}
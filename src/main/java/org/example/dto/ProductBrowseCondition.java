@@ -0,0 +1,61 @@
+package org.example.dto;
+
+import org.example.entity.ProductStatus;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * 상품 탐색 조건. null인 필터는 적용하지 않습니다.
+ *
+ * @param keyword 제목 또는 설명에 포함된 문자열
+ * @param cursor  이전 페이지 마지막 상품의 정렬 키 (첫 페이지는 null)
+ * @param size    페이지 크기
+ */
+public record ProductBrowseCondition(
+        Long categoryId,
+        Integer minPrice,
+        Integer maxPrice,
+        ProductStatus status,
+        String keyword,
+        Sort sort,
+        Cursor cursor,
+        int size
+) {
+
+    /**
+     * 정렬 순서. 값이 같을 때는 항상 상품 ID로 순서를 정해 키셋 페이지네이션이 안정적으로 동작합니다.
+     */
+    public enum Sort {
+        /** created_at DESC, id DESC */
+        LATEST,
+        /** price ASC, id ASC */
+        PRICE_ASC,
+        /** price DESC, id DESC */
+        PRICE_DESC;
+
+        public static Sort from(String value) {
+            if (value == null || value.isBlank()) {
+                return LATEST;
+            }
+            try {
+                return Sort.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("지원하지 않는 정렬입니다: " + value + " (latest, price_asc, price_desc)");
+            }
+        }
+    }
+
+    /**
+     * 키셋 커서. 정렬 기준에 해당하는 값({@code createdAt} 또는 {@code price})과 상품 ID만 채워집니다.
+     */
+    public record Cursor(Sort sort, LocalDateTime createdAt, Integer price, long id) {
+    }
+
+    /**
+     * 패싯 캐시 키. 페이지와 정렬에 관계없이 필터가 같으면 패싯 결과도 같습니다.
+     */
+    public ProductBrowseCondition withoutPaging() {
+        return new ProductBrowseCondition(categoryId, minPrice, maxPrice, status, keyword, null, null, 0);
+    }
+}
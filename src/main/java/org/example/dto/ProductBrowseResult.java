@@ -0,0 +1,47 @@
+package org.example.dto;
+
+import org.example.entity.Product;
+import org.example.entity.ProductStatus;
+
+import java.util.List;
+
+/**
+ * 상품 탐색 결과 한 페이지.
+ *
+ * @param nextCursor 다음 페이지 요청에 그대로 넘길 커서 (마지막 페이지면 null)
+ * @param facets     첫 페이지(커서 없는 요청)에만 포함되는 필터별 건수
+ */
+public record ProductBrowseResult(
+        List<Product> items,
+        String nextCursor,
+        boolean hasNext,
+        Facets facets
+) {
+
+    /**
+     * 필터별 건수. 각 항목은 자기 차원의 필터만 빼고 나머지 필터를 모두 적용한 건수입니다.
+     * (예: 카테고리 건수는 가격/상태/키워드 필터를 적용한 상태에서 카테고리별로 센 값)
+     *
+     * @param total 모든 필터를 적용한 전체 건수
+     */
+    public record Facets(
+            long total,
+            List<CategoryCount> categories,
+            List<StatusCount> statuses,
+            List<PriceRangeCount> priceRanges
+    ) {
+    }
+
+    public record CategoryCount(Long categoryId, String categoryName, long count) {
+    }
+
+    public record StatusCount(ProductStatus status, long count) {
+    }
+
+    /**
+     * @param minPrice 이상 (포함)
+     * @param maxPrice 미만 (마지막 구간은 null)
+     */
+    public record PriceRangeCount(int minPrice, Integer maxPrice, long count) {
+    }
+}
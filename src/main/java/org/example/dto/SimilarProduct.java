@@ -0,0 +1,19 @@
+package org.example.dto;
+
+import org.example.entity.ProductStatus;
+
+/**
+ * 비슷한 상품 목록의 한 항목. 추천 인덱스에 보관된 요약 정보만 담습니다.
+ *
+ * @param score 함께 찜/문의한 사용자 기준 코사인 유사도 (같은 카테고리로 채운 항목은 0)
+ */
+public record SimilarProduct(
+        Long id,
+        String title,
+        int price,
+        ProductStatus status,
+        Long categoryId,
+        String thumbnailUrl,
+        double score
+) {
+}
@@ -2,11 +2,13 @@ package org.example.entity;
 
 import jakarta.persistence.*;
 import lombok.Getter;
+import org.example.monitoring.QueryCountEntityListener;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @MappedSuperclass
+@EntityListeners(QueryCountEntityListener.class)
 @Getter
 public abstract class BaseEntity {
 
@@ -16,6 +18,12 @@ public abstract class BaseEntity {
 
     @UpdateTimestamp
     private LocalDateTime updatedAt;
+
+    // 보관 데이터에서 복원하거나 복사한 읽기 전용 객체용 (저장하지 않는 엔티티에만 사용)
+    protected void restoreTimestamps(LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
 }
 
 
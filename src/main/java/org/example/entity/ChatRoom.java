@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -43,8 +44,32 @@ public class ChatRoom extends BaseEntity {
     @JsonIgnore
     private Product product;
 
-    // 메시지 목록
-    @OneToMany(mappedBy = "chatRoom", cascade = CascadeType.ALL, orphanRemoval = true)
+    // 마지막으로 발급한 메시지 순번 (메시지 전송 시 ChatRoomRepository.incrementMessageSeq로만 변경)
+    @Column(name = "last_message_seq", nullable = false)
+    @JsonIgnore
+    private long lastMessageSeq;
+
+    // 구매자/판매자가 마지막으로 읽은 메시지 순번 (읽음 커서)
+    @Column(name = "buyer_last_read_seq", nullable = false)
+    @JsonIgnore
+    private long buyerLastReadSeq;
+
+    @Column(name = "seller_last_read_seq", nullable = false)
+    @JsonIgnore
+    private long sellerLastReadSeq;
+
+    // 마지막 메시지 요약 (메시지 전송 시 ChatRoomRepository.updateLastMessage로만 변경)
+    @Embedded
+    @JsonIgnore
+    private LastMessageSnapshot lastMessageSnapshot;
+
+    // 이 순번까지의 메시지는 message_archives로 옮겨짐 (0이면 보관된 메시지 없음)
+    @Column(name = "archived_through_seq", nullable = false)
+    @JsonIgnore
+    private long archivedThroughSeq;
+
+    // 메시지 목록 (채팅방 삭제 시 메시지는 ChatService에서 한 번에 삭제)
+    @OneToMany(mappedBy = "chatRoom")
     @JsonIgnore
     @Builder.Default
     private List<Message> messages = new ArrayList<>();
@@ -80,26 +105,43 @@ public class ChatRoom extends BaseEntity {
         return product;
     }
 
-    // 최근 메시지 정보 (채팅방 목록에서 사용)
+    // 최근 메시지 정보 (채팅방 목록에서 사용, 메시지 컬렉션 대신 마지막 메시지 요약으로 응답)
     @JsonGetter("lastMessage")
-    public Message getLastMessage() {
-        try {
-            if (messages == null || messages.isEmpty()) {
-                return null;
-            }
-            // 생성 시간 기준으로 최신 메시지 반환
-            return messages.stream()
-                    .max((m1, m2) -> {
-                        if (m1.getCreatedAt() == null && m2.getCreatedAt() == null) return 0;
-                        if (m1.getCreatedAt() == null) return -1;
-                        if (m2.getCreatedAt() == null) return 1;
-                        return m1.getCreatedAt().compareTo(m2.getCreatedAt());
-                    })
-                    .orElse(null);
-        } catch (Exception e) {
-            // LazyInitializationException 등 예외 발생 시 null 반환
+    public LastMessage getLastMessage() {
+        if (lastMessageSnapshot == null || lastMessageSnapshot.getMessageId() == null) {
             return null;
         }
+        Long senderId = lastMessageSnapshot.getSenderId();
+        boolean sentByBuyer = senderId != null && senderId.equals(getBuyerId());
+        UserProfile sender = sentByBuyer ? buyer : senderId != null && senderId.equals(getSellerId()) ? seller : null;
+        // 마지막 메시지의 순번은 lastMessageSeq이므로 받는 사람의 읽음 커서와 비교
+        long recipientCursor = sentByBuyer ? sellerLastReadSeq : buyerLastReadSeq;
+        return new LastMessage(lastMessageSnapshot.getMessageId(), id, senderId, sender,
+                lastMessageSnapshot.getPreview(), lastMessageSeq <= recipientCursor, lastMessageSnapshot.getSentAt());
+    }
+
+    /**
+     * 채팅방 목록의 마지막 메시지 응답. 메시지 응답과 같은 필드 이름을 사용합니다.
+     */
+    public record LastMessage(Long id, Long chatRoomId, Long senderId, UserProfile sender,
+                              String content, boolean read, LocalDateTime createdAt) {
+    }
+
+    /**
+     * 사용자가 읽지 않은 메시지 수. 메시지를 보내면 보낸 사람의 읽음 커서도 함께 이동하므로
+     * 커서 이후의 메시지는 모두 상대방이 보낸 메시지입니다.
+     */
+    public long unreadCountFor(Long userId) {
+        if (userId == null) {
+            return 0L;
+        }
+        if (userId.equals(getBuyerId())) {
+            return Math.max(0L, lastMessageSeq - buyerLastReadSeq);
+        }
+        if (userId.equals(getSellerId())) {
+            return Math.max(0L, lastMessageSeq - sellerLastReadSeq);
+        }
+        return 0L;
     }
 
     // 읽지 않은 메시지 수 (현재 사용자 기준으로 계산)
@@ -0,0 +1,46 @@
+package org.example.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방의 마지막 메시지 요약. 메시지 전송과 같은 트랜잭션에서 chat_rooms 행에 함께 저장되므로
+ * 채팅방 목록은 messages 테이블을 읽지 않습니다.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LastMessageSnapshot {
+
+    public static final int PREVIEW_LENGTH = 200;
+
+    @Column(name = "last_message_id")
+    private Long messageId;
+
+    // 미리보기 내용 (앞 PREVIEW_LENGTH자)
+    @Column(name = "last_message_preview", length = PREVIEW_LENGTH)
+    private String preview;
+
+    @Column(name = "last_message_sender_id")
+    private Long senderId;
+
+    @Column(name = "last_message_at")
+    private LocalDateTime sentAt;
+
+    /**
+     * 메시지 내용을 미리보기 길이로 자릅니다. (서로게이트 쌍은 나누지 않음)
+     */
+    public static String preview(String content) {
+        if (content == null || content.length() <= PREVIEW_LENGTH) {
+            return content;
+        }
+        int end = Character.isHighSurrogate(content.charAt(PREVIEW_LENGTH - 1)) ? PREVIEW_LENGTH - 1 : PREVIEW_LENGTH;
+        return content.substring(0, end);
+    }
+}
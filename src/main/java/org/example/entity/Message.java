@@ -6,6 +6,8 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Getter
 @Setter
@@ -36,11 +38,46 @@ public class Message extends BaseEntity {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
-    // 읽음 여부
+    // 채팅방 안에서의 메시지 순번 (1부터 1씩 증가, ChatRoom.lastMessageSeq로 발급)
     @Column(nullable = false)
+    private Long seq;
+
+    // 읽음 여부 (DB에 저장하지 않고 상대방의 읽음 커서로 계산해 채움)
+    @Transient
     @Builder.Default
     private boolean isRead = false;
 
+    /**
+     * 보관된 메시지를 응답용 객체로 복원합니다. 영속성 컨텍스트에 넣거나 저장하지 않습니다.
+     */
+    public static Message restored(Long id, ChatRoom chatRoom, UserProfile sender, Long seq, String content,
+                                   LocalDateTime createdAt) {
+        Message message = Message.builder()
+                .id(id)
+                .chatRoom(chatRoom)
+                .sender(sender)
+                .seq(seq)
+                .content(content)
+                .build();
+        message.restoreTimestamps(createdAt, createdAt);
+        return message;
+    }
+
+    /**
+     * 읽음 여부를 뺀 복사본을 만듭니다. (최근 메시지 버퍼가 보관/응답할 때 사용, 영속성 컨텍스트와 무관)
+     */
+    public Message copy() {
+        Message copy = Message.builder()
+                .id(id)
+                .chatRoom(chatRoom)
+                .sender(sender)
+                .seq(seq)
+                .content(content)
+                .build();
+        copy.restoreTimestamps(getCreatedAt(), getUpdatedAt());
+        return copy;
+    }
+
     // 프론트엔드가 기대하는 형식에 맞추기 위한 getter 메서드들
     @JsonGetter("chatRoomId")
     public Long getChatRoomId() {
@@ -5,6 +5,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -55,8 +57,14 @@ public class Product extends BaseEntity {
     @Builder.Default
     private ProductStatus status = ProductStatus.ON_SALE;
 
+    // 조회수 (ProductViewCounter가 주기적으로 SQL로 더함, JPA 저장 시에는 건드리지 않음)
+    @Column(name = "view_count", nullable = false, insertable = false, updatable = false)
+    @Builder.Default
+    private long viewCount = 0;
+
     // 이미지 목록
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)  // 이미지 id 목록을 2차 캐시에 저장 (ProductImage 영역과 함께 사용)
     @JsonIgnore  // images 필드는 직접 직렬화하지 않고, imageUrls getter를 통해 제공
     @Builder.Default
     private List<ProductImage> images = new ArrayList<>();
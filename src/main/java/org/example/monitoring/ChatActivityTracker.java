@@ -0,0 +1,49 @@
+package org.example.monitoring;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 최근 메시지를 보내거나 조회(폴링)한 채팅방을 추적해 "활성 채팅방 수" 게이지에 사용합니다.
+ *
+ * <p>채팅은 프론트엔드가 메시지 목록을 주기적으로 조회하는 방식이므로,
+ * 마지막 조회/전송 시각이 {@link #ACTIVE_WINDOW} 안에 있는 채팅방을 구독 중인 것으로 봅니다.
+ * 오래된 항목은 게이지를 읽을 때 함께 정리합니다.</p>
+ */
+@Component
+public class ChatActivityTracker {
+
+    static final Duration ACTIVE_WINDOW = Duration.ofMinutes(5);
+    private static final int PRUNE_THRESHOLD = 100_000;
+
+    private final ConcurrentMap<Long, Long> lastActivityMillis = new ConcurrentHashMap<>();
+
+    /**
+     * 채팅방에서 활동(메시지 전송, 메시지 조회)이 있었음을 기록합니다.
+     */
+    public void touch(Long chatRoomId) {
+        if (chatRoomId == null) {
+            return;
+        }
+        lastActivityMillis.put(chatRoomId, System.currentTimeMillis());
+        if (lastActivityMillis.size() > PRUNE_THRESHOLD) {
+            prune(System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 최근 {@link #ACTIVE_WINDOW} 안에 활동이 있었던 채팅방 수를 반환합니다.
+     */
+    public int activeRoomCount() {
+        prune(System.currentTimeMillis());
+        return lastActivityMillis.size();
+    }
+
+    private void prune(long now) {
+        long threshold = now - ACTIVE_WINDOW.toMillis();
+        lastActivityMillis.values().removeIf(lastActivity -> lastActivity < threshold);
+    }
+}
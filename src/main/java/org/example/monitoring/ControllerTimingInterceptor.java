@@ -0,0 +1,51 @@
+package org.example.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모든 컨트롤러 메서드의 처리 시간을 {@code ssak3.controller.invocations} 타이머로 기록합니다.
+ *
+ * <p>{@code http.server.requests}는 URI 패턴 기준이라 여러 경로를 받는 메서드(예: ChatController)가 나뉘어 집계되므로,
+ * 컨트롤러 클래스/메서드 이름 기준으로 따로 기록합니다. 백분위 히스토그램을 함께 내보냅니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ControllerTimingInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = ControllerTimingInterceptor.class.getName() + ".start";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(handler instanceof HandlerMethod handlerMethod) || !(request.getAttribute(START_ATTRIBUTE) instanceof Long start)) {
+            return;
+        }
+        int status = response.getStatus();
+        Timer.builder("ssak3.controller.invocations")
+                .description("컨트롤러 메서드 처리 시간")
+                .tags("controller", handlerMethod.getBeanType().getSimpleName(),
+                        "method", handlerMethod.getMethod().getName(),
+                        "outcome", ex != null || status >= 500 ? "SERVER_ERROR" : status >= 400 ? "CLIENT_ERROR" : "SUCCESS")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+}
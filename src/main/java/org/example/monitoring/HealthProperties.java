@@ -0,0 +1,33 @@
+package org.example.monitoring;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 준비 상태(readiness) 점검 설정입니다. (ssak3.health.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ssak3.health")
+public class HealthProperties {
+
+    /**
+     * 의존성 점검 주기(밀리초). 프로브 요청은 마지막 점검 결과만 읽습니다.
+     */
+    @Value("${ssak3.health.refresh-interval-ms:10000}")
+    private long refreshIntervalMs = 10000;
+
+    /**
+     * DB 연결 유효성 검사 타임아웃(초).
+     */
+    @Value("${ssak3.health.db-validation-timeout-seconds:2}")
+    private int dbValidationTimeoutSeconds = 2;
+
+    /**
+     * 업로드 디렉토리에 남아 있어야 하는 최소 여유 공간(MB). 이보다 적으면 DOWN.
+     */
+    @Value("${ssak3.health.min-free-disk-mb:100}")
+    private long minFreeDiskMb = 100;
+}
@@ -0,0 +1,180 @@
+package org.example.monitoring;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.auth.client.KakaoCircuitBreaker;
+import org.example.config.ReadWriteRoutingDataSource;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.File;
+import java.sql.Connection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 준비 상태 점검에 필요한 의존성 상태를 백그라운드에서 주기적으로 계산해 보관합니다.
+ *
+ * <p>프로브가 호출될 때마다 DB 커넥션을 잡거나 디스크를 조회하지 않도록,
+ * {@link ReadinessHealthIndicators}는 여기서 만든 마지막 스냅샷만 읽습니다.</p>
+ *
+ * <p>읽기 전용 레플리카가 설정되어 있으면 레플리카 풀도 점검하고, 실패하면 복구될 때까지
+ * 읽기 전용 트랜잭션을 프라이머리로 보내도록 {@link ReadWriteRoutingDataSource}에 표시합니다.</p>
+ *
+ * <p>{@code @Scheduled} 공용 풀이 아닌 전용 스레드에서 실행합니다. 공용 풀에서 긴 작업(비슷한 상품 전체 재계산,
+ * 메시지 보관 등)이 돌고 있어도 스냅샷이 밀려 오래된 것으로 판단되지 않도록 하기 위해서입니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HealthSnapshotRefresher {
+
+    /** 상품 이미지 저장 위치 (ProductService, WebConfig와 동일) */
+    private static final File UPLOAD_DIR = new File(System.getProperty("user.dir"), "uploads");
+
+    private final DataSource dataSource;
+    private final KakaoCircuitBreaker kakaoCircuitBreaker;
+    private final HealthProperties healthProperties;
+
+    private final ScheduledExecutorService refreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "health-refresher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 점검 결과 한 건입니다.
+     *
+     * @param up      정상 여부
+     * @param details 상세 값
+     */
+    public record Check(boolean up, Map<String, Object> details) {
+    }
+
+    /**
+     * 한 번의 점검 주기에서 계산한 결과 묶음입니다.
+     */
+    public record Snapshot(long refreshedAtMillis, Check database, Check replica, Check uploadDisk, Check kakao) {
+    }
+
+    @PostConstruct
+    void start() {
+        refreshExecutor.scheduleWithFixedDelay(() -> {
+            try {
+                refresh();
+            } catch (Exception e) {
+                // 예외가 나가면 이후 실행이 취소되므로 여기서 막음 (스냅샷이 오래되면 준비 상태가 내려감)
+                log.warn("헬스 체크 스냅샷 갱신 실패: {}", e.getMessage());
+            }
+        }, 0, healthProperties.getRefreshIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        refreshExecutor.shutdownNow();
+    }
+
+    public void refresh() {
+        ReadWriteRoutingDataSource routing = DataSourceUnwrapper.unwrap(dataSource, ReadWriteRoutingDataSource.class);
+        snapshot = new Snapshot(System.currentTimeMillis(), checkDatabase(routing), checkReplica(routing),
+                checkUploadDisk(), checkKakao());
+    }
+
+    /**
+     * 마지막 스냅샷을 반환합니다. 아직 한 번도 점검하지 않았다면 null입니다.
+     */
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 스냅샷이 점검 주기의 3배 이상 갱신되지 않았다면 점검 스레드가 멈춘 것으로 봅니다.
+     */
+    public boolean isStale(Snapshot current) {
+        return current == null
+                || System.currentTimeMillis() - current.refreshedAtMillis() > healthProperties.getRefreshIntervalMs() * 3;
+    }
+
+    // 트랜잭션 밖 연결은 라우팅에서도 프라이머리로 가므로 dataSource로 유효성을 확인하고, 풀 수치는 프라이머리 풀에서 읽음
+    private Check checkDatabase(ReadWriteRoutingDataSource routing) {
+        DataSource primary = routing != null
+                ? routing.getResolvedDataSources().get(ReadWriteRoutingDataSource.Route.PRIMARY)
+                : dataSource;
+        return checkPool(primary, dataSource);
+    }
+
+    // 레플리카가 없으면 점검하지 않음 (configured=false)
+    private Check checkReplica(ReadWriteRoutingDataSource routing) {
+        DataSource replica = routing != null
+                ? routing.getResolvedDataSources().get(ReadWriteRoutingDataSource.Route.REPLICA)
+                : null;
+        if (replica == null) {
+            return new Check(true, Map.of("configured", false));
+        }
+        Check check = checkPool(replica, replica);
+        if (check.up() != routing.isReplicaAvailable()) {
+            if (check.up()) {
+                log.info("레플리카가 복구되어 읽기 전용 트랜잭션을 다시 레플리카로 보냅니다.");
+            } else {
+                log.warn("레플리카 점검 실패 - 복구될 때까지 읽기 전용 트랜잭션을 프라이머리로 보냅니다.");
+            }
+            routing.setReplicaAvailable(check.up());
+        }
+        check.details().put("routing", check.up() ? "replica" : "primary (fallback)");
+        return check;
+    }
+
+    private Check checkPool(DataSource poolSource, DataSource connectionSource) {
+        Map<String, Object> details = new LinkedHashMap<>();
+        HikariDataSource hikari = DataSourceUnwrapper.unwrap(poolSource, HikariPoolMXBean.class, HikariDataSource.class);
+        if (hikari != null && hikari.getHikariPoolMXBean() != null) {
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            details.put("pool", hikari.getPoolName());
+            details.put("active", pool.getActiveConnections());
+            details.put("idle", pool.getIdleConnections());
+            details.put("total", pool.getTotalConnections());
+            details.put("maximumPoolSize", hikari.getMaximumPoolSize());
+            details.put("threadsAwaitingConnection", pool.getThreadsAwaitingConnection());
+        }
+        long start = System.nanoTime();
+        try (Connection connection = connectionSource.getConnection()) {
+            boolean valid = connection.isValid(healthProperties.getDbValidationTimeoutSeconds());
+            details.put("validationMillis", (System.nanoTime() - start) / 1_000_000);
+            return new Check(valid, details);
+        } catch (Exception e) {
+            log.warn("DB 상태 점검 실패 ({}): {}", details.getOrDefault("pool", "dataSource"), e.getMessage());
+            details.put("error", e.getClass().getSimpleName() + ": " + e.getMessage());
+            return new Check(false, details);
+        }
+    }
+
+    private Check checkUploadDisk() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        // 업로드 디렉토리가 아직 없으면 생성될 상위 디렉토리 기준으로 확인
+        File target = UPLOAD_DIR.exists() ? UPLOAD_DIR : UPLOAD_DIR.getAbsoluteFile().getParentFile();
+        long free = target.getUsableSpace();
+        long threshold = healthProperties.getMinFreeDiskMb() * 1024 * 1024;
+        details.put("path", UPLOAD_DIR.getAbsolutePath());
+        details.put("free", free);
+        details.put("total", target.getTotalSpace());
+        details.put("threshold", threshold);
+        return new Check(free >= threshold, details);
+    }
+
+    private Check checkKakao() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("circuit", kakaoCircuitBreaker.getState().name());
+        details.put("consecutiveFailures", kakaoCircuitBreaker.getConsecutiveFailures());
+        return new Check(kakaoCircuitBreaker.getState() != KakaoCircuitBreaker.State.OPEN, details);
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.monitoring;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * 컨테이너의 DataSource 빈을 {@link QueryCountingDataSource}로 감쌉니다.
+ *
+ * <p>레플리카 라우팅을 쓰면 프라이머리/레플리카 풀을 각각 감싸고, 그 위의 라우팅 프록시
+ * ({@link LazyConnectionDataSourceProxy})는 감싸지 않아 같은 문장을 두 번 세지 않습니다.</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "ssak3.query-count", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryCountDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource
+                && !(bean instanceof QueryCountingDataSource)
+                && !(bean instanceof LazyConnectionDataSourceProxy)) {
+            return new QueryCountingDataSource(dataSource);
+        }
+        return bean;
+    }
+}
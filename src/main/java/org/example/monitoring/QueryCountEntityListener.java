@@ -0,0 +1,15 @@
+package org.example.monitoring;
+
+import jakarta.persistence.PostLoad;
+
+/**
+ * DB에서 엔티티가 로딩될 때마다 {@link QueryStats}의 엔티티 로딩 수를 늘립니다.
+ * {@code BaseEntity}에 등록되어 모든 엔티티에 적용됩니다.
+ */
+public class QueryCountEntityListener {
+
+    @PostLoad
+    public void onPostLoad(Object entity) {
+        QueryStats.recordEntityLoad();
+    }
+}
@@ -0,0 +1,114 @@
+package org.example.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP 요청마다 JDBC 문장 수, DB 시간, 엔티티 로딩 수를 측정합니다.
+ *
+ * <ul>
+ *     <li>항상: {@code ssak3.request.statements}, {@code ssak3.request.db.time},
+ *     {@code ssak3.request.entity.loads} 메트릭을 엔드포인트별로 기록</li>
+ *     <li>{@code ssak3.query-count.headers-enabled=true}(개발): 응답 헤더로 값 노출</li>
+ *     <li>예산을 넘으면 N+1 의심 경고 로그</li>
+ * </ul>
+ *
+ * <p>open-in-view로 JSON 직렬화 중에도 지연 로딩 쿼리가 실행되므로, 헤더를 붙일 때는
+ * 응답 본문을 버퍼링했다가 측정이 끝난 뒤 내보냅니다.</p>
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "ssak3.query-count", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String QUERY_TIME_HEADER = "X-Query-Time-Ms";
+    public static final String ENTITY_LOAD_HEADER = "X-Entity-Load-Count";
+
+    private final QueryCountProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        // 내보내기는 본문을 버퍼링하면 스트리밍이 깨지고, 행 수만큼 엔티티를 읽어 예산 경고가 의미 없으므로 제외
+        return uri.startsWith("/uploads/") || uri.startsWith("/h2-console") || uri.startsWith("/actuator")
+                || uri.startsWith("/api/export/") || uri.equals("/livez") || uri.equals("/readyz");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper cachingResponse = properties.isHeadersEnabled()
+                ? new ContentCachingResponseWrapper(response)
+                : null;
+
+        QueryStats stats = QueryStats.begin();
+        try {
+            filterChain.doFilter(request, cachingResponse != null ? cachingResponse : response);
+        } finally {
+            stats.close();
+            record(request, stats);
+            if (cachingResponse != null) {
+                cachingResponse.setHeader(QUERY_COUNT_HEADER, String.valueOf(stats.getStatementCount()));
+                cachingResponse.setHeader(QUERY_TIME_HEADER, String.format("%.2f", stats.getDbTimeMillis()));
+                cachingResponse.setHeader(ENTITY_LOAD_HEADER, String.valueOf(stats.getEntityLoadCount()));
+                cachingResponse.copyBodyToResponse();
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryStats stats) {
+        String method = request.getMethod();
+        String uri = uriTag(request);
+
+        DistributionSummary.builder("ssak3.request.statements")
+                .description("요청당 JDBC 문장 수")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(stats.getStatementCount());
+        Timer.builder("ssak3.request.db.time")
+                .description("요청당 DB 실행 시간 합계")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(stats.getDbTimeNanos(), TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("ssak3.request.entity.loads")
+                .description("요청당 엔티티 로딩 수")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(stats.getEntityLoadCount());
+
+        if (stats.getStatementCount() > properties.getStatementBudget()
+                || stats.getEntityLoadCount() > properties.getEntityLoadBudget()) {
+            log.warn("쿼리 예산 초과 (N+1 의심) - {} {}: {} (예산: statements={}, entityLoads={})",
+                    method, uri, stats, properties.getStatementBudget(), properties.getEntityLoadBudget());
+        }
+    }
+
+    /**
+     * 경로 변수 값 대신 매핑 패턴을 사용해 메트릭 태그 수가 늘어나지 않도록 합니다.
+     */
+    private static String uriTag(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.monitoring;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 요청별 쿼리 수 측정 설정입니다. (ssak3.query-count.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ssak3.query-count")
+public class QueryCountProperties {
+
+    /**
+     * 측정 사용 여부. 끄면 DataSource도 감싸지 않습니다.
+     * 환경 변수: SSAK3_QUERY_COUNT_ENABLED
+     */
+    @Value("${ssak3.query-count.enabled:true}")
+    private boolean enabled = true;
+
+    /**
+     * 응답 헤더(X-Query-Count, X-Query-Time-Ms, X-Entity-Load-Count) 추가 여부.
+     * <p>응답 본문을 버퍼링해야 하므로 개발 환경에서만 켭니다.</p>
+     */
+    @Value("${ssak3.query-count.headers-enabled:false}")
+    private boolean headersEnabled = false;
+
+    /**
+     * 요청 하나에 허용하는 JDBC 문장 수. 넘으면 경고 로그를 남깁니다.
+     */
+    @Value("${ssak3.query-count.statement-budget:20}")
+    private int statementBudget = 20;
+
+    /**
+     * 요청 하나에 허용하는 엔티티 로딩 수. 넘으면 경고 로그를 남깁니다.
+     */
+    @Value("${ssak3.query-count.entity-load-budget:500}")
+    private int entityLoadBudget = 500;
+}
@@ -0,0 +1,93 @@
+package org.example.monitoring;
+
+/**
+ * 현재 스레드에서 실행된 JDBC 문장 수, DB 시간, 엔티티 로딩 수를 모읍니다.
+ *
+ * <p>{@link QueryCountFilter}가 HTTP 요청마다 {@link #begin()}으로 측정을 시작하고,
+ * {@link QueryCountingDataSource}와 {@link QueryCountEntityListener}가 값을 더합니다.
+ * 측정 중이 아닌 스레드(스케줄러, 애플리케이션 시작 등)에서는 아무것도 기록하지 않습니다.</p>
+ *
+ * <pre>{@code
+ * try (QueryStats stats = QueryStats.begin()) {
+ *     chatService.getUserChatRooms(userId);
+ *     log.debug("statements={}", stats.getStatementCount());
+ * }
+ * }</pre>
+ */
+public final class QueryStats implements AutoCloseable {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private final QueryStats previous;
+    private int statementCount;
+    private long dbTimeNanos;
+    private int entityLoadCount;
+
+    private QueryStats(QueryStats previous) {
+        this.previous = previous;
+    }
+
+    /**
+     * 현재 스레드에서 새 측정 구간을 시작합니다. 이미 측정 중이면 바깥 구간에도 값이 함께 더해집니다.
+     */
+    public static QueryStats begin() {
+        QueryStats stats = new QueryStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * 현재 스레드의 측정 구간을 반환합니다. 측정 중이 아니면 null입니다.
+     */
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    static void recordStatement(long elapsedNanos) {
+        for (QueryStats stats = CURRENT.get(); stats != null; stats = stats.previous) {
+            stats.statementCount++;
+            stats.dbTimeNanos += elapsedNanos;
+        }
+    }
+
+    static void recordEntityLoad() {
+        for (QueryStats stats = CURRENT.get(); stats != null; stats = stats.previous) {
+            stats.entityLoadCount++;
+        }
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getDbTimeNanos() {
+        return dbTimeNanos;
+    }
+
+    public double getDbTimeMillis() {
+        return dbTimeNanos / 1_000_000.0;
+    }
+
+    public int getEntityLoadCount() {
+        return entityLoadCount;
+    }
+
+    /**
+     * 측정 구간을 끝내고 바깥 구간(있다면)으로 되돌립니다.
+     */
+    @Override
+    public void close() {
+        if (CURRENT.get() == this) {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("statements=%d, dbTime=%.2fms, entityLoads=%d", statementCount, getDbTimeMillis(), entityLoadCount);
+    }
+}
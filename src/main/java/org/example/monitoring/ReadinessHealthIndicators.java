@@ -0,0 +1,61 @@
+package org.example.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.Function;
+
+/**
+ * {@link HealthSnapshotRefresher}의 마지막 스냅샷을 읽기만 하는 헬스 인디케이터들입니다.
+ * 프로브 호출 비용은 필드 읽기 수준입니다.
+ *
+ * <ul>
+ *     <li>{@code dbPool}: 커넥션 풀 상태와 연결 유효성 - 실패 시 DOWN</li>
+ *     <li>{@code dbReplica}: 읽기 전용 레플리카 풀 상태 - 실패하면 읽기가 프라이머리로 넘어가므로 DOWN이 아닌 상세 값으로만 알림</li>
+ *     <li>{@code uploadDisk}: 업로드 디렉토리 여유 공간 - 기준 미만이면 DOWN</li>
+ *     <li>{@code kakao}: 카카오 API 서킷 상태 - 로그인 외 기능은 정상이므로 OPEN이어도 DOWN이 아닌 상세 값으로만 알림</li>
+ * </ul>
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ReadinessHealthIndicators {
+
+    private final HealthSnapshotRefresher refresher;
+
+    @Bean
+    public HealthIndicator dbPoolHealthIndicator() {
+        return () -> toHealth(HealthSnapshotRefresher.Snapshot::database, true);
+    }
+
+    @Bean
+    public HealthIndicator dbReplicaHealthIndicator() {
+        return () -> toHealth(HealthSnapshotRefresher.Snapshot::replica, false);
+    }
+
+    @Bean
+    public HealthIndicator uploadDiskHealthIndicator() {
+        return () -> toHealth(HealthSnapshotRefresher.Snapshot::uploadDisk, true);
+    }
+
+    @Bean
+    public HealthIndicator kakaoHealthIndicator() {
+        return () -> toHealth(HealthSnapshotRefresher.Snapshot::kakao, false);
+    }
+
+    private Health toHealth(Function<HealthSnapshotRefresher.Snapshot, HealthSnapshotRefresher.Check> selector,
+                            boolean failWhenDown) {
+        HealthSnapshotRefresher.Snapshot snapshot = refresher.getSnapshot();
+        if (refresher.isStale(snapshot)) {
+            Health.Builder builder = failWhenDown ? Health.outOfService() : Health.unknown();
+            return builder.withDetail("reason", "점검 결과가 아직 없거나 오래되었습니다.").build();
+        }
+        HealthSnapshotRefresher.Check check = selector.apply(snapshot);
+        Health.Builder builder = check.up() || !failWhenDown ? Health.up() : Health.down();
+        return builder.withDetails(check.details())
+                .withDetail("checkedAt", snapshot.refreshedAtMillis())
+                .build();
+    }
+}
@@ -0,0 +1,124 @@
+package org.example.monitoring;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.example.auth.service.KakaoProfileCache;
+import org.example.cache.PrecompressedResponseCache;
+import org.example.chat.GroupCommitMessageWriter;
+import org.example.chat.RecentMessageBuffer;
+import org.example.recommend.SimilarProductRecommender;
+import org.example.trending.TrendingEngine;
+import org.example.view.ProductViewCounter;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 내부 상태를 게이지로 등록합니다.
+ *
+ * <ul>
+ *     <li>{@code ssak3.chat.active.rooms}: 최근 5분 안에 활동이 있었던 채팅방 수</li>
+ *     <li>{@code ssak3.cache.gets}/{@code ssak3.cache.hit.ratio}/{@code ssak3.cache.size}: 카카오 프로필 캐시, 목록 응답 캐시, 채팅방 최근 메시지 버퍼 적중률</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class Ssak3MetricsBinder implements MeterBinder {
+
+    private static final String KAKAO_PROFILE_CACHE = "kakaoProfile";
+    private static final String RESPONSE_CACHE = "precompressedResponse";
+    private static final String CHAT_BUFFER = "recentMessages";
+
+    private final ChatActivityTracker chatActivityTracker;
+    private final KakaoProfileCache kakaoProfileCache;
+    private final PrecompressedResponseCache responseCache;
+    private final TrendingEngine trendingEngine;
+    private final ProductViewCounter productViewCounter;
+    private final SimilarProductRecommender similarProductRecommender;
+    private final RecentMessageBuffer recentMessageBuffer;
+    private final GroupCommitMessageWriter groupCommitMessageWriter;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("ssak3.chat.active.rooms", chatActivityTracker, ChatActivityTracker::activeRoomCount)
+                .description("최근 5분 안에 메시지 전송/조회가 있었던 채팅방 수")
+                .register(registry);
+        Gauge.builder("ssak3.trending.products", trendingEngine, TrendingEngine::size)
+                .description("인기 순위에 올라 있는 상품 수")
+                .register(registry);
+        FunctionCounter.builder("ssak3.product.views", productViewCounter, ProductViewCounter::getRecordedCount)
+                .description("상품 조회 수")
+                .tags("result", "counted")
+                .register(registry);
+        FunctionCounter.builder("ssak3.product.views", productViewCounter, ProductViewCounter::getDeduplicatedCount)
+                .description("상품 조회 수")
+                .tags("result", "deduplicated")
+                .register(registry);
+        Gauge.builder("ssak3.product.views.pending", productViewCounter, ProductViewCounter::getPendingCount)
+                .description("아직 DB에 반영하지 않은 조회 수")
+                .register(registry);
+        Gauge.builder("ssak3.similar.index.products", similarProductRecommender, SimilarProductRecommender::size)
+                .description("비슷한 상품 인덱스에 들어 있는 상품 수")
+                .register(registry);
+        Gauge.builder("ssak3.chat.commit.queue", groupCommitMessageWriter, GroupCommitMessageWriter::getQueueSize)
+                .description("그룹 커밋을 기다리는 메시지 수")
+                .register(registry);
+        FunctionCounter.builder("ssak3.chat.commit.batches", groupCommitMessageWriter, GroupCommitMessageWriter::getBatchCount)
+                .description("그룹 커밋 트랜잭션 수")
+                .register(registry);
+        FunctionCounter.builder("ssak3.chat.commit.messages", groupCommitMessageWriter, GroupCommitMessageWriter::getMessageCount)
+                .description("그룹 커밋으로 저장한 메시지 수")
+                .register(registry);
+        FunctionCounter.builder("ssak3.chat.commit.timeouts", groupCommitMessageWriter, GroupCommitMessageWriter::getTimedOutCount)
+                .description("대기 시간을 넘어 저장하지 않고 취소한 메시지 수")
+                .register(registry);
+
+        FunctionCounter.builder("ssak3.cache.gets", kakaoProfileCache, KakaoProfileCache::getHitCount)
+                .description("캐시 조회 수")
+                .tags("cache", KAKAO_PROFILE_CACHE, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("ssak3.cache.gets", kakaoProfileCache, KakaoProfileCache::getMissCount)
+                .description("캐시 조회 수")
+                .tags("cache", KAKAO_PROFILE_CACHE, "result", "miss")
+                .register(registry);
+        Gauge.builder("ssak3.cache.hit.ratio", kakaoProfileCache, KakaoProfileCache::getHitRatio)
+                .description("누적 캐시 적중률")
+                .tags("cache", KAKAO_PROFILE_CACHE)
+                .register(registry);
+        Gauge.builder("ssak3.cache.size", kakaoProfileCache, KakaoProfileCache::size)
+                .description("캐시 항목 수")
+                .tags("cache", KAKAO_PROFILE_CACHE)
+                .register(registry);
+
+        FunctionCounter.builder("ssak3.cache.gets", responseCache, PrecompressedResponseCache::getHitCount)
+                .description("캐시 조회 수")
+                .tags("cache", RESPONSE_CACHE, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("ssak3.cache.gets", responseCache, PrecompressedResponseCache::getMissCount)
+                .description("캐시 조회 수")
+                .tags("cache", RESPONSE_CACHE, "result", "miss")
+                .register(registry);
+        Gauge.builder("ssak3.cache.hit.ratio", responseCache, PrecompressedResponseCache::getHitRatio)
+                .description("누적 캐시 적중률")
+                .tags("cache", RESPONSE_CACHE)
+                .register(registry);
+        Gauge.builder("ssak3.cache.size", responseCache, PrecompressedResponseCache::size)
+                .description("캐시 항목 수")
+                .tags("cache", RESPONSE_CACHE)
+                .register(registry);
+
+        FunctionCounter.builder("ssak3.cache.gets", recentMessageBuffer, RecentMessageBuffer::getHitCount)
+                .description("캐시 조회 수")
+                .tags("cache", CHAT_BUFFER, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("ssak3.cache.gets", recentMessageBuffer, RecentMessageBuffer::getMissCount)
+                .description("캐시 조회 수")
+                .tags("cache", CHAT_BUFFER, "result", "miss")
+                .register(registry);
+        Gauge.builder("ssak3.cache.size", recentMessageBuffer, RecentMessageBuffer::size)
+                .description("캐시 항목 수")
+                .tags("cache", CHAT_BUFFER)
+                .register(registry);
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 이미지 업로드 용량과 건수를 기록합니다.
+ * 초당 업로드 바이트는 Prometheus에서 {@code rate(ssak3_upload_bytes_total[1m])}로 계산합니다.
+ */
+@Component
+public class UploadMetrics {
+
+    private final Counter uploadBytes;
+    private final Counter uploadFiles;
+
+    public UploadMetrics(MeterRegistry meterRegistry) {
+        this.uploadBytes = Counter.builder("ssak3.upload.bytes")
+                .description("저장한 업로드 이미지 용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.uploadFiles = Counter.builder("ssak3.upload.files")
+                .description("저장한 업로드 이미지 수")
+                .register(meterRegistry);
+    }
+
+    public void recordUpload(long bytes) {
+        uploadBytes.increment(bytes);
+        uploadFiles.increment();
+    }
+}
@@ -0,0 +1,205 @@
+package org.example.recommend;
+
+import org.example.dto.SimilarProduct;
+import org.example.entity.ProductStatus;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 비슷한 상품 조회용 읽기 전용 인덱스. 만들어진 뒤에는 바뀌지 않고, 갱신 시 통째로 교체됩니다.
+ *
+ * <p>상품은 배열 위치(0..n-1)로 다루고, 요약 정보와 이웃 목록을 모두 기본형 배열에 담습니다.
+ * 상품 ID → 위치는 개방 주소법 해시 테이블({@code long[]}/{@code int[]})로 찾으므로
+ * 조회는 박싱이나 DB 접근 없이 O(limit)입니다.</p>
+ */
+final class SimilarProductIndex {
+
+    static final SimilarProductIndex EMPTY = build(List.of(), Map.of(), 0);
+
+    private static final ProductStatus[] STATUSES = ProductStatus.values();
+
+    /**
+     * 인덱스에 넣을 상품 요약
+     */
+    record Item(long id, long categoryId, String title, int price, ProductStatus status, String thumbnailUrl,
+                long createdAtMillis) {
+    }
+
+    /**
+     * 이웃 상품과 유사도
+     */
+    record Neighbor(long productId, float score) {
+    }
+
+    private final long[] ids;
+    private final long[] categoryIds;
+    private final String[] titles;
+    private final int[] prices;
+    private final byte[] statuses;
+    private final String[] thumbnails;
+
+    // 위치 i의 이웃은 neighbors[neighborOffsets[i] .. neighborOffsets[i + 1])
+    private final int[] neighborOffsets;
+    private final int[] neighbors;
+    private final float[] neighborScores;
+
+    // 카테고리별 최신 상품 위치 (판매 완료 제외)
+    private final Map<Long, int[]> categoryLatest;
+
+    // 상품 ID → 위치 (키 0은 빈 칸)
+    private final long[] tableKeys;
+    private final int[] tableValues;
+    private final int tableMask;
+
+    private SimilarProductIndex(int size, int neighborCount, int tableCapacity, Map<Long, int[]> categoryLatest) {
+        this.ids = new long[size];
+        this.categoryIds = new long[size];
+        this.titles = new String[size];
+        this.prices = new int[size];
+        this.statuses = new byte[size];
+        this.thumbnails = new String[size];
+        this.neighborOffsets = new int[size + 1];
+        this.neighbors = new int[neighborCount];
+        this.neighborScores = new float[neighborCount];
+        this.categoryLatest = categoryLatest;
+        this.tableKeys = new long[tableCapacity];
+        this.tableValues = new int[tableCapacity];
+        this.tableMask = tableCapacity - 1;
+    }
+
+    static SimilarProductIndex build(Collection<Item> items, Map<Long, List<Neighbor>> neighborsByProduct,
+                                     int categoryFallbackSize) {
+        List<Item> ordered = new ArrayList<>(items);
+        int size = ordered.size();
+        int tableCapacity = Integer.highestOneBit(Math.max(2, size * 2 - 1)) << 1;
+
+        Map<Long, Integer> positions = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            positions.put(ordered.get(i).id(), i);
+        }
+        int neighborCount = 0;
+        for (Item item : ordered) {
+            for (Neighbor neighbor : neighborsByProduct.getOrDefault(item.id(), List.of())) {
+                if (positions.containsKey(neighbor.productId())) {
+                    neighborCount++;
+                }
+            }
+        }
+
+        Map<Long, List<Item>> byCategory = new HashMap<>();
+        for (Item item : ordered) {
+            if (item.status() != ProductStatus.SOLD_OUT) {
+                byCategory.computeIfAbsent(item.categoryId(), id -> new ArrayList<>()).add(item);
+            }
+        }
+        Map<Long, int[]> categoryLatest = new HashMap<>();
+        byCategory.forEach((categoryId, categoryItems) -> categoryLatest.put(categoryId, categoryItems.stream()
+                .sorted(Comparator.comparingLong(Item::createdAtMillis).reversed())
+                .limit(categoryFallbackSize)
+                .mapToInt(item -> positions.get(item.id()))
+                .toArray()));
+
+        SimilarProductIndex index = new SimilarProductIndex(size, neighborCount, tableCapacity, categoryLatest);
+        int cursor = 0;
+        for (int i = 0; i < size; i++) {
+            Item item = ordered.get(i);
+            index.ids[i] = item.id();
+            index.categoryIds[i] = item.categoryId();
+            index.titles[i] = item.title();
+            index.prices[i] = item.price();
+            index.statuses[i] = (byte) item.status().ordinal();
+            index.thumbnails[i] = item.thumbnailUrl();
+            index.neighborOffsets[i] = cursor;
+            for (Neighbor neighbor : neighborsByProduct.getOrDefault(item.id(), List.of())) {
+                Integer position = positions.get(neighbor.productId());
+                if (position != null) {
+                    index.neighbors[cursor] = position;
+                    index.neighborScores[cursor] = neighbor.score();
+                    cursor++;
+                }
+            }
+            index.put(item.id(), i);
+        }
+        index.neighborOffsets[size] = cursor;
+        return index;
+    }
+
+    /**
+     * {@code productId}와 비슷한 판매 중/예약 중 상품을 최대 {@code limit}개 반환합니다.
+     * 함께 찜/문의된 상품이 부족하면 같은 카테고리의 최신 상품으로 채웁니다.
+     */
+    List<SimilarProduct> similar(long productId, int limit) {
+        int position = indexOf(productId);
+        if (position < 0) {
+            return List.of();
+        }
+        List<SimilarProduct> result = new ArrayList<>(limit);
+        int[] picked = new int[limit];
+        for (int k = neighborOffsets[position]; k < neighborOffsets[position + 1] && result.size() < limit; k++) {
+            int other = neighbors[k];
+            if (statuses[other] != ProductStatus.SOLD_OUT.ordinal()) {
+                picked[result.size()] = other;
+                result.add(summary(other, neighborScores[k]));
+            }
+        }
+        int[] latest = categoryLatest.get(categoryIds[position]);
+        if (latest != null) {
+            for (int k = 0; k < latest.length && result.size() < limit; k++) {
+                int other = latest[k];
+                if (other != position && !contains(picked, result.size(), other)) {
+                    picked[result.size()] = other;
+                    result.add(summary(other, 0));
+                }
+            }
+        }
+        return result;
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    private SimilarProduct summary(int position, double score) {
+        return new SimilarProduct(ids[position], titles[position], prices[position], STATUSES[statuses[position]],
+                categoryIds[position], thumbnails[position], score);
+    }
+
+    private void put(long key, int value) {
+        int slot = slot(key);
+        while (tableKeys[slot] != 0) {
+            slot = (slot + 1) & tableMask;
+        }
+        tableKeys[slot] = key;
+        tableValues[slot] = value;
+    }
+
+    private int indexOf(long key) {
+        int slot = slot(key);
+        while (tableKeys[slot] != 0) {
+            if (tableKeys[slot] == key) {
+                return tableValues[slot];
+            }
+            slot = (slot + 1) & tableMask;
+        }
+        return -1;
+    }
+
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & tableMask;
+    }
+
+    private static boolean contains(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.recommend;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 비슷한 상품 추천 설정입니다. (ssak3.similar.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ssak3.similar")
+public class SimilarProductProperties {
+
+    /**
+     * 추천 인덱스 사용 여부. 끄면 비슷한 상품 목록이 비어 있습니다.
+     */
+    @Value("${ssak3.similar.enabled:true}")
+    private boolean enabled = true;
+
+    /**
+     * 시작 후 첫 인덱스 계산(전체 재계산)까지 기다리는 시간(밀리초). 시작 직후 워밍업, 헬스 체크와 겹치지 않게 미룹니다.
+     */
+    @Value("${ssak3.similar.initial-delay-ms:30000}")
+    private long initialDelayMs = 30_000;
+
+    /**
+     * 새 찜/채팅방/상품 변경을 인덱스에 반영하는 주기(밀리초)
+     */
+    @Value("${ssak3.similar.refresh-interval-ms:60000}")
+    private long refreshIntervalMs = 60000;
+
+    /**
+     * 전체 재계산 주기(밀리초). 증분 반영으로는 알 수 없는 찜 취소, 상품 삭제, 이미지 변경을 이때 반영합니다.
+     */
+    @Value("${ssak3.similar.full-rebuild-interval-ms:3600000}")
+    private long fullRebuildIntervalMs = 3_600_000;
+
+    /**
+     * 상품마다 보관할 비슷한 상품 수
+     */
+    @Value("${ssak3.similar.neighbors-per-product:20}")
+    private int neighborsPerProduct = 20;
+
+    /**
+     * 함께 본 사용자가 적을 때 채워 넣을 카테고리별 최신 상품 수
+     */
+    @Value("${ssak3.similar.category-fallback-size:20}")
+    private int categoryFallbackSize = 20;
+}
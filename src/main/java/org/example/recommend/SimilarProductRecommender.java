@@ -0,0 +1,207 @@
+package org.example.recommend;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.dto.SimilarProduct;
+import org.example.entity.ProductStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 함께 찜/문의한 사용자를 기준으로 상품 간 유사도를 계산해 {@link SimilarProductIndex}를 만듭니다.
+ *
+ * <p>백그라운드 작업이 {@code ssak3.similar.refresh-interval-ms}마다 지난 실행 이후의 찜, 채팅방(구매자),
+ * 수정된 상품만 읽어 영향받은 상품의 이웃만 다시 계산하고, 새 인덱스로 교체합니다.
+ * 유사도는 두 상품에 관심을 보인 사용자 집합의 코사인 유사도 {@code |A∩B| / sqrt(|A|·|B|)}입니다.</p>
+ *
+ * <p>ID 증가분으로는 찜 취소, 상품 삭제, 이미지 변경을 알 수 없으므로
+ * {@code ssak3.similar.full-rebuild-interval-ms}마다 전체를 다시 계산합니다.
+ * 조회 API는 교체된 인덱스만 읽으므로 DB를 사용하지 않습니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SimilarProductRecommender {
+
+    // 너무 많은 상품에 관심을 보인 사용자(일괄 찜 등)는 유사도 계산에서 제외
+    private static final int MAX_ITEMS_PER_USER = 1000;
+
+    private static final String SELECT_PRODUCTS =
+            "SELECT p.id, p.category_id, p.title, p.price, p.status, p.created_at, p.updated_at, "
+                    + "(SELECT i.image_url FROM product_images i WHERE i.product_id = p.id ORDER BY i.image_order LIMIT 1) AS thumbnail "
+                    + "FROM products p";
+    private static final String SELECT_PRODUCTS_CHANGED = SELECT_PRODUCTS + " WHERE p.updated_at >= ?";
+    private static final String SELECT_LIKES_AFTER =
+            "SELECT id, user_id, product_id FROM likes WHERE id > ? ORDER BY id";
+    private static final String SELECT_CHAT_ROOMS_AFTER =
+            "SELECT id, buyer_id, product_id FROM chat_rooms WHERE id > ? ORDER BY id";
+
+    private final SimilarProductProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile SimilarProductIndex index = SimilarProductIndex.EMPTY;
+
+    // 이하 갱신 작업에서만 사용 (refresh()가 synchronized)
+    private final Map<Long, SimilarProductIndex.Item> products = new HashMap<>();
+    private final Map<Long, Set<Long>> userItems = new HashMap<>();
+    private final Map<Long, Set<Long>> itemUsers = new HashMap<>();
+    private final Map<Long, List<SimilarProductIndex.Neighbor>> neighbors = new HashMap<>();
+    private Timestamp productsChangedSince;
+    private long lastLikeId;
+    private long lastChatRoomId;
+    private long lastFullRebuildMillis;
+
+    /**
+     * {@code productId}와 비슷한 상품 목록을 반환합니다. 인덱스에 아직 없는 상품이면 빈 목록입니다.
+     */
+    public List<SimilarProduct> similar(Long productId, int limit) {
+        if (!properties.isEnabled() || productId == null) {
+            return List.of();
+        }
+        return index.similar(productId, limit);
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    @Scheduled(initialDelayString = "${ssak3.similar.initial-delay-ms:30000}",
+            fixedDelayString = "${ssak3.similar.refresh-interval-ms:60000}")
+    public synchronized void refresh() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        boolean full = productsChangedSince == null
+                || startedAt - lastFullRebuildMillis >= properties.getFullRebuildIntervalMs();
+        try {
+            if (full) {
+                products.clear();
+                userItems.clear();
+                itemUsers.clear();
+                neighbors.clear();
+                productsChangedSince = null;
+                lastLikeId = 0;
+                lastChatRoomId = 0;
+            }
+            loadProducts();
+            Set<Long> affected = new HashSet<>();
+            lastLikeId = loadInteractions(SELECT_LIKES_AFTER, lastLikeId, affected);
+            lastChatRoomId = loadInteractions(SELECT_CHAT_ROOMS_AFTER, lastChatRoomId, affected);
+            if (full) {
+                affected = itemUsers.keySet();
+                lastFullRebuildMillis = startedAt;
+            }
+            for (Long item : affected) {
+                List<SimilarProductIndex.Neighbor> computed = computeNeighbors(item);
+                if (computed.isEmpty()) {
+                    neighbors.remove(item);
+                } else {
+                    neighbors.put(item, computed);
+                }
+            }
+            index = SimilarProductIndex.build(products.values(), neighbors, properties.getCategoryFallbackSize());
+            log.debug("비슷한 상품 인덱스 갱신 ({}): 상품 {}개, 재계산 {}개, {}ms", full ? "전체" : "증분",
+                    products.size(), affected.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // 이전 인덱스를 계속 사용하고 다음 주기에 전체 재계산
+            productsChangedSince = null;
+            log.warn("비슷한 상품 인덱스 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private void loadProducts() {
+        Timestamp[] latest = {productsChangedSince};
+        if (productsChangedSince == null) {
+            jdbcTemplate.query(SELECT_PRODUCTS, rs -> {
+                putProduct(rs, latest);
+            });
+        } else {
+            // 같은 시각에 수정된 행을 놓치지 않도록 >=로 다시 읽음 (덮어쓰기라 중복 무해)
+            jdbcTemplate.query(SELECT_PRODUCTS_CHANGED, rs -> {
+                putProduct(rs, latest);
+            }, productsChangedSince);
+        }
+        productsChangedSince = latest[0] != null ? latest[0] : new Timestamp(0);
+    }
+
+    private void putProduct(ResultSet rs, Timestamp[] latest) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        products.put(rs.getLong("id"), new SimilarProductIndex.Item(
+                rs.getLong("id"),
+                rs.getLong("category_id"),
+                rs.getString("title"),
+                rs.getInt("price"),
+                ProductStatus.valueOf(rs.getString("status")),
+                rs.getString("thumbnail"),
+                createdAt != null ? createdAt.getTime() : 0));
+        if (updatedAt != null && (latest[0] == null || updatedAt.after(latest[0]))) {
+            latest[0] = updatedAt;
+        }
+    }
+
+    /**
+     * (id, 사용자, 상품) 행을 읽어 관심 관계에 더하고, 관계가 바뀐 상품을 {@code affected}에 담습니다.
+     *
+     * @return 읽은 마지막 id
+     */
+    private long loadInteractions(String sql, long afterId, Set<Long> affected) {
+        long[] lastId = {afterId};
+        jdbcTemplate.query(sql, rs -> {
+            lastId[0] = rs.getLong(1);
+            long user = rs.getLong(2);
+            long item = rs.getLong(3);
+            Set<Long> items = userItems.computeIfAbsent(user, id -> new HashSet<>());
+            if (items.add(item)) {
+                itemUsers.computeIfAbsent(item, id -> new HashSet<>()).add(user);
+                // 이 사용자가 관심을 보인 다른 상품들과의 유사도도 바뀜
+                affected.addAll(items);
+            }
+        }, afterId);
+        return lastId[0];
+    }
+
+    private List<SimilarProductIndex.Neighbor> computeNeighbors(long item) {
+        Set<Long> users = itemUsers.get(item);
+        if (users == null || users.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Integer> coCounts = new HashMap<>();
+        for (Long user : users) {
+            Set<Long> items = userItems.get(user);
+            if (items.size() > MAX_ITEMS_PER_USER) {
+                continue;
+            }
+            for (Long other : items) {
+                if (other != item) {
+                    coCounts.merge(other, 1, Integer::sum);
+                }
+            }
+        }
+        List<SimilarProductIndex.Neighbor> scored = new ArrayList<>(coCounts.size());
+        coCounts.forEach((other, count) -> {
+            if (products.containsKey(other)) {
+                double score = count / Math.sqrt((double) users.size() * itemUsers.get(other).size());
+                scored.add(new SimilarProductIndex.Neighbor(other, (float) score));
+            }
+        });
+        scored.sort((a, b) -> a.score() != b.score()
+                ? Float.compare(b.score(), a.score())
+                : Long.compare(a.productId(), b.productId()));
+        return scored.size() > properties.getNeighborsPerProduct()
+                ? new ArrayList<>(scored.subList(0, properties.getNeighborsPerProduct()))
+                : scored;
+    }
+}
@@ -1,12 +1,30 @@
 package org.example.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.entity.Category;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
+    // 카테고리 목록/이름 조회는 쿼리 캐시 사용 (categories 테이블 변경 시 Hibernate가 자동 무효화)
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Category> findAll();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Category findByName(String name);
+
+    // 조건부 요청용: 수정 시각만 조회
+    @Query("SELECT c.id AS id, c.updatedAt AS updatedAt FROM Category c WHERE c.id = :id")
+    Optional<EntityVersion> findVersionById(@Param("id") Long id);
 }
 
 
@@ -0,0 +1,14 @@
+package org.example.repository;
+
+/**
+ * 메시지 읽음 여부 계산용 프로젝션. 채팅방 엔티티 대신 참여자 id와 읽음 커서만 조회합니다.
+ */
+public interface ChatRoomReadCursors {
+    Long getBuyerId();
+
+    Long getSellerId();
+
+    long getBuyerLastReadSeq();
+
+    long getSellerLastReadSeq();
+}
@@ -5,8 +5,12 @@ import org.example.entity.Product;
 import org.example.entity.UserProfile;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,10 +25,12 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
             Product product
     );
 
-    // 사용자가 참여한 채팅방 목록 조회 (구매자 또는 판매자)
-    // messages는 서비스 레이어에서 명시적으로 초기화 (순환 참조 방지)
+    // 사용자가 참여한 채팅방 목록 조회 (구매자 또는 판매자), 최근 메시지 순
+    // 마지막 메시지는 chat_rooms의 요약 컬럼으로 응답하므로 messages는 읽지 않음
     @EntityGraph(attributePaths = {"buyer", "seller", "product", "product.seller", "product.category", "product.images"})
-    List<ChatRoom> findByBuyerOrSeller(UserProfile buyer, UserProfile seller);
+    @Query("SELECT r FROM ChatRoom r WHERE r.buyer = :buyer OR r.seller = :seller "
+            + "ORDER BY r.lastMessageSnapshot.sentAt DESC NULLS LAST, r.id DESC")
+    List<ChatRoom> findByBuyerOrSeller(@Param("buyer") UserProfile buyer, @Param("seller") UserProfile seller);
 
     // 특정 사용자의 채팅방 목록 조회 (구매자)
     @EntityGraph(attributePaths = {"buyer", "seller", "product"})
@@ -33,6 +39,51 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     // 특정 사용자의 채팅방 목록 조회 (판매자)
     @EntityGraph(attributePaths = {"buyer", "seller", "product"})
     List<ChatRoom> findBySeller(UserProfile seller);
+
+    // 메시지 순번을 1 올리고 보낸 사람의 읽음 커서를 새 메시지로 이동 (행 잠금으로 채팅방 안 전송 순서를 직렬화)
+    @Modifying
+    @Query("UPDATE ChatRoom r SET r.lastMessageSeq = r.lastMessageSeq + 1, "
+            + "r.buyerLastReadSeq = CASE WHEN r.buyer.id = :senderId THEN r.lastMessageSeq + 1 ELSE r.buyerLastReadSeq END, "
+            + "r.sellerLastReadSeq = CASE WHEN r.seller.id = :senderId THEN r.lastMessageSeq + 1 ELSE r.sellerLastReadSeq END "
+            + "WHERE r.id = :id")
+    int incrementMessageSeq(@Param("id") Long id, @Param("senderId") Long senderId);
+
+    // 메시지 순번을 count만큼 한 번에 발급 (그룹 커밋)
+    @Modifying
+    @Query("UPDATE ChatRoom r SET r.lastMessageSeq = r.lastMessageSeq + :count WHERE r.id = :id")
+    int addMessageSeq(@Param("id") Long id, @Param("count") long count);
+
+    // 사용자의 읽음 커서를 seq까지 이동 (이미 더 앞에 있으면 그대로)
+    @Modifying
+    @Query("UPDATE ChatRoom r SET "
+            + "r.buyerLastReadSeq = CASE WHEN r.buyer.id = :userId AND r.buyerLastReadSeq < :seq THEN :seq ELSE r.buyerLastReadSeq END, "
+            + "r.sellerLastReadSeq = CASE WHEN r.seller.id = :userId AND r.sellerLastReadSeq < :seq THEN :seq ELSE r.sellerLastReadSeq END "
+            + "WHERE r.id = :id")
+    int advanceReadCursor(@Param("id") Long id, @Param("userId") Long userId, @Param("seq") long seq);
+
+    @Query("SELECT r.lastMessageSeq FROM ChatRoom r WHERE r.id = :id")
+    long findLastMessageSeqById(@Param("id") Long id);
+
+    // 마지막 메시지 요약 갱신 (메시지 전송과 같은 트랜잭션, incrementMessageSeq의 행 잠금 안에서 실행)
+    @Modifying
+    @Query("UPDATE ChatRoom r SET r.lastMessageSnapshot.messageId = :messageId, "
+            + "r.lastMessageSnapshot.preview = :preview, r.lastMessageSnapshot.senderId = :senderId, "
+            + "r.lastMessageSnapshot.sentAt = :sentAt WHERE r.id = :id")
+    int updateLastMessage(@Param("id") Long id, @Param("messageId") Long messageId, @Param("preview") String preview,
+                          @Param("senderId") Long senderId, @Param("sentAt") LocalDateTime sentAt);
+
+    // 사용자의 읽음 커서를 마지막 메시지로 이동 (읽음 처리, 한 행만 수정)
+    @Modifying
+    @Query("UPDATE ChatRoom r SET "
+            + "r.buyerLastReadSeq = CASE WHEN r.buyer.id = :userId THEN r.lastMessageSeq ELSE r.buyerLastReadSeq END, "
+            + "r.sellerLastReadSeq = CASE WHEN r.seller.id = :userId THEN r.lastMessageSeq ELSE r.sellerLastReadSeq END "
+            + "WHERE r.id = :id")
+    int markAllRead(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Query("SELECT r.buyer.id AS buyerId, r.seller.id AS sellerId, "
+            + "r.buyerLastReadSeq AS buyerLastReadSeq, r.sellerLastReadSeq AS sellerLastReadSeq "
+            + "FROM ChatRoom r WHERE r.id = :id")
+    Optional<ChatRoomReadCursors> findReadCursorsById(@Param("id") Long id);
 }
 
 
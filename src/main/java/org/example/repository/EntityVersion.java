@@ -0,0 +1,12 @@
+package org.example.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조건부 요청(ETag/Last-Modified) 판단용 프로젝션. 엔티티 전체 대신 id와 수정 시각만 조회합니다.
+ */
+public interface EntityVersion {
+    Long getId();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -1,14 +1,19 @@
 package org.example.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.entity.Like;
 import org.example.entity.Product;
 import org.example.entity.UserProfile;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface LikeRepository extends JpaRepository<Like, Long> {
@@ -22,6 +27,15 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
 
     //찜추가/삭제할때 확인하는기능
     Optional<Like> findByUserAndProduct(UserProfile user, Product product);
+
+    // 내보내기용 스트리밍 조회 (트랜잭션 안에서 사용)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT l FROM Like l JOIN FETCH l.user JOIN FETCH l.product ORDER BY l.id")
+    Stream<Like> streamAllWithUserAndProduct();
 }
 
 
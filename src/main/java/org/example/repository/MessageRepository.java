@@ -2,24 +2,52 @@ package org.example.repository;
 
 import org.example.entity.ChatRoom;
 import org.example.entity.Message;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface MessageRepository extends JpaRepository<Message, Long> {
     
+    // 메시지 조회는 모두 created_at 범위를 함께 받음 (PostgreSQL 월별 파티션 중 범위 밖 파티션은 조회하지 않음)
+    // 범위는 ChatService에서 채팅방 생성 시각 ~ 마지막 메시지 시각으로 정함
+
     // 채팅방의 모든 메시지 조회 (시간순 정렬)
     @EntityGraph(attributePaths = {"sender", "chatRoom"})
-    List<Message> findByChatRoomOrderByCreatedAtAsc(ChatRoom chatRoom);
+    List<Message> findByChatRoomAndCreatedAtBetweenOrderByCreatedAtAsc(ChatRoom chatRoom, LocalDateTime since,
+                                                                       LocalDateTime until);
 
-    // 채팅방의 읽지 않은 메시지 수 조회
-    long countByChatRoomAndIsReadFalse(ChatRoom chatRoom);
+    // 채팅방의 최근 메시지 페이지 (최신순, messages(chat_room_id, id) 인덱스 사용)
+    @EntityGraph(attributePaths = {"sender", "chatRoom"})
+    List<Message> findByChatRoomAndCreatedAtBetweenOrderByIdDesc(ChatRoom chatRoom, LocalDateTime since,
+                                                                 LocalDateTime until, Pageable pageable);
 
-    // 특정 사용자가 읽지 않은 메시지 수 조회
-    long countByChatRoomAndSenderNotAndIsReadFalse(ChatRoom chatRoom, org.example.entity.UserProfile sender);
+    // 특정 메시지 이전의 메시지 페이지 (최신순, 이전 기록 스크롤용)
+    @EntityGraph(attributePaths = {"sender", "chatRoom"})
+    List<Message> findByChatRoomAndIdLessThanAndCreatedAtBetweenOrderByIdDesc(ChatRoom chatRoom, Long id,
+                                                                              LocalDateTime since, LocalDateTime until,
+                                                                              Pageable pageable);
+
+    // 검색 후보 메시지 조회 (최신순, 내용 확인용)
+    List<Message> findByChatRoomAndIdInAndCreatedAtBetweenOrderByIdDesc(ChatRoom chatRoom, Collection<Long> ids,
+                                                                        LocalDateTime since, LocalDateTime until);
+
+    // 아직 색인되지 않은 최근 메시지 조회 (최신순, 검색 시 내용 직접 확인용)
+    List<Message> findByChatRoomAndIdGreaterThanEqualAndIdLessThanAndCreatedAtBetweenOrderByIdDesc(
+            ChatRoom chatRoom, Long fromId, Long beforeId, LocalDateTime since, LocalDateTime until, Pageable pageable);
+
+    // 채팅방의 메시지를 한 번에 삭제 (엔티티를 하나씩 읽어 지우지 않음)
+    @Modifying
+    @Query("DELETE FROM Message m WHERE m.chatRoom.id = :chatRoomId")
+    int deleteByChatRoomId(@Param("chatRoomId") Long chatRoomId);
 }
 
 
@@ -1,24 +1,31 @@
 package org.example.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.entity.Category;
 import org.example.entity.Product;
 import org.example.entity.UserProfile;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
     // @EntityGraph 제거 - 빈 데이터베이스에서도 안전하게 동작하도록
     @Override
     List<Product> findAll();
     
     @EntityGraph(attributePaths = {"images", "seller", "category"})
     @Override
-    java.util.Optional<Product> findById(Long id);
+    Optional<Product> findById(Long id);
     
     @EntityGraph(attributePaths = {"images", "seller", "category"})
     List<Product> findByCategory(Category category);
@@ -30,6 +37,35 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @EntityGraph(attributePaths = {"images", "seller", "category"})
     @Query("SELECT p FROM Product p WHERE p.title LIKE %:keyword% OR p.description LIKE %:keyword%")
     List<Product> searchByKeyword(@Param("keyword") String keyword);
+
+    // 탐색 페이지 로딩용 (ID는 findBrowseIds로 먼저 잘라 옴, 순서는 호출하는 쪽에서 맞춤)
+    @EntityGraph(attributePaths = {"images", "seller", "category"})
+    @Query("SELECT p FROM Product p WHERE p.id IN :ids")
+    List<Product> findAllWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 조건부 요청용: 상품/판매자/카테고리 수정 시각과 반영된 조회수만 조회 (이미지, 연관 엔티티 로딩 없음)
+    @Query("SELECT p.id AS id, p.updatedAt AS updatedAt, s.updatedAt AS sellerUpdatedAt, c.updatedAt AS categoryUpdatedAt, " +
+           "p.viewCount AS viewCount " +
+           "FROM Product p LEFT JOIN p.seller s LEFT JOIN p.category c WHERE p.id = :id")
+    Optional<ProductVersion> findVersionById(@Param("id") Long id);
+
+    // 내보내기용 스트리밍 조회 (판매자/카테고리만 함께 로딩, 트랜잭션 안에서 사용)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT p FROM Product p JOIN FETCH p.seller JOIN FETCH p.category ORDER BY p.id")
+    Stream<Product> streamAllWithSellerAndCategory();
+
+    interface ProductVersion extends EntityVersion {
+        LocalDateTime getSellerUpdatedAt();
+
+        LocalDateTime getCategoryUpdatedAt();
+
+        // 조회수는 updatedAt을 바꾸지 않으므로 ETag에 따로 포함
+        long getViewCount();
+    }
 }
 
 
@@ -0,0 +1,30 @@
+package org.example.repository;
+
+import org.example.dto.ProductBrowseCondition;
+import org.example.dto.ProductBrowseResult;
+
+import java.util.List;
+
+/**
+ * 필터 조합에 따라 조건이 달라지는 상품 탐색 쿼리를 정의합니다.
+ */
+public interface ProductRepositoryCustom {
+
+    /**
+     * 가격 패싯 구간 경계. 0~1만, 1만~5만, 5만~10만, 10만~50만, 50만 이상으로 나눕니다.
+     */
+    List<Integer> PRICE_RANGE_BOUNDS = List.of(10_000, 50_000, 100_000, 500_000);
+
+    /**
+     * 조건과 커서에 맞는 상품 ID를 정렬 순서대로 최대 {@code limit}개 조회합니다.
+     *
+     * <p>이미지 컬렉션을 함께 fetch join 하면 LIMIT이 메모리에서 적용되므로,
+     * 먼저 ID만 인덱스 순서로 잘라 온 뒤 {@link ProductRepository#findAllWithDetailsByIdIn}으로 로딩합니다.</p>
+     */
+    List<Long> findBrowseIds(ProductBrowseCondition condition, int limit);
+
+    /**
+     * 카테고리/상태/가격 구간별 건수와 전체 건수를 집계합니다.
+     */
+    ProductBrowseResult.Facets countFacets(ProductBrowseCondition condition);
+}
@@ -0,0 +1,209 @@
+package org.example.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.example.dto.ProductBrowseCondition;
+import org.example.dto.ProductBrowseResult;
+import org.example.entity.Category;
+import org.example.entity.Product;
+import org.example.entity.ProductStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link ProductRepositoryCustom}의 Criteria API 구현입니다.
+ *
+ * <p>필터는 값이 있는 것만 WHERE 절에 붙이고, 페이지는 OFFSET 대신 마지막 행의 정렬 키로 이어서 읽습니다.
+ * 패싯은 차원마다 자기 필터만 뺀 조건으로 GROUP BY 합니다. (카테고리를 골라도 다른 카테고리 건수가 보이도록)</p>
+ */
+public class ProductRepositoryImpl implements ProductRepositoryCustom {
+
+    private enum Dimension {
+        CATEGORY,
+        STATUS,
+        PRICE
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Long> findBrowseIds(ProductBrowseCondition condition, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Product> product = query.from(Product.class);
+
+        List<Predicate> predicates = filters(cb, product, condition, null);
+        if (condition.cursor() != null) {
+            predicates.add(after(cb, product, condition.sort(), condition.cursor()));
+        }
+        query.select(product.get("id"))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(orderBy(cb, product, condition.sort()));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public ProductBrowseResult.Facets countFacets(ProductBrowseCondition condition) {
+        return new ProductBrowseResult.Facets(
+                countTotal(condition),
+                countByCategory(condition),
+                countByStatus(condition),
+                countByPriceRange(condition));
+    }
+
+    private long countTotal(ProductBrowseCondition condition) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Product> product = query.from(Product.class);
+        query.select(cb.count(product))
+                .where(filters(cb, product, condition, null).toArray(Predicate[]::new));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private List<ProductBrowseResult.CategoryCount> countByCategory(ProductBrowseCondition condition) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Product> product = query.from(Product.class);
+        Join<Product, Category> category = product.join("category");
+        Expression<Long> count = cb.count(product);
+        query.multiselect(category.get("id"), category.get("name"), count)
+                .where(filters(cb, product, condition, Dimension.CATEGORY).toArray(Predicate[]::new))
+                .groupBy(category.get("id"), category.get("name"))
+                .orderBy(cb.desc(count), cb.asc(category.get("id")));
+
+        List<ProductBrowseResult.CategoryCount> counts = new ArrayList<>();
+        for (Tuple row : entityManager.createQuery(query).getResultList()) {
+            counts.add(new ProductBrowseResult.CategoryCount(row.get(0, Long.class), row.get(1, String.class), row.get(2, Long.class)));
+        }
+        return counts;
+    }
+
+    private List<ProductBrowseResult.StatusCount> countByStatus(ProductBrowseCondition condition) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Product> product = query.from(Product.class);
+        query.multiselect(product.get("status"), cb.count(product))
+                .where(filters(cb, product, condition, Dimension.STATUS).toArray(Predicate[]::new))
+                .groupBy(product.get("status"));
+
+        List<ProductBrowseResult.StatusCount> counts = new ArrayList<>();
+        for (Tuple row : entityManager.createQuery(query).getResultList()) {
+            counts.add(new ProductBrowseResult.StatusCount(row.get(0, ProductStatus.class), row.get(1, Long.class)));
+        }
+        counts.sort((a, b) -> a.status().compareTo(b.status()));
+        return counts;
+    }
+
+    /**
+     * 구간마다 {@code SUM(CASE WHEN ... THEN 1 ELSE 0 END)}를 한 번에 계산해 쿼리 하나로 집계합니다.
+     */
+    private List<ProductBrowseResult.PriceRangeCount> countByPriceRange(ProductBrowseCondition condition) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Product> product = query.from(Product.class);
+        Path<Integer> price = product.get("price");
+
+        List<Integer> lowerBounds = new ArrayList<>();
+        lowerBounds.add(0);
+        lowerBounds.addAll(PRICE_RANGE_BOUNDS);
+        List<Selection<?>> selections = new ArrayList<>();
+        for (int i = 0; i < lowerBounds.size(); i++) {
+            Predicate inRange = i + 1 < lowerBounds.size()
+                    ? cb.and(cb.ge(price, lowerBounds.get(i)), cb.lt(price, lowerBounds.get(i + 1)))
+                    : cb.ge(price, lowerBounds.get(i));
+            selections.add(cb.sum(cb.<Long>selectCase().when(inRange, 1L).otherwise(0L)));
+        }
+        query.multiselect(selections)
+                .where(filters(cb, product, condition, Dimension.PRICE).toArray(Predicate[]::new));
+
+        Tuple row = entityManager.createQuery(query).getSingleResult();
+        List<ProductBrowseResult.PriceRangeCount> counts = new ArrayList<>();
+        for (int i = 0; i < lowerBounds.size(); i++) {
+            Number count = (Number) row.get(i);
+            Integer upperBound = i + 1 < lowerBounds.size() ? lowerBounds.get(i + 1) : null;
+            counts.add(new ProductBrowseResult.PriceRangeCount(lowerBounds.get(i), upperBound, count != null ? count.longValue() : 0));
+        }
+        return counts;
+    }
+
+    /**
+     * 값이 있는 필터만 조건으로 만듭니다. {@code excluded} 차원의 필터는 빼고 만듭니다.
+     */
+    private static List<Predicate> filters(CriteriaBuilder cb, Root<Product> product,
+                                           ProductBrowseCondition condition, Dimension excluded) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (condition.categoryId() != null && excluded != Dimension.CATEGORY) {
+            predicates.add(cb.equal(product.get("category").get("id"), condition.categoryId()));
+        }
+        if (condition.status() != null && excluded != Dimension.STATUS) {
+            predicates.add(cb.equal(product.get("status"), condition.status()));
+        }
+        if (excluded != Dimension.PRICE) {
+            if (condition.minPrice() != null) {
+                predicates.add(cb.ge(product.get("price"), condition.minPrice()));
+            }
+            if (condition.maxPrice() != null) {
+                predicates.add(cb.le(product.get("price"), condition.maxPrice()));
+            }
+        }
+        if (condition.keyword() != null) {
+            String pattern = "%" + escapeLike(condition.keyword()) + "%";
+            predicates.add(cb.or(
+                    cb.like(product.get("title"), pattern, '\\'),
+                    cb.like(product.get("description"), pattern, '\\')));
+        }
+        return predicates;
+    }
+
+    /**
+     * 커서 이후 행 조건. 예: 최신순이면 {@code created_at < ? OR (created_at = ? AND id < ?)}
+     */
+    private static Predicate after(CriteriaBuilder cb, Root<Product> product,
+                                   ProductBrowseCondition.Sort sort, ProductBrowseCondition.Cursor cursor) {
+        Path<Long> id = product.get("id");
+        return switch (sort) {
+            case LATEST -> {
+                Path<LocalDateTime> createdAt = product.get("createdAt");
+                yield cb.or(cb.lessThan(createdAt, cursor.createdAt()),
+                        cb.and(cb.equal(createdAt, cursor.createdAt()), cb.lt(id, cursor.id())));
+            }
+            case PRICE_ASC -> {
+                Path<Integer> price = product.get("price");
+                yield cb.or(cb.gt(price, cursor.price()),
+                        cb.and(cb.equal(price, cursor.price()), cb.gt(id, cursor.id())));
+            }
+            case PRICE_DESC -> {
+                Path<Integer> price = product.get("price");
+                yield cb.or(cb.lt(price, cursor.price()),
+                        cb.and(cb.equal(price, cursor.price()), cb.lt(id, cursor.id())));
+            }
+        };
+    }
+
+    private static List<Order> orderBy(CriteriaBuilder cb, Root<Product> product, ProductBrowseCondition.Sort sort) {
+        return switch (sort) {
+            case LATEST -> List.of(cb.desc(product.get("createdAt")), cb.desc(product.get("id")));
+            case PRICE_ASC -> List.of(cb.asc(product.get("price")), cb.asc(product.get("id")));
+            case PRICE_DESC -> List.of(cb.desc(product.get("price")), cb.desc(product.get("id")));
+        };
+    }
+
+    private static String escapeLike(String keyword) {
+        return keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
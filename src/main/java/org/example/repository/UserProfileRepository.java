@@ -1,12 +1,36 @@
 package org.example.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.entity.UserProfile;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
-public interface UserProfileRepository extends JpaRepository<UserProfile, Long> {
+public interface UserProfileRepository extends JpaRepository<UserProfile, Long>, UserProfileRepositoryCustom {
     UserProfile findByKakaoId(Long kakaoId);
+
+    // 조건부 요청용: 수정 시각만 조회
+    @Query("SELECT u.id AS id, u.updatedAt AS updatedAt FROM UserProfile u WHERE u.id = :id")
+    Optional<EntityVersion> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT u.id AS id, u.updatedAt AS updatedAt FROM UserProfile u WHERE u.kakaoId = :kakaoId")
+    Optional<EntityVersion> findVersionByKakaoId(@Param("kakaoId") Long kakaoId);
+
+    // 내보내기용 스트리밍 조회 (트랜잭션 안에서 사용, 2차 캐시에 넣지 않음)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT u FROM UserProfile u ORDER BY u.id")
+    Stream<UserProfile> streamAll();
 }
 
 
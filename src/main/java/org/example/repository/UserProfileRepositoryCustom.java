@@ -0,0 +1,22 @@
+package org.example.repository;
+
+import org.example.entity.UserProfile;
+
+/**
+ * Spring Data 파생 쿼리로 표현할 수 없는 사용자 저장 로직을 정의합니다.
+ */
+public interface UserProfileRepositoryCustom {
+
+    /**
+     * 카카오 ID 기준으로 사용자를 한 번의 SQL 문으로 생성하거나 갱신합니다.
+     *
+     * <p>신규 사용자는 기본 닉네임/매너온도로 생성되고, 기존 사용자는 전달된 값이 null이 아닐 때만
+     * 닉네임과 프로필 이미지를 갱신합니다.</p>
+     *
+     * @param kakaoId      카카오 사용자 ID
+     * @param nickname     카카오 닉네임 (null이면 기존 값 유지)
+     * @param profileImage 프로필 이미지 URL (null이면 기존 값 유지)
+     * @return 저장/갱신된 사용자
+     */
+    UserProfile upsertByKakaoId(Long kakaoId, String nickname, String profileImage);
+}
@@ -0,0 +1,103 @@
+package org.example.repository;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.example.entity.UserProfile;
+import org.hibernate.Session;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link UserProfileRepositoryCustom}의 네이티브 SQL 구현입니다.
+ *
+ * <p>로그인 경로에서 "조회 → 저장 → 재조회" 세 번의 쿼리를 한 문장으로 줄이기 위해
+ * PostgreSQL에서는 {@code INSERT ... ON CONFLICT ... RETURNING}을,
+ * H2(개발용)에서는 {@code MERGE ... USING}을 {@code FINAL TABLE}로 감싸 결과 행을 바로 돌려받습니다.</p>
+ *
+ * <p>네이티브 SQL은 2차 캐시를 거치지 않으므로 upsert 후 해당 사용자의 캐시 항목을 직접 제거합니다.
+ * 커밋 전에 다른 요청이 이전 행을 다시 캐시할 수 있어 커밋 후에 한 번 더 제거합니다.</p>
+ */
+public class UserProfileRepositoryImpl implements UserProfileRepositoryCustom {
+
+    private static final String DEFAULT_NICKNAME = "카카오 사용자";
+    private static final double DEFAULT_TEMPERATURE = 36.5;
+
+    private static final String POSTGRESQL_UPSERT = """
+            INSERT INTO users (kakao_id, nickname, profile_image, temperature, created_at, updated_at)
+            VALUES (:kakaoId, COALESCE(:nickname, :defaultNickname), :profileImage, :defaultTemperature, LOCALTIMESTAMP, LOCALTIMESTAMP)
+            ON CONFLICT (kakao_id) DO UPDATE
+            SET nickname = COALESCE(:nickname, users.nickname),
+                profile_image = COALESCE(:profileImage, users.profile_image),
+                updated_at = LOCALTIMESTAMP
+            RETURNING *
+            """;
+
+    private static final String H2_UPSERT = """
+            SELECT * FROM FINAL TABLE (
+                MERGE INTO users u
+                USING (SELECT CAST(:kakaoId AS BIGINT) AS kakao_id,
+                              CAST(:nickname AS VARCHAR(30)) AS nickname,
+                              CAST(:profileImage AS VARCHAR(255)) AS profile_image) s
+                ON u.kakao_id = s.kakao_id
+                WHEN MATCHED THEN UPDATE SET
+                    nickname = COALESCE(s.nickname, u.nickname),
+                    profile_image = COALESCE(s.profile_image, u.profile_image),
+                    updated_at = LOCALTIMESTAMP
+                WHEN NOT MATCHED THEN INSERT (kakao_id, nickname, profile_image, temperature, created_at, updated_at)
+                    VALUES (s.kakao_id, COALESCE(s.nickname, :defaultNickname), s.profile_image, :defaultTemperature, LOCALTIMESTAMP, LOCALTIMESTAMP)
+            )
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean postgreSql;
+
+    @Override
+    @Transactional
+    public UserProfile upsertByKakaoId(Long kakaoId, String nickname, String profileImage) {
+        Session session = entityManager.unwrap(Session.class);
+        String sql = isPostgreSql() ? POSTGRESQL_UPSERT : H2_UPSERT;
+
+        NativeQuery<UserProfile> query = session.createNativeQuery(sql, UserProfile.class);
+        query.setParameter("kakaoId", kakaoId, Long.class);
+        query.setParameter("nickname", nickname, String.class);
+        query.setParameter("profileImage", profileImage, String.class);
+        query.setParameter("defaultNickname", DEFAULT_NICKNAME, String.class);
+        query.setParameter("defaultTemperature", DEFAULT_TEMPERATURE, Double.class);
+        UserProfile saved = query.getSingleResult();
+        evictAfterCommit(saved.getId());
+        return saved;
+    }
+
+    // 지금 제거하고, 트랜잭션 안이면 커밋 후에도 제거 (그 사이 다른 요청이 캐시한 이전 행을 지움)
+    private void evictAfterCommit(Long id) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        cache.evict(UserProfile.class, id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.evict(UserProfile.class, id);
+                }
+            });
+        }
+    }
+
+    private boolean isPostgreSql() {
+        Boolean cached = postgreSql;
+        if (cached == null) {
+            cached = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect() instanceof PostgreSQLDialect;
+            postgreSql = cached;
+        }
+        return cached;
+    }
+}
@@ -2,20 +2,38 @@ package org.example.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.chat.ChatBufferProperties;
+import org.example.chat.MessageArchive;
+import org.example.chat.MessageSearchIndex;
+import org.example.chat.MessageSearchProperties;
+import org.example.chat.RecentMessageBuffer;
+import org.example.dto.MessageSearchResult;
 import org.example.entity.ChatRoom;
+import org.example.entity.LastMessageSnapshot;
 import org.example.entity.Message;
 import org.example.entity.Product;
 import org.example.entity.UserProfile;
+import org.example.monitoring.ChatActivityTracker;
+import org.example.repository.ChatRoomReadCursors;
 import org.example.repository.ChatRoomRepository;
 import org.example.repository.MessageRepository;
 import org.example.repository.ProductRepository;
 import org.example.repository.UserProfileRepository;
+import org.example.trending.TrendingSignal;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -27,6 +45,23 @@ public class ChatService {
     private final MessageRepository messageRepository;
     private final UserProfileRepository userProfileRepository;
     private final ProductRepository productRepository;
+    private final ChatActivityTracker chatActivityTracker;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RecentMessageBuffer recentMessageBuffer;
+    private final ChatBufferProperties chatBufferProperties;
+    private final MessageArchive messageArchive;
+    private final MessageSearchIndex messageSearchIndex;
+    private final MessageSearchProperties messageSearchProperties;
+
+    // 메시지 페이지 크기 상한
+    static final int MAX_MESSAGE_PAGE_SIZE = 100;
+
+    // 메시지 created_at 범위 조건의 여유 (파티션은 월 단위라 하루 여유는 조회 범위에 거의 영향이 없음)
+    static final int MESSAGE_TIME_SLACK_DAYS = 1;
+    private static final LocalDateTime MESSAGES_EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    // 검색 한 번에 색인 후보를 읽는 최대 횟수 (후보가 대부분 내용 확인에서 걸러질 때 무한히 읽지 않도록)
+    static final int MAX_SEARCH_ROUNDS = 5;
 
     // 채팅방 생성 또는 조회 (이미 있으면 반환)
     public ChatRoom getOrCreateChatRoom(Long buyerId, Long sellerId, Long productId) {
@@ -72,7 +107,11 @@ public class ChatService {
                 .product(product)
                 .build();
 
-        return chatRoomRepository.save(chatRoom);
+        ChatRoom saved = chatRoomRepository.save(chatRoom);
+        // 새 구매 문의는 인기 순위에 반영 (커밋 후)
+        eventPublisher.publishEvent(TrendingSignal.chatRoomCreated(product.getId(),
+                product.getCategory() != null ? product.getCategory().getId() : null));
+        return saved;
     }
 
     // 메시지 전송
@@ -116,20 +155,33 @@ public class ChatService {
         log.debug("채팅방 참여자 확인 성공: senderId={}, senderInternalId={}, buyerId={}, sellerId={}", 
                 senderId, senderInternalId, buyerId, sellerId);
 
+        // 채팅방 메시지 순번 발급 (보낸 사람은 새 메시지까지 읽은 것으로 처리)
+        chatRoomRepository.incrementMessageSeq(chatRoomId, senderInternalId);
+        long seq = chatRoomRepository.findLastMessageSeqById(chatRoomId);
+
         Message message = Message.builder()
                 .chatRoom(chatRoom)
                 .sender(sender)
+                .seq(seq)
                 .content(content)
                 .isRead(false)
                 .build();
 
-        return messageRepository.save(message);
+        chatActivityTracker.touch(chatRoomId);
+        Message saved = messageRepository.save(message);
+        // 채팅방 목록용 마지막 메시지 요약 (같은 트랜잭션)
+        chatRoomRepository.updateLastMessage(chatRoomId, saved.getId(), LastMessageSnapshot.preview(content),
+                senderInternalId, saved.getCreatedAt());
+        // 최근 메시지 버퍼에 반영 (커밋 후)
+        recentMessageBuffer.append(chatRoomId, saved);
+        return saved;
     }
 
     // 채팅방 상세 조회
+    @Transactional(readOnly = true)
     public ChatRoom getChatRoomById(Long chatRoomId) {
         try {
-            log.info("채팅방 상세 조회 시작: chatRoomId={}", chatRoomId);
+            log.debug("채팅방 상세 조회 시작: chatRoomId={}", chatRoomId);
             ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
                     .orElse(null);
             
@@ -179,25 +231,11 @@ public class ChatService {
                         });
                     }
                 }
-                if (chatRoom.getMessages() != null && !chatRoom.getMessages().isEmpty()) {
-                    chatRoom.getMessages().forEach(msg -> {
-                        if (msg != null) {
-                            msg.getId();
-                            msg.getContent();
-                            msg.getCreatedAt();
-                            msg.isRead();
-                            if (msg.getSender() != null) {
-                                msg.getSender().getId();
-                                msg.getSender().getNickname();
-                            }
-                        }
-                    });
-                }
             } catch (Exception e) {
                 log.error("채팅방 초기화 중 오류: {}", e.getMessage(), e);
             }
             
-            log.info("채팅방 상세 조회 성공: chatRoomId={}", chatRoomId);
+            log.debug("채팅방 상세 조회 성공: chatRoomId={}", chatRoomId);
             return chatRoom;
         } catch (Exception e) {
             log.error("채팅방 상세 조회 중 오류 발생: chatRoomId={}, error={}", chatRoomId, e.getMessage(), e);
@@ -206,9 +244,10 @@ public class ChatService {
     }
 
     // 채팅방 목록 조회 (사용자가 참여한 모든 채팅방)
+    @Transactional(readOnly = true)
     public List<ChatRoom> getUserChatRooms(Long userId) {
         try {
-            log.info("사용자 채팅방 조회 시작 - userId={}", userId);
+            log.debug("사용자 채팅방 조회 시작 - userId={}", userId);
             UserProfile user = userProfileRepository.findById(userId)
                     .orElse(null);
             
@@ -275,61 +314,18 @@ public class ChatService {
                                 });
                             }
                         }
-                        // 메시지 초기화 (최근 메시지 정보를 위해)
-                        // LazyInitializationException 방지를 위해 MessageRepository를 통해 조회
-                        try {
-                            List<Message> messages = messageRepository.findByChatRoomOrderByCreatedAtAsc(room);
-                            if (messages != null && !messages.isEmpty()) {
-                                // messages를 room에 설정 (getLastMessage()에서 사용하기 위해)
-                                // 단, 이미 초기화된 컬렉션이 있으면 교체하지 않음
-                                if (room.getMessages() == null || room.getMessages().isEmpty()) {
-                                    room.setMessages(messages);
-                                }
-                                // 각 메시지의 sender 초기화
-                                messages.forEach(msg -> {
-                                    try {
-                                        if (msg != null && msg.getSender() != null) {
-                                            msg.getSender().getId();
-                                            msg.getSender().getNickname();
-                                        }
-                                    } catch (Exception e) {
-                                        log.warn("메시지 {}의 sender 초기화 중 오류: {}", msg != null ? msg.getId() : "null", e.getMessage());
-                                    }
-                                });
-                                
-                                // 읽지 않은 메시지 수 계산 (현재 사용자가 보낸 메시지 제외)
-                                try {
-                                    long unreadCount = messageRepository.countByChatRoomAndSenderNotAndIsReadFalse(room, finalUser);
-                                    room.setUnreadCount(unreadCount);
-                                    log.debug("채팅방 {}의 읽지 않은 메시지 수: {}", room.getId(), unreadCount);
-                                } catch (Exception e) {
-                                    log.warn("채팅방 {}의 읽지 않은 메시지 수 계산 중 오류: {}", room.getId(), e.getMessage());
-                                    room.setUnreadCount(0L);
-                                }
-                            } else {
-                                // 메시지가 없으면 빈 리스트로 설정
-                                room.setMessages(new ArrayList<>());
-                                room.setUnreadCount(0L);
-                            }
-                        } catch (Exception e) {
-                            log.warn("채팅방 {}의 메시지 조회 중 오류: {}", room.getId(), e.getMessage());
-                            // 메시지 조회 실패해도 채팅방은 반환 (빈 리스트로 설정)
-                            try {
-                                room.setMessages(new ArrayList<>());
-                                room.setUnreadCount(0L);
-                            } catch (Exception ex) {
-                                log.warn("채팅방 {}에 빈 메시지 리스트 설정 실패: {}", room.getId(), ex.getMessage());
-                            }
-                        }
+                        // 마지막 메시지는 채팅방의 요약 컬럼으로 응답 (messages 테이블은 읽지 않음)
+                        // 읽지 않은 메시지 수: 메시지 순번 - 읽음 커서 (COUNT 쿼리 없음)
+                        room.setUnreadCount(room.unreadCountFor(finalUser.getId()));
                         validRooms.add(room);
                     } catch (Exception e) {
                         log.error("채팅방 {} 초기화 중 오류: {}", room.getId(), e.getMessage(), e);
                     }
                 });
-                log.info("유효한 채팅방 {}개 반환", validRooms.size());
+                log.debug("유효한 채팅방 {}개 반환", validRooms.size());
                 return validRooms;
             }
-            log.info("채팅방이 없습니다. 빈 리스트 반환");
+            log.debug("채팅방이 없습니다. 빈 리스트 반환");
             return new ArrayList<>();
         } catch (Exception e) {
             log.error("사용자 채팅방 조회 중 오류 발생: userId={}, error={}", userId, e.getMessage(), e);
@@ -337,9 +333,40 @@ public class ChatService {
         }
     }
 
-    // 채팅방의 메시지 목록 조회
+    // 채팅방의 메시지 목록 조회 (전체 기록)
+    @Transactional(readOnly = true)
     public List<Message> getChatRoomMessages(Long chatRoomId) {
-        log.info("채팅방 메시지 조회 시작: chatRoomId={}", chatRoomId);
+        return getChatRoomMessages(chatRoomId, null, null);
+    }
+
+    /**
+     * 채팅방의 메시지를 오래된 순으로 조회합니다.
+     *
+     * <p>첫 페이지(beforeId 없음)는 최근 메시지 버퍼에서 응답하고, 버퍼에 없거나 더 이전 기록을
+     * 요청하면 DB에서 읽습니다. DB에서 읽은 최근 메시지는 버퍼를 채우는 데 사용합니다.</p>
+     *
+     * @param beforeId 이 ID보다 이전 메시지만 조회 (null이면 최신 메시지부터)
+     * @param limit    조회할 메시지 수 (null이면 전체 기록, 최대 {@value #MAX_MESSAGE_PAGE_SIZE})
+     */
+    @Transactional(readOnly = true)
+    public List<Message> getChatRoomMessages(Long chatRoomId, Long beforeId, Integer limit) {
+        log.debug("채팅방 메시지 조회 시작: chatRoomId={}, beforeId={}, limit={}", chatRoomId, beforeId, limit);
+        Integer size = limit != null ? Math.max(1, Math.min(limit, MAX_MESSAGE_PAGE_SIZE)) : null;
+
+        if (beforeId == null) {
+            Optional<List<Message>> buffered = recentMessageBuffer.recent(chatRoomId, size);
+            if (buffered.isPresent()) {
+                // 메시지는 메모리에서, 읽음 여부는 채팅방 읽음 커서 한 행으로 계산
+                ChatRoomReadCursors cursors = chatRoomRepository.findReadCursorsById(chatRoomId)
+                        .orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다. chatRoomId: " + chatRoomId));
+                chatActivityTracker.touch(chatRoomId);
+                List<Message> messages = buffered.get();
+                applyReadState(messages, cursors.getBuyerId(),
+                        cursors.getBuyerLastReadSeq(), cursors.getSellerLastReadSeq());
+                return messages;
+            }
+        }
+
         ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
                 .orElse(null);
         
@@ -349,33 +376,190 @@ public class ChatService {
         }
         
         log.debug("채팅방 조회 성공: chatRoomId={}", chatRoomId);
-        List<Message> messages = messageRepository.findByChatRoomOrderByCreatedAtAsc(chatRoom);
-        
-        // Lazy 로딩 엔티티 초기화
-        if (messages != null && !messages.isEmpty()) {
-            messages.forEach(message -> {
-                try {
-                    if (message.getSender() != null) {
-                        message.getSender().getId();
-                        message.getSender().getNickname();
-                    }
-                    if (message.getChatRoom() != null) {
-                        message.getChatRoom().getId();
+        chatActivityTracker.touch(chatRoomId);
+
+        if (beforeId != null) {
+            // 이전 기록은 버퍼를 거치지 않고 DB(부족하면 보관 데이터)에서 조회
+            List<Message> page = loadPage(chatRoom, beforeId, size != null ? size : MAX_MESSAGE_PAGE_SIZE);
+            applyReadState(page, chatRoom);
+            return page;
+        }
+
+        int capacity = chatBufferProperties.getCapacity();
+        if (size == null) {
+            // 전체 기록 (기존 호출): 마지막 capacity개로 버퍼를 채움
+            List<Message> messages = new ArrayList<>(messageArchive.loadAll(chatRoom));
+            messages.addAll(messageRepository.findByChatRoomAndCreatedAtBetweenOrderByCreatedAtAsc(
+                    chatRoom, messagesSince(chatRoom), messagesUntil(chatRoom)));
+            applyReadState(messages, chatRoom);
+            int from = Math.max(0, messages.size() - capacity);
+            recentMessageBuffer.seed(chatRoomId, messages.subList(from, messages.size()), from > 0);
+            return messages;
+        }
+
+        // 첫 페이지: 버퍼를 채울 만큼 읽고 요청한 수만큼 반환 (1건 더 읽어 이전 기록이 있는지 확인)
+        int fetch = Math.max(size, capacity);
+        List<Message> recent = loadPage(chatRoom, null, fetch + 1);
+        boolean hasMore = recent.size() > fetch;
+        if (hasMore) {
+            recent.remove(0);
+        }
+        applyReadState(recent, chatRoom);
+        recentMessageBuffer.seed(chatRoomId, recent, hasMore);
+        return new ArrayList<>(recent.subList(Math.max(0, recent.size() - size), recent.size()));
+    }
+
+    /**
+     * id가 beforeId보다 작은 메시지 중 최신 count개를 오래된 순으로 조회합니다. (beforeId가 null이면 최신 메시지부터)
+     * messages 테이블에 부족하면 보관된 메시지로 채웁니다.
+     */
+    private List<Message> loadPage(ChatRoom chatRoom, Long beforeId, int count) {
+        PageRequest page = PageRequest.of(0, count);
+        LocalDateTime since = messagesSince(chatRoom);
+        LocalDateTime until = messagesUntil(chatRoom);
+        List<Message> messages = new ArrayList<>(beforeId == null
+                ? messageRepository.findByChatRoomAndCreatedAtBetweenOrderByIdDesc(chatRoom, since, until, page)
+                : messageRepository.findByChatRoomAndIdLessThanAndCreatedAtBetweenOrderByIdDesc(
+                        chatRoom, beforeId, since, until, page));
+        Collections.reverse(messages);
+        if (messages.size() >= count || chatRoom.getArchivedThroughSeq() <= 0) {
+            return messages;
+        }
+        long olderThan = !messages.isEmpty() ? messages.get(0).getId() : beforeId != null ? beforeId : Long.MAX_VALUE;
+        List<Message> merged = messageArchive.loadBefore(chatRoom, olderThan, count - messages.size());
+        merged.addAll(messages);
+        return merged;
+    }
+
+    /**
+     * 채팅방 안에서 검색어가 포함된 메시지를 최신순으로 찾습니다.
+     *
+     * <p>아직 색인되지 않은 최근 메시지(색인 진행 위치 이후)는 messages에서 직접 확인하고, 그 이전은 검색어의 2글자
+     * 토큰을 모두 가진 메시지를 색인에서 후보로 찾습니다. 실제 내용에 검색어의 모든 단어가 있는 메시지만 반환하며,
+     * messages 테이블 결과가 부족하면 보관된 메시지에서 이어서 찾습니다.
+     * 결과의 {@code contextBeforeId}로 메시지 목록 API를 호출하면 해당 메시지 주변 대화를 받을 수 있습니다.</p>
+     *
+     * @param beforeId 이 ID보다 이전 메시지만 검색 (이전 결과의 nextCursor)
+     * @param limit    결과 수 (null이면 기본값, 최대 {@code ssak3.message-search.max-limit})
+     */
+    @Transactional(readOnly = true)
+    public MessageSearchResult searchMessages(Long chatRoomId, String query, Long beforeId, Integer limit) {
+        List<String> terms = MessageSearchIndex.terms(query);
+        Set<String> tokens = MessageSearchIndex.tokens(terms);
+        if (tokens.isEmpty()) {
+            throw new IllegalArgumentException("검색어는 2자 이상 입력해주세요.");
+        }
+        int size = limit != null
+                ? Math.max(1, Math.min(limit, messageSearchProperties.getMaxLimit()))
+                : messageSearchProperties.getDefaultLimit();
+
+        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
+                .orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다. chatRoomId: " + chatRoomId));
+
+        // 1건 더 찾아 다음 페이지가 있는지 확인
+        LocalDateTime since = messagesSince(chatRoom);
+        LocalDateTime until = messagesUntil(chatRoom);
+        List<Message> hits = new ArrayList<>();
+        long cursor = beforeId != null ? beforeId : Long.MAX_VALUE;
+        int batch = (size + 1) * 2;
+        boolean exhausted = false;
+        int round = 0;
+        // 색인 작업은 전송과 별도로 진행되므로, 진행 위치 이후 메시지는 내용을 직접 확인
+        long indexedBefore = messageSearchIndex.indexedBefore();
+        for (; cursor > indexedBefore && round < MAX_SEARCH_ROUNDS && hits.size() <= size; round++) {
+            List<Message> recent = messageRepository
+                    .findByChatRoomAndIdGreaterThanEqualAndIdLessThanAndCreatedAtBetweenOrderByIdDesc(
+                            chatRoom, indexedBefore, cursor, since, until, PageRequest.of(0, MAX_MESSAGE_PAGE_SIZE));
+            for (Message message : recent) {
+                if (hits.size() <= size && MessageSearchIndex.matches(message.getContent(), terms)) {
+                    hits.add(message);
+                }
+            }
+            cursor = recent.size() < MAX_MESSAGE_PAGE_SIZE ? indexedBefore : recent.get(recent.size() - 1).getId();
+        }
+        for (; round < MAX_SEARCH_ROUNDS && hits.size() <= size; round++) {
+            List<Long> candidateIds = messageSearchIndex.findCandidates(chatRoomId, tokens, cursor, batch);
+            if (!candidateIds.isEmpty()) {
+                for (Message message : messageRepository.findByChatRoomAndIdInAndCreatedAtBetweenOrderByIdDesc(
+                        chatRoom, candidateIds, since, until)) {
+                    if (hits.size() <= size && MessageSearchIndex.matches(message.getContent(), terms)) {
+                        hits.add(message);
                     }
-                } catch (Exception e) {
-                    log.error("메시지 초기화 중 오류: {}", e.getMessage());
                 }
+                cursor = candidateIds.get(candidateIds.size() - 1);
+            }
+            if (candidateIds.size() < batch) {
+                exhausted = true;
+                break;
+            }
+        }
+
+        if (!exhausted && hits.size() <= size) {
+            // 후보를 다 확인하지 못함: 확인한 위치부터 이어서 검색하도록 커서 반환
+            return new MessageSearchResult(toHits(hits), cursor, true);
+        }
+
+        if (hits.size() <= size && chatRoom.getArchivedThroughSeq() > 0) {
+            // 보관된 메시지는 색인하지 않으므로 보관 데이터에서 직접 확인
+            long olderThan = beforeId != null ? beforeId : Long.MAX_VALUE;
+            Set<Long> found = new HashSet<>();
+            hits.forEach(message -> found.add(message.getId()));
+            messageArchive.scanBefore(chatRoom, olderThan, message -> {
+                if (!found.contains(message.getId()) && MessageSearchIndex.matches(message.getContent(), terms)) {
+                    hits.add(message);
+                }
+                return hits.size() <= size;
             });
+            hits.sort(Comparator.comparing(Message::getId).reversed());
+        }
+
+        boolean hasNext = hits.size() > size;
+        List<Message> page = hasNext ? hits.subList(0, size) : hits;
+        return new MessageSearchResult(toHits(page), hasNext ? page.get(page.size() - 1).getId() : null, hasNext);
+    }
+
+    /**
+     * 채팅방 메시지 조회의 created_at 하한. 메시지는 채팅방이 만들어진 뒤에만 생기므로 그 이전 월 파티션은 건너뜁니다.
+     * (인스턴스 간 시계 차이를 고려해 {@value #MESSAGE_TIME_SLACK_DAYS}일 여유)
+     */
+    private static LocalDateTime messagesSince(ChatRoom chatRoom) {
+        return chatRoom.getCreatedAt() != null
+                ? chatRoom.getCreatedAt().minusDays(MESSAGE_TIME_SLACK_DAYS)
+                : MESSAGES_EPOCH;
+    }
+
+    /**
+     * 채팅방 메시지 조회의 created_at 상한. 마지막 메시지 요약 시각 이후의 월 파티션은 건너뜁니다.
+     * 채팅방을 읽은 뒤 커밋된 메시지는 빠질 수 있지만, 채팅방을 조금 먼저 읽은 것과 같습니다.
+     */
+    private static LocalDateTime messagesUntil(ChatRoom chatRoom) {
+        LocalDateTime lastMessageAt = chatRoom.getLastMessageSnapshot() != null
+                ? chatRoom.getLastMessageSnapshot().getSentAt()
+                : null;
+        return (lastMessageAt != null ? lastMessageAt : LocalDateTime.now()).plusDays(MESSAGE_TIME_SLACK_DAYS);
+    }
+
+    private static List<MessageSearchResult.Hit> toHits(List<Message> messages) {
+        return messages.stream()
+                .map(message -> new MessageSearchResult.Hit(message.getId(), message.getSeq(), message.getSenderId(),
+                        LastMessageSnapshot.preview(message.getContent()), message.getCreatedAt(), message.getId() + 1))
+                .toList();
+    }
+
+    private static void applyReadState(List<Message> messages, ChatRoom chatRoom) {
+        applyReadState(messages, chatRoom.getBuyerId(), chatRoom.getBuyerLastReadSeq(), chatRoom.getSellerLastReadSeq());
+    }
+
+    // 상대방의 읽음 커서로 메시지 읽음 여부를 채움 (구매자가 보낸 메시지는 판매자 커서와 비교)
+    private static void applyReadState(List<Message> messages, Long buyerId, long buyerLastReadSeq, long sellerLastReadSeq) {
+        for (Message message : messages) {
+            long recipientCursor = Objects.equals(message.getSenderId(), buyerId) ? sellerLastReadSeq : buyerLastReadSeq;
+            message.setRead(message.getSeq() != null && message.getSeq() <= recipientCursor);
         }
-        
-        return messages != null ? messages : new ArrayList<>();
     }
 
     // 메시지 읽음 처리
     public void markMessagesAsRead(Long chatRoomId, Long userId) {
-        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
-                .orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다."));
-        
         // 사용자 존재 확인
         UserProfile user = userProfileRepository.findById(userId)
                 .orElse(null);
@@ -386,15 +570,10 @@ public class ChatService {
             throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
         }
 
-        // 상대방이 보낸 메시지만 읽음 처리 (더 효율적으로)
-        final Long finalUserId = user.getId();
-        List<Message> messages = messageRepository.findByChatRoomOrderByCreatedAtAsc(chatRoom);
-        messages.stream()
-                .filter(msg -> !msg.getSender().getId().equals(finalUserId) && !msg.isRead())
-                .forEach(msg -> {
-                    msg.setRead(true);
-                    messageRepository.save(msg);
-                });
+        // 사용자의 읽음 커서를 마지막 메시지로 이동 (채팅방 한 행만 수정)
+        if (chatRoomRepository.markAllRead(chatRoomId, user.getId()) == 0) {
+            throw new IllegalArgumentException("채팅방을 찾을 수 없습니다.");
+        }
     }
 
     // 채팅방 삭제 (나가기) - 채팅방에 참여한 사용자만 삭제 가능
@@ -434,9 +613,14 @@ public class ChatService {
             throw new IllegalArgumentException("채팅방에 참여하지 않은 사용자입니다. 채팅방을 삭제할 권한이 없습니다.");
         }
         
-        // 채팅방 삭제 (cascade = CascadeType.ALL이므로 메시지도 함께 삭제됨)
+        // 채팅방 삭제: 메시지와 보관 데이터, 검색 색인을 먼저 한 번에 지운 뒤 채팅방 삭제
         log.info("채팅방 삭제 실행: chatRoomId={}, userId={}", chatRoomId, userId);
-        chatRoomRepository.deleteById(chatRoomId);
+        int deletedMessages = messageRepository.deleteByChatRoomId(chatRoomId);
+        messageArchive.delete(chatRoomId);
+        messageSearchIndex.deleteRoom(chatRoomId);
+        chatRoomRepository.delete(chatRoom);
+        log.debug("채팅방 메시지 삭제: chatRoomId={}, count={}", chatRoomId, deletedMessages);
+        recentMessageBuffer.invalidate(chatRoomId);
         log.info("채팅방 삭제 완료: chatRoomId={}, userId={}", chatRoomId, userId);
     }
 }
@@ -0,0 +1,193 @@
+package org.example.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.entity.Like;
+import org.example.entity.Product;
+import org.example.entity.UserProfile;
+import org.example.repository.LikeRepository;
+import org.example.repository.ProductRepository;
+import org.example.repository.UserProfileRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 사용자/상품/찜 전체 데이터를 NDJSON 또는 CSV로 내보냅니다.
+ *
+ * <p>리포지토리의 {@code Stream} 조회(JDBC fetch size 500)로 한 행씩 읽어 바로 출력 스트림에 쓰고,
+ * {@value #CLEAR_INTERVAL}행마다 영속성 컨텍스트를 비우고 출력을 flush하므로
+ * 테이블 크기와 관계없이 메모리 사용량이 일정합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+    static final int CLEAR_INTERVAL = 500;
+
+    private static final List<String> USER_COLUMNS = List.of(
+            "id", "kakaoId", "nickname", "profileImage", "temperature", "createdAt", "updatedAt");
+    private static final List<String> PRODUCT_COLUMNS = List.of(
+            "id", "title", "price", "status", "categoryId", "categoryName", "sellerId", "sellerNickname",
+            "createdAt", "updatedAt");
+    private static final List<String> LIKE_COLUMNS = List.of(
+            "id", "userId", "userNickname", "productId", "productTitle", "createdAt");
+
+    private final UserProfileRepository userProfileRepository;
+    private final ProductRepository productRepository;
+    private final LikeRepository likeRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format from(String value) {
+            try {
+                return Format.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value + " (ndjson, csv)");
+            }
+        }
+    }
+
+    /**
+     * 전체 사용자를 내보냅니다. 반환값은 내보낸 행 수입니다.
+     */
+    @Transactional(readOnly = true)
+    public long exportUsers(Format format, OutputStream out) throws IOException {
+        try (Stream<UserProfile> users = userProfileRepository.streamAll()) {
+            return write(format, out, USER_COLUMNS, users, user -> new Object[]{
+                    user.getId(), user.getKakaoId(), user.getNickname(), user.getProfileImage(),
+                    user.getTemperature(), user.getCreatedAt(), user.getUpdatedAt()
+            });
+        }
+    }
+
+    /**
+     * 전체 상품을 판매자/카테고리 정보와 함께 내보냅니다. (이미지는 제외)
+     */
+    @Transactional(readOnly = true)
+    public long exportProducts(Format format, OutputStream out) throws IOException {
+        try (Stream<Product> products = productRepository.streamAllWithSellerAndCategory()) {
+            return write(format, out, PRODUCT_COLUMNS, products, product -> new Object[]{
+                    product.getId(), product.getTitle(), product.getPrice(), product.getStatus(),
+                    product.getCategory().getId(), product.getCategory().getName(),
+                    product.getSeller().getId(), product.getSeller().getNickname(),
+                    product.getCreatedAt(), product.getUpdatedAt()
+            });
+        }
+    }
+
+    /**
+     * 전체 찜 목록을 사용자/상품 요약과 함께 내보냅니다.
+     */
+    @Transactional(readOnly = true)
+    public long exportLikes(Format format, OutputStream out) throws IOException {
+        try (Stream<Like> likes = likeRepository.streamAllWithUserAndProduct()) {
+            return write(format, out, LIKE_COLUMNS, likes, like -> new Object[]{
+                    like.getId(), like.getUser().getId(), like.getUser().getNickname(),
+                    like.getProduct().getId(), like.getProduct().getTitle(), like.getCreatedAt()
+            });
+        }
+    }
+
+    private <T> long write(Format format, OutputStream out, List<String> columns, Stream<T> rows,
+                           Function<T, Object[]> toRow) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        JsonGenerator json = null;
+        if (format == Format.NDJSON) {
+            json = objectMapper.getFactory().createGenerator(writer);
+            json.setRootValueSeparator(null);
+        } else {
+            writer.write('\uFEFF'); // 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM
+            writeCsvLine(writer, columns.toArray());
+        }
+
+        long count = 0;
+        var iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            Object[] values = toRow.apply(iterator.next());
+            if (json != null) {
+                json.writeStartObject();
+                for (int i = 0; i < columns.size(); i++) {
+                    json.writeObjectField(columns.get(i), values[i]);
+                }
+                json.writeEndObject();
+                json.writeRaw('\n');
+            } else {
+                writeCsvLine(writer, values);
+            }
+            if (++count % CLEAR_INTERVAL == 0) {
+                entityManager.clear();
+                if (json != null) {
+                    json.flush();
+                }
+                writer.flush();
+            }
+        }
+        if (json != null) {
+            json.flush();
+        }
+        writer.flush();
+        return count;
+    }
+
+    private static void writeCsvLine(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvValue(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * RFC 4180 규칙으로 값을 감싸고, 스프레드시트가 수식으로 해석하지 않도록 =, +, -, @로 시작하는 문자열 앞에 '를 붙입니다.
+     */
+    static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (value instanceof CharSequence && !text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
@@ -8,9 +8,12 @@ import org.example.entity.UserProfile;
 import org.example.repository.LikeRepository;
 import org.example.repository.ProductRepository;
 import org.example.repository.UserProfileRepository;
+import org.example.trending.TrendingSignal;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -23,6 +26,7 @@ public class LikeService {
     private final LikeRepository likeRepository;
     private final UserProfileRepository userRepository;
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     //찜 추가
     public Like addLike(Long userId, Long productId) {
@@ -70,7 +74,10 @@ public class LikeService {
                 .product(product)
                 .build();
 
-        return likeRepository.save(like);
+        Like saved = likeRepository.save(like);
+        // 인기 순위 반영 (커밋 후)
+        eventPublisher.publishEvent(TrendingSignal.likeAdded(product.getId(), categoryIdOf(product)));
+        return saved;
     }
 
     // 찜 취소
@@ -112,12 +119,22 @@ public class LikeService {
         }
 
         likeRepository.delete(like);
+        // 찜했던 시각 기준으로 그때 더한 인기 점수를 뺌
+        long likedAtMillis = like.getCreatedAt() != null
+                ? like.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : System.currentTimeMillis();
+        eventPublisher.publishEvent(TrendingSignal.likeRemoved(product.getId(), categoryIdOf(product), likedAtMillis));
+    }
+
+    private static Long categoryIdOf(Product product) {
+        return product.getCategory() != null ? product.getCategory().getId() : null;
     }
 
     //내 찜리스트 보기
+    @Transactional(readOnly = true)
     public List<Like> getUserLikes(Long userId) {
         try {
-            log.info("찜 목록 조회 시작: userId={}", userId);
+            log.debug("찜 목록 조회 시작: userId={}", userId);
             // userId가 카카오 ID일 수도 있고, UserProfile의 id일 수도 있음
             UserProfile user = userRepository.findById(userId)
                     .orElse(null);
@@ -181,10 +198,10 @@ public class LikeService {
                         log.error("찜 초기화 중 오류: likeId={}, error={}", like.getId(), e.getMessage(), e);
                     }
                 });
-                log.info("유효한 찜 {}개 반환", validLikes.size());
+                log.debug("유효한 찜 {}개 반환", validLikes.size());
                 return validLikes;
             }
-            log.info("찜이 없습니다. 빈 리스트 반환");
+            log.debug("찜이 없습니다. 빈 리스트 반환");
             return new ArrayList<>();
         } catch (Exception e) {
             // 예외 발생 시 빈 리스트 반환
@@ -194,6 +211,7 @@ public class LikeService {
     }
 
     // 특정 사용자가 특정 상품을 찜했는지 확인
+    @Transactional(readOnly = true)
     public boolean isLiked(Long userId, Long productId) {
         try {
             // userId가 카카오 ID일 수도 있고, UserProfile의 id일 수도 있음
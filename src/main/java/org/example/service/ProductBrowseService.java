@@ -0,0 +1,197 @@
+package org.example.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.cache.PrecompressedResponseCache;
+import org.example.cache.ResponseCacheProperties;
+import org.example.dto.ProductBrowseCondition;
+import org.example.dto.ProductBrowseResult;
+import org.example.entity.Product;
+import org.example.entity.ProductStatus;
+import org.example.repository.ProductRepository;
+import org.example.trending.TrendingEngine;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리/가격/상태/키워드 필터와 정렬을 조합한 상품 탐색.
+ *
+ * <p>페이지는 키셋 방식이라 뒤 페이지로 가도 건너뛸 행을 읽지 않습니다.
+ * 패싯 건수는 필터 조합별로 {@code ssak3.response-cache.ttl-seconds} 동안 캐시하고,
+ * 상품 목록 캐시가 무효화될 때(상품 등록/수정/삭제) 함께 비웁니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductBrowseService {
+
+    static final int DEFAULT_SIZE = 20;
+    static final int MAX_SIZE = 100;
+    private static final int FACET_CACHE_MAX_ENTRIES = 1000;
+
+    private final ProductRepository productRepository;
+    private final PrecompressedResponseCache responseCache;
+    private final ResponseCacheProperties cacheProperties;
+    private final TrendingEngine trendingEngine;
+
+    private final ConcurrentMap<ProductBrowseCondition, CachedFacets> facetCache = new ConcurrentHashMap<>();
+
+    private record CachedFacets(ProductBrowseResult.Facets facets, long expiresAtMillis) {
+    }
+
+    @PostConstruct
+    void registerInvalidation() {
+        responseCache.onInvalidate(PrecompressedResponseCache.PRODUCT_LIST, facetCache::clear);
+    }
+
+    /**
+     * 조건에 맞는 상품 한 페이지를 조회합니다. 커서가 없는 첫 요청에만 패싯 건수를 함께 반환합니다.
+     *
+     * @param status 상품 상태 (ON_SALE, RESERVED, SOLD_OUT)
+     * @param sort   latest(기본), price_asc, price_desc
+     * @param cursor 이전 응답의 {@code nextCursor}
+     */
+    @Transactional(readOnly = true)
+    public ProductBrowseResult browse(Long categoryId, Integer minPrice, Integer maxPrice, String status,
+                                      String keyword, String sort, String cursor, Integer size) {
+        ProductBrowseCondition condition = toCondition(categoryId, minPrice, maxPrice, status, keyword, sort, cursor, size);
+
+        List<Long> ids = productRepository.findBrowseIds(condition, condition.size() + 1);
+        boolean hasNext = ids.size() > condition.size();
+        if (hasNext) {
+            ids = ids.subList(0, condition.size());
+        }
+
+        List<Product> items = loadInOrder(ids);
+        String nextCursor = hasNext && !items.isEmpty() ? encodeCursor(condition.sort(), items.get(items.size() - 1)) : null;
+        ProductBrowseResult.Facets facets = condition.cursor() == null ? facets(condition) : null;
+        log.debug("상품 탐색: {}, count={}, hasNext={}", condition, items.size(), hasNext);
+        return new ProductBrowseResult(items, nextCursor, nextCursor != null, facets);
+    }
+
+    /**
+     * 인기 상품을 점수 순으로 조회합니다. 순위는 메모리에서 읽고, DB는 상위 상품 ID로 한 번만 조회합니다.
+     *
+     * @param categoryId null이면 전체 순위
+     */
+    @Transactional(readOnly = true)
+    public List<Product> trending(Long categoryId, Integer limit) {
+        int size = limit != null ? limit : DEFAULT_SIZE;
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("조회 개수는 1~" + MAX_SIZE + " 사이여야 합니다. limit=" + limit);
+        }
+        return loadInOrder(trendingEngine.topProductIds(categoryId, size));
+    }
+
+    /**
+     * ID 목록 순서대로 상품을 로딩합니다. (IN 조회는 순서를 보장하지 않음, 그 사이 삭제된 상품은 제외)
+     */
+    private List<Product> loadInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, Product> loaded = productRepository.findAllWithDetailsByIdIn(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        List<Product> items = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Product product = loaded.get(id);
+            if (product != null) {
+                items.add(product);
+            }
+        }
+        return items;
+    }
+
+    private ProductBrowseResult.Facets facets(ProductBrowseCondition condition) {
+        if (!cacheProperties.isEnabled()) {
+            return productRepository.countFacets(condition);
+        }
+        ProductBrowseCondition key = condition.withoutPaging();
+        long now = System.currentTimeMillis();
+        CachedFacets cached = facetCache.get(key);
+        if (cached != null && now < cached.expiresAtMillis()) {
+            return cached.facets();
+        }
+        ProductBrowseResult.Facets facets = productRepository.countFacets(condition);
+        if (facetCache.size() >= FACET_CACHE_MAX_ENTRIES) {
+            // 키워드 조합이 많아 커지면 통째로 비움 (TTL이 짧아 다시 채워지는 비용이 작음)
+            facetCache.clear();
+        }
+        facetCache.put(key, new CachedFacets(facets, now + cacheProperties.getTtlSeconds() * 1000L));
+        return facets;
+    }
+
+    private static ProductBrowseCondition toCondition(Long categoryId, Integer minPrice, Integer maxPrice, String status,
+                                                      String keyword, String sort, String cursor, Integer size) {
+        if (minPrice != null && minPrice < 0) {
+            throw new IllegalArgumentException("최소 가격은 0 이상이어야 합니다. minPrice=" + minPrice);
+        }
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            throw new IllegalArgumentException("최소 가격이 최대 가격보다 큽니다. minPrice=" + minPrice + ", maxPrice=" + maxPrice);
+        }
+        int pageSize = size != null ? size : DEFAULT_SIZE;
+        if (pageSize < 1 || pageSize > MAX_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1~" + MAX_SIZE + " 사이여야 합니다. size=" + size);
+        }
+        ProductBrowseCondition.Sort sortOrder = ProductBrowseCondition.Sort.from(sort);
+        ProductBrowseCondition.Cursor decoded = cursor != null && !cursor.isBlank() ? decodeCursor(cursor) : null;
+        if (decoded != null && decoded.sort() != sortOrder) {
+            throw new IllegalArgumentException("커서와 정렬이 일치하지 않습니다. sort=" + sortOrder + ", cursor=" + decoded.sort());
+        }
+        String trimmedKeyword = keyword != null && !keyword.isBlank() ? keyword.trim() : null;
+        return new ProductBrowseCondition(categoryId, minPrice, maxPrice, parseStatus(status), trimmedKeyword,
+                sortOrder, decoded, pageSize);
+    }
+
+    private static ProductStatus parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        try {
+            return ProductStatus.valueOf(status.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 상품 상태입니다: " + status + " (ON_SALE, RESERVED, SOLD_OUT)");
+        }
+    }
+
+    /**
+     * 커서 형식: Base64URL("정렬|정렬 키 값|상품 ID")
+     */
+    static String encodeCursor(ProductBrowseCondition.Sort sort, Product last) {
+        String value = sort == ProductBrowseCondition.Sort.LATEST
+                ? last.getCreatedAt().toString()
+                : String.valueOf(last.getPrice());
+        String raw = sort.name() + "|" + value + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static ProductBrowseCondition.Cursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException(raw);
+            }
+            ProductBrowseCondition.Sort sort = ProductBrowseCondition.Sort.valueOf(parts[0]);
+            long id = Long.parseLong(parts[2]);
+            return sort == ProductBrowseCondition.Sort.LATEST
+                    ? new ProductBrowseCondition.Cursor(sort, LocalDateTime.parse(parts[1]), null, id)
+                    : new ProductBrowseCondition.Cursor(sort, null, Integer.parseInt(parts[1]), id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+}
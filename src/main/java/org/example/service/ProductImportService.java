@@ -0,0 +1,501 @@
+package org.example.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.cache.PrecompressedResponseCache;
+import org.example.config.ProductImportProperties;
+import org.example.dto.BulkImportResult;
+import org.example.dto.BulkProductItem;
+import org.example.entity.Category;
+import org.example.entity.ProductStatus;
+import org.example.monitoring.UploadMetrics;
+import org.example.repository.CategoryRepository;
+import org.example.repository.EntityVersion;
+import org.example.repository.UserProfileRepository;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipInputStream;
+
+/**
+ * 상품 일괄 등록 (NDJSON 매니페스트 + 이미지 파일 또는 zip 압축 파일)
+ *
+ * <p>단건 등록({@link ProductService#createProduct})을 반복하는 대신
+ * 판매자는 한 번만 조회하고, 카테고리는 메모리 맵으로 검증하며,
+ * 이미지는 병렬로 저장한 뒤 상품과 이미지 행을 JDBC 배치로 넣습니다.</p>
+ *
+ * <p>압축 해제, 검증, 이미지 저장은 트랜잭션 밖에서 하고(zip 항목은 힙이 아닌 임시 파일로 풀어 둠),
+ * DB 저장만 {@code batch-size}개씩 짧은 트랜잭션으로 나눠 커넥션을 오래 잡지 않습니다.
+ * 배치 저장이 실패하면 그 배치의 항목을 한 건씩 다시 저장해 문제 항목만 실패로 처리합니다.</p>
+ *
+ * <p>항목별로 검증하므로 일부 줄이 잘못되어도 나머지는 등록되고, 결과에 줄 번호와 사유가 담깁니다.
+ * 등록되지 못한 항목의 이미지 파일은 지웁니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductImportService {
+
+    private static final String INSERT_PRODUCT =
+            "INSERT INTO products (seller_id, category_id, title, description, price, status, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_IMAGE =
+            "INSERT INTO product_images (product_id, image_url, image_order, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final CategoryRepository categoryRepository;
+    private final UserProfileRepository userProfileRepository;
+    private final ObjectMapper objectMapper;
+    private final UploadMetrics uploadMetrics;
+    private final PrecompressedResponseCache responseCache;
+    private final ProductImportProperties properties;
+
+    // 이미지 파일 저장(디스크 I/O) 전용 스레드 풀
+    private final ExecutorService imageStagingExecutor = Executors.newFixedThreadPool(
+            Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors())), imageStagingThreadFactory());
+
+    /**
+     * 업로드된 이미지 한 개. multipart 파일과 zip 항목을 같은 방식으로 저장하기 위한 추상화입니다.
+     */
+    private interface ImageSource {
+        String name();
+
+        InputStream open() throws IOException;
+    }
+
+    /**
+     * 검증을 통과해 저장을 기다리는 항목.
+     */
+    private record Pending(int index, BulkProductItem item, long categoryId, List<ImageSource> images) {
+    }
+
+    /**
+     * 매니페스트와 이미지 파일(multipart {@code images})로 일괄 등록합니다.
+     */
+    public BulkImportResult importManifest(Long sellerId, InputStream manifest, List<MultipartFile> images)
+            throws IOException {
+        Map<String, ImageSource> sources = new HashMap<>();
+        if (images != null) {
+            for (MultipartFile file : images) {
+                if (file != null && !file.isEmpty() && file.getOriginalFilename() != null) {
+                    sources.put(baseName(file.getOriginalFilename()), new ImageSource() {
+                        @Override
+                        public String name() {
+                            return file.getOriginalFilename();
+                        }
+
+                        @Override
+                        public InputStream open() throws IOException {
+                            return file.getInputStream();
+                        }
+                    });
+                }
+            }
+        }
+        return importItems(sellerId, readLines(manifest), sources);
+    }
+
+    /**
+     * zip 압축 파일 하나로 일괄 등록합니다. 압축 파일 안의 {@code *.ndjson} 파일이 매니페스트이고,
+     * 나머지 파일은 매니페스트의 {@code images}에서 파일명으로 참조합니다.
+     * 이미지 항목은 임시 디렉토리에 풀었다가 등록이 끝나면 지웁니다.
+     */
+    public BulkImportResult importArchive(Long sellerId, InputStream archive) throws IOException {
+        Path workDir = Files.createTempDirectory("ssak3-import-");
+        try {
+            List<String> manifestLines = null;
+            Map<String, ImageSource> sources = new HashMap<>();
+            long maxBytes = properties.getMaxArchiveMb() * 1024 * 1024;
+            long[] totalBytes = {0};
+            int entryCount = 0;
+
+            try (ZipInputStream zip = new ZipInputStream(archive, StandardCharsets.UTF_8)) {
+                ZipEntry entry;
+                while ((entry = zip.getNextEntry()) != null) {
+                    if (entry.isDirectory()) {
+                        continue;
+                    }
+                    // 경로는 버리고 파일명만 사용 (임시/저장 경로는 항상 순번/UUID 기반이라 zip slip 영향 없음)
+                    String name = baseName(entry.getName());
+                    if (name.endsWith(".ndjson")) {
+                        if (manifestLines != null) {
+                            throw new IllegalArgumentException("압축 파일에 매니페스트(.ndjson)가 두 개 이상 있습니다.");
+                        }
+                        ByteArrayOutputStream out = new ByteArrayOutputStream();
+                        copyLimited(zip, out, totalBytes, maxBytes);
+                        manifestLines = readLines(new ByteArrayInputStream(out.toByteArray()));
+                    } else {
+                        Path file = workDir.resolve(String.valueOf(entryCount++));
+                        try (OutputStream out = Files.newOutputStream(file)) {
+                            copyLimited(zip, out, totalBytes, maxBytes);
+                        }
+                        sources.put(name, new ImageSource() {
+                            @Override
+                            public String name() {
+                                return name;
+                            }
+
+                            @Override
+                            public InputStream open() throws IOException {
+                                return Files.newInputStream(file);
+                            }
+                        });
+                    }
+                }
+            } catch (ZipException | EOFException e) {
+                throw new IllegalArgumentException("압축 파일 형식이 올바르지 않습니다: " + e.getMessage());
+            }
+            if (manifestLines == null) {
+                throw new IllegalArgumentException("압축 파일에 매니페스트(.ndjson)가 없습니다.");
+            }
+            return importItems(sellerId, manifestLines, sources);
+        } finally {
+            FileSystemUtils.deleteRecursively(workDir);
+        }
+    }
+
+    private BulkImportResult importItems(Long sellerId, List<String> lines, Map<String, ImageSource> sources)
+            throws IOException {
+        long startedAt = System.nanoTime();
+        long sellerDbId = resolveSellerId(sellerId);
+
+        // 카테고리는 한 번만 읽어 id/이름 맵으로 검증 (쿼리 캐시 적용)
+        Set<Long> categoryIds = new HashSet<>();
+        Map<String, Long> categoryIdsByName = new HashMap<>();
+        for (Category category : categoryRepository.findAll()) {
+            categoryIds.add(category.getId());
+            categoryIdsByName.put(category.getName(), category.getId());
+        }
+
+        BulkImportResult.Item[] results = new BulkImportResult.Item[lines.size()];
+        List<Pending> pending = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            BulkProductItem item;
+            try {
+                item = objectMapper.readValue(lines.get(i), BulkProductItem.class);
+            } catch (JsonProcessingException e) {
+                results[i] = BulkImportResult.Item.failed(i + 1, null, "JSON 형식 오류: " + e.getOriginalMessage());
+                continue;
+            }
+            String error = validate(item, categoryIds, categoryIdsByName, sources);
+            if (error != null) {
+                results[i] = BulkImportResult.Item.failed(i + 1, item.title(), error);
+                continue;
+            }
+            long categoryId = item.categoryId() != null ? item.categoryId() : categoryIdsByName.get(item.categoryName().trim());
+            List<ImageSource> images = new ArrayList<>();
+            if (item.images() != null) {
+                item.images().forEach(image -> images.add(sources.get(baseName(image))));
+            }
+            pending.add(new Pending(i, item, categoryId, images));
+        }
+
+        Map<Integer, List<File>> stagedFiles = stageImages(pending, results);
+        pending.removeIf(p -> results[p.index()] != null);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            for (int from = 0; from < pending.size(); from += properties.getBatchSize()) {
+                List<Pending> batch = pending.subList(from, Math.min(from + properties.getBatchSize(), pending.size()));
+                try {
+                    persist(batch, stagedFiles, sellerDbId, now, results);
+                } catch (RuntimeException e) {
+                    // 배치가 롤백되면 한 건씩 다시 저장해 문제 항목만 실패로 처리
+                    log.warn("상품 일괄 등록 배치 저장 실패, 한 건씩 다시 시도: {}", e.getMessage());
+                    for (Pending p : batch) {
+                        try {
+                            persist(List.of(p), stagedFiles, sellerDbId, now, results);
+                        } catch (RuntimeException itemError) {
+                            results[p.index()] = BulkImportResult.Item.failed(p.index() + 1, p.item().title(),
+                                    "저장 실패: " + rootMessage(itemError));
+                        }
+                    }
+                }
+            }
+        } finally {
+            // 등록되지 못한 항목(저장 실패, 중단)의 이미지 파일 삭제
+            for (Pending p : pending) {
+                BulkImportResult.Item result = results[p.index()];
+                if (result == null || result.status() != BulkImportResult.Status.CREATED) {
+                    stagedFiles.getOrDefault(p.index(), List.of()).forEach(File::delete);
+                }
+            }
+        }
+
+        int created = 0;
+        for (BulkImportResult.Item result : results) {
+            if (result.status() == BulkImportResult.Status.CREATED) {
+                created++;
+            }
+        }
+        if (created > 0) {
+            responseCache.invalidate(PrecompressedResponseCache.PRODUCT_LIST);
+        }
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("상품 일괄 등록: sellerId={}, 전체={}, 성공={}, 실패={}, {}ms",
+                sellerDbId, lines.size(), created, lines.size() - created, elapsedMillis);
+        return new BulkImportResult(lines.size(), created, lines.size() - created, elapsedMillis, List.of(results));
+    }
+
+    /**
+     * 상품과 이미지 행을 한 트랜잭션으로 저장하고, 커밋된 뒤에 결과를 성공으로 표시합니다.
+     */
+    private void persist(List<Pending> batch, Map<Integer, List<File>> stagedFiles, long sellerId, Timestamp now,
+                         BulkImportResult.Item[] results) {
+        List<Long> productIds = new TransactionTemplate(transactionManager).execute(status -> {
+            List<Long> ids = insertProducts(batch, sellerId, now);
+            List<Object[]> imageRows = new ArrayList<>();
+            for (int i = 0; i < batch.size(); i++) {
+                List<File> files = stagedFiles.getOrDefault(batch.get(i).index(), List.of());
+                for (int order = 0; order < files.size(); order++) {
+                    imageRows.add(new Object[]{ids.get(i), "/uploads/" + files.get(order).getName(), order, now, now});
+                }
+            }
+            if (!imageRows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_IMAGE, imageRows);
+            }
+            return ids;
+        });
+        for (int i = 0; i < batch.size(); i++) {
+            Pending p = batch.get(i);
+            results[p.index()] = BulkImportResult.Item.created(p.index() + 1, p.item().title(), productIds.get(i));
+        }
+    }
+
+    /**
+     * 판매자를 한 번만 확인합니다. (UserProfile id 또는 카카오 ID, 수정 시각 프로젝션만 조회)
+     */
+    private long resolveSellerId(Long sellerId) {
+        if (sellerId == null || sellerId <= 0) {
+            throw new IllegalArgumentException("유효하지 않은 판매자 ID입니다. sellerId=" + sellerId);
+        }
+        EntityVersion seller = userProfileRepository.findVersionById(sellerId)
+                .or(() -> userProfileRepository.findVersionByKakaoId(sellerId))
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "존재하지 않는 사용자입니다. sellerId: " + sellerId + " (카카오 로그인을 먼저 진행해주세요.)"));
+        return seller.getId();
+    }
+
+    private static String validate(BulkProductItem item, Set<Long> categoryIds, Map<String, Long> categoryIdsByName,
+                                   Map<String, ImageSource> sources) {
+        if (item == null) {
+            return "빈 항목입니다.";
+        }
+        if (item.title() == null || item.title().trim().isEmpty()) {
+            return "제목이 비어있습니다.";
+        }
+        if (item.price() == null || item.price() <= 0) {
+            return "가격이 0 이하이거나 null입니다. price=" + item.price();
+        }
+        if (item.categoryId() != null) {
+            if (!categoryIds.contains(item.categoryId())) {
+                return "존재하지 않는 카테고리입니다. categoryId: " + item.categoryId();
+            }
+        } else if (item.categoryName() == null || !categoryIdsByName.containsKey(item.categoryName().trim())) {
+            return "존재하지 않는 카테고리입니다. categoryName: " + item.categoryName();
+        }
+        if (item.images() != null) {
+            for (String image : item.images()) {
+                if (image == null || !sources.containsKey(baseName(image))) {
+                    return "업로드되지 않은 이미지입니다: " + image;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 모든 항목의 이미지를 병렬로 저장하고 항목별 파일 목록을 반환합니다.
+     * 이미지 저장에 실패한 항목은 실패로 표시하고 그 항목의 파일은 지웁니다.
+     */
+    private Map<Integer, List<File>> stageImages(List<Pending> pending, BulkImportResult.Item[] results)
+            throws IOException {
+        File uploadDir = new File(properties.getUploadDir());
+        if (!uploadDir.exists() && !uploadDir.mkdirs()) {
+            throw new IOException("업로드 디렉토리를 생성할 수 없습니다: " + properties.getUploadDir());
+        }
+
+        Map<Integer, List<Future<File>>> futures = new HashMap<>();
+        for (Pending p : pending) {
+            List<Future<File>> itemFutures = new ArrayList<>();
+            for (ImageSource image : p.images()) {
+                itemFutures.add(imageStagingExecutor.submit(() -> saveImage(uploadDir, image)));
+            }
+            futures.put(p.index(), itemFutures);
+        }
+
+        Map<Integer, List<File>> staged = new HashMap<>();
+        for (Pending p : pending) {
+            List<File> files = new ArrayList<>();
+            String error = null;
+            for (Future<File> future : futures.get(p.index())) {
+                try {
+                    files.add(future.get());
+                } catch (ExecutionException e) {
+                    error = "이미지 저장 실패: " + e.getCause().getMessage();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    error = "이미지 저장 중단";
+                }
+            }
+            if (error != null) {
+                files.forEach(File::delete);
+                results[p.index()] = BulkImportResult.Item.failed(p.index() + 1, p.item().title(), error);
+                continue;
+            }
+            staged.put(p.index(), files);
+        }
+        return staged;
+    }
+
+    private File saveImage(File uploadDir, ImageSource image) throws IOException {
+        String uniqueName = UUID.randomUUID().toString().replace("-", "") + "_" + ProductService.toSafeFilename(image.name());
+        File destination = new File(uploadDir, uniqueName);
+        try (InputStream in = image.open()) {
+            long bytes = Files.copy(in, destination.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            uploadMetrics.recordUpload(bytes);
+        }
+        return destination;
+    }
+
+    private List<Long> insertProducts(List<Pending> batch, long sellerId, Timestamp now) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_PRODUCT, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        BulkProductItem item = batch.get(i).item();
+                        ps.setLong(1, sellerId);
+                        ps.setLong(2, batch.get(i).categoryId());
+                        ps.setString(3, item.title().trim());
+                        ps.setString(4, item.description() != null ? item.description() : "");
+                        ps.setInt(5, item.price());
+                        ps.setString(6, ProductStatus.ON_SALE.name());
+                        ps.setTimestamp(7, now);
+                        ps.setTimestamp(8, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return batch.size();
+                    }
+                },
+                keyHolder);
+
+        List<Long> ids = new ArrayList<>(batch.size());
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            ids.add(((Number) keys.values().iterator().next()).longValue());
+        }
+        if (ids.size() != batch.size()) {
+            throw new IllegalStateException("생성된 상품 ID 수가 일치하지 않습니다: " + ids.size() + " != " + batch.size());
+        }
+        return ids;
+    }
+
+    /**
+     * 압축 해제한 전체 크기가 한도를 넘지 않도록 세면서 복사합니다.
+     */
+    private static void copyLimited(InputStream in, OutputStream out, long[] totalBytes, long maxBytes)
+            throws IOException {
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            totalBytes[0] += read;
+            if (totalBytes[0] > maxBytes) {
+                throw new IllegalArgumentException("압축 해제 용량이 너무 큽니다. (최대 " + maxBytes / (1024 * 1024) + "MB)");
+            }
+            out.write(buffer, 0, read);
+        }
+    }
+
+    private List<String> readLines(InputStream manifest) throws IOException {
+        List<String> lines = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(manifest, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            if (lines.size() == properties.getMaxItems()) {
+                throw new IllegalArgumentException("한 번에 등록할 수 있는 상품은 최대 " + properties.getMaxItems() + "개입니다.");
+            }
+            lines.add(line);
+        }
+        if (lines.isEmpty()) {
+            throw new IllegalArgumentException("매니페스트가 비어있습니다.");
+        }
+        return lines;
+    }
+
+    private static String rootMessage(Throwable error) {
+        Throwable root = error;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+
+    private static String baseName(String path) {
+        String normalized = path.replace('\\', '/');
+        return normalized.substring(normalized.lastIndexOf('/') + 1);
+    }
+
+    private static ThreadFactory imageStagingThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "image-staging-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    void shutdown() {
+        imageStagingExecutor.shutdown();
+    }
+}
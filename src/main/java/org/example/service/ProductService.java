@@ -1,15 +1,17 @@
 package org.example.service;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.cache.PrecompressedResponseCache;
 import org.example.entity.*;
+import org.example.monitoring.UploadMetrics;
 import org.example.repository.CategoryRepository;
 import org.example.repository.LikeRepository;
 import org.example.repository.ProductImageRepository;
 import org.example.repository.ProductRepository;
 import org.example.repository.UserProfileRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
@@ -18,6 +20,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Service
@@ -30,12 +33,17 @@ public class ProductService {
     private final UserProfileRepository userProfileRepository;
     private final ProductImageRepository productImageRepository;
     private final LikeRepository likeRepository;
+    private final UploadMetrics uploadMetrics;
+    private final PrecompressedResponseCache responseCache;
 
     private static final String UPLOAD_DIR = System.getProperty("user.dir") + File.separator + "uploads" + File.separator;
+    private static final Pattern UNSAFE_FILENAME_CHARS = Pattern.compile("[^a-zA-Z0-9._-]");
 
     //JSON 요청용 (이미지 없이)
     public Product createProduct(Product product) {
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        responseCache.invalidate(PrecompressedResponseCache.PRODUCT_LIST);
+        return saved;
     }
 
     // form-data + 이미지 업로드용
@@ -79,6 +87,7 @@ public class ProductService {
         product.setSeller(seller);
 
         Product savedProduct = productRepository.save(product);
+        responseCache.invalidate(PrecompressedResponseCache.PRODUCT_LIST);
 
         // 이미지 처리
         if (images != null && !images.isEmpty()) {
@@ -98,21 +107,7 @@ public class ProductService {
                 if (file != null && !file.isEmpty()) {
                     try {
                         // 원본 파일명에서 특수문자 제거
-                        String originalFilename = file.getOriginalFilename();
-                        if (originalFilename == null || originalFilename.trim().isEmpty()) {
-                            originalFilename = "image.jpg";
-                        }
-                        
-                        // 파일 확장자 추출
-                        String extension = "";
-                        int lastDotIndex = originalFilename.lastIndexOf('.');
-                        if (lastDotIndex > 0) {
-                            extension = originalFilename.substring(lastDotIndex);
-                        }
-                        
-                        // 파일명에서 특수문자 제거 및 공백을 언더스코어로 변경
-                        String safeFilename = originalFilename.substring(0, lastDotIndex > 0 ? lastDotIndex : originalFilename.length())
-                                .replaceAll("[^a-zA-Z0-9._-]", "_") + extension;
+                        String safeFilename = toSafeFilename(file.getOriginalFilename());
                         
                         // 파일명 생성
                         String uniqueName = UUID.randomUUID().toString().replace("-", "") + "_" + safeFilename;
@@ -120,6 +115,7 @@ public class ProductService {
                     // 실제 파일 저장
                     File destination = new File(UPLOAD_DIR + uniqueName);
                     file.transferTo(destination);
+                    uploadMetrics.recordUpload(file.getSize());
 
                         // DB에 이미지 정보 저장 (URL은 웹 경로로 저장)
                         String imageUrl = "/uploads/" + uniqueName;
@@ -133,8 +129,7 @@ public class ProductService {
                     imageEntities.add(image);
                     } catch (IOException e) {
                         // 개별 이미지 저장 실패 시 로그만 남기고 계속 진행
-                        System.err.println("이미지 저장 실패: " + (file.getOriginalFilename() != null ? file.getOriginalFilename() : "unknown") + " - " + e.getMessage());
-                        e.printStackTrace();
+                        log.warn("이미지 저장 실패: {}", file.getOriginalFilename() != null ? file.getOriginalFilename() : "unknown", e);
                     }
                 }
             }
@@ -147,11 +142,12 @@ public class ProductService {
     }
 
     // 전체 상품 조회
+    @Transactional(readOnly = true)
     public List<Product> getAllProducts() {
         try {
-            log.info("전체 상품 조회 시작");
+            log.debug("전체 상품 조회 시작");
             List<Product> products = productRepository.findAll();
-            log.info("상품 조회 완료: {}개", products != null ? products.size() : 0);
+            log.debug("상품 조회 완료: {}개", products != null ? products.size() : 0);
             
             // seller와 category를 명시적으로 초기화하여 LazyInitializationException 방지
             // 트랜잭션 내에서 실행되므로 안전하게 접근 가능
@@ -185,19 +181,25 @@ public class ProductService {
                         log.error("상품 {} 초기화 중 오류: {}", product.getId(), e.getMessage(), e);
                     }
                 });
-                log.info("유효한 상품 {}개 반환", validProducts.size());
+                log.debug("유효한 상품 {}개 반환", validProducts.size());
                 return validProducts;
             }
-            log.info("상품이 없습니다. 빈 리스트 반환");
+            log.debug("상품이 없습니다. 빈 리스트 반환");
             return new ArrayList<>();
         } catch (Exception e) {
             log.error("상품 조회 중 오류 발생: {}", e.getMessage(), e);
-            e.printStackTrace();
             return new ArrayList<>();
         }
     }
 
+    // 상품 수정 시각 조회 (조건부 요청용, 엔티티 그래프를 읽지 않음)
+    @Transactional(readOnly = true)
+    public Optional<ProductRepository.ProductVersion> getProductVersion(Long id) {
+        return productRepository.findVersionById(id);
+    }
+
     // 상품 상세조회
+    @Transactional(readOnly = true)
     public Optional<Product> getProductById(Long id) {
         Optional<Product> productOpt = productRepository.findById(id);
         if (productOpt.isPresent()) {
@@ -217,13 +219,14 @@ public class ProductService {
                     product.getImages().size();
                 }
             } catch (Exception e) {
-                System.err.println("상품 초기화 중 오류: " + e.getMessage());
+                log.warn("상품 초기화 중 오류: {}", e.getMessage());
             }
         }
         return productOpt;
     }
 
     // 카테고리별 조회
+    @Transactional(readOnly = true)
     public List<Product> getProductsByCategory(Long categoryId) {
         Category category = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 카테고리입니다."));
@@ -244,7 +247,7 @@ public class ProductService {
                         product.getImages().size();
                     }
                 } catch (Exception e) {
-                    System.err.println("상품 초기화 중 오류: " + e.getMessage());
+                    log.warn("상품 초기화 중 오류: {}", e.getMessage());
                 }
             });
         }
@@ -252,6 +255,7 @@ public class ProductService {
     }
 
     // 판매자별 조회 (현재 사용자 ID를 받아서 찜 상태 포함)
+    @Transactional(readOnly = true)
     public List<Product> getProductsBySeller(Long sellerId, Long currentUserId) {
         // sellerId가 카카오 ID일 수도 있고, UserProfile의 id일 수도 있음
         UserProfile seller = userProfileRepository.findById(sellerId)
@@ -304,7 +308,7 @@ public class ProductService {
                         product.setIsLiked(false);
                     }
                 } catch (Exception e) {
-                    System.err.println("상품 초기화 중 오류: " + e.getMessage());
+                    log.warn("상품 초기화 중 오류: {}", e.getMessage());
                 }
             });
         }
@@ -312,14 +316,16 @@ public class ProductService {
     }
 
     // 판매자별 조회 (기존 메서드, 호환성 유지)
+    @Transactional(readOnly = true)
     public List<Product> getProductsBySeller(Long sellerId) {
         return getProductsBySeller(sellerId, null);
     }
 
     // 키워드로 상품 검색
+    @Transactional(readOnly = true)
     public List<Product> searchProducts(String keyword) {
         try {
-            log.info("상품 검색 시작: keyword={}", keyword);
+            log.debug("상품 검색 시작: keyword={}", keyword);
             
             if (keyword == null || keyword.trim().isEmpty()) {
                 log.warn("검색 키워드가 비어있습니다. 전체 상품을 반환합니다.");
@@ -327,7 +333,7 @@ public class ProductService {
             }
             
             List<Product> products = productRepository.searchByKeyword(keyword.trim());
-            log.info("상품 검색 완료: keyword={}, count={}", keyword, products != null ? products.size() : 0);
+            log.debug("상품 검색 완료: keyword={}, count={}", keyword, products != null ? products.size() : 0);
             
             // Lazy 로딩 엔티티 초기화
             if (products != null && !products.isEmpty()) {
@@ -368,14 +374,13 @@ public class ProductService {
                         log.error("상품 {} 초기화 중 오류: {}", product != null ? product.getId() : "null", e.getMessage(), e);
                     }
                 });
-                log.info("유효한 상품 {}개 반환", validProducts.size());
+                log.debug("유효한 상품 {}개 반환", validProducts.size());
                 return validProducts;
             }
-            log.info("검색 결과가 없습니다. 빈 리스트 반환");
+            log.debug("검색 결과가 없습니다. 빈 리스트 반환");
             return new ArrayList<>();
         } catch (Exception e) {
             log.error("상품 검색 중 오류 발생: keyword={}, error={}", keyword, e.getMessage(), e);
-            e.printStackTrace();
             return new ArrayList<>();
         }
     }
@@ -388,12 +393,35 @@ public class ProductService {
         product.setDescription(updated.getDescription());
         product.setPrice(updated.getPrice());
         product.setStatus(updated.getStatus());
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        responseCache.invalidate(PrecompressedResponseCache.PRODUCT_LIST);
+        return saved;
     }
 
     // 상품 삭제
     public void deleteProduct(Long id) {
         productRepository.deleteById(id);
+        responseCache.invalidate(PrecompressedResponseCache.PRODUCT_LIST);
     }
-}
 
+    /**
+     * 업로드 파일명에서 확장자를 제외한 부분의 특수문자를 언더스코어로 바꿉니다.
+     * 파일명이 없으면 "image.jpg"를 사용합니다.
+     */
+    static String toSafeFilename(String originalFilename) {
+        if (originalFilename == null || originalFilename.trim().isEmpty()) {
+            originalFilename = "image.jpg";
+        }
+
+        // 파일 확장자 추출
+        String extension = "";
+        int lastDotIndex = originalFilename.lastIndexOf('.');
+        if (lastDotIndex > 0) {
+            extension = originalFilename.substring(lastDotIndex);
+        }
+
+        // 파일명에서 특수문자 제거 및 공백을 언더스코어로 변경 (패턴은 미리 컴파일해 재사용)
+        String baseName = originalFilename.substring(0, lastDotIndex > 0 ? lastDotIndex : originalFilename.length());
+        return UNSAFE_FILENAME_CHARS.matcher(baseName).replaceAll("_") + extension;
+    }
+}
@@ -0,0 +1,182 @@
+package org.example.trending;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 찜/채팅 신호로 인기 상품 순위를 갱신하고 조회합니다.
+ *
+ * <ul>
+ *     <li>신호: {@link TrendingSignal} 이벤트를 트랜잭션 커밋 후에 반영 (롤백된 찜은 반영하지 않음)</li>
+ *     <li>조회: 메모리의 정렬된 집합에서 상위 N개만 읽음 (DB 조회 없음)</li>
+ *     <li>저장: {@code ssak3.trending.snapshot-interval-ms}마다 현재 점수를 {@code product_trending_snapshots}에 저장</li>
+ *     <li>재시작: 마지막 스냅샷을 읽고, 그 이후 생긴 찜/채팅방만 다시 반영.
+ *     스냅샷이 없으면 반감기 10배 기간의 찜/채팅방으로 계산</li>
+ * </ul>
+ *
+ * <p>스냅샷 이후에 취소된 찜은 재시작 시 빠지지 않지만, 감쇠로 곧 영향이 작아집니다.
+ * 인스턴스마다 순위를 따로 가지며 스냅샷은 마지막으로 저장한 인스턴스의 값이 남습니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingEngine {
+
+    private static final String SELECT_SNAPSHOT =
+            "SELECT product_id, category_id, score, computed_at FROM product_trending_snapshots";
+    private static final String SELECT_LIKES_SINCE =
+            "SELECT l.product_id, p.category_id, l.created_at FROM likes l JOIN products p ON p.id = l.product_id "
+                    + "WHERE l.created_at > ?";
+    private static final String SELECT_CHAT_ROOMS_SINCE =
+            "SELECT r.product_id, p.category_id, r.created_at FROM chat_rooms r JOIN products p ON p.id = r.product_id "
+                    + "WHERE r.created_at > ?";
+    private static final String DELETE_SNAPSHOT = "DELETE FROM product_trending_snapshots";
+    private static final String INSERT_SNAPSHOT =
+            "INSERT INTO product_trending_snapshots (product_id, category_id, score, computed_at) VALUES (?, ?, ?, ?)";
+
+    private final TrendingProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    private volatile TrendingRanking ranking;
+    // 재구성 중에 들어온 신호 (재구성이 끝난 뒤 반영)
+    private final Queue<TrendingSignal> pendingSignals = new ConcurrentLinkedQueue<>();
+    private volatile boolean rebuilding = true;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSignal(TrendingSignal signal) {
+        if (!properties.isEnabled() || signal.productId() == null) {
+            return;
+        }
+        if (rebuilding) {
+            pendingSignals.add(signal);
+            if (!rebuilding) {
+                drainPending(Long.MIN_VALUE);
+            }
+            return;
+        }
+        apply(ranking, signal);
+    }
+
+    /**
+     * 인기 상품 ID를 점수 순으로 반환합니다. {@code categoryId}가 null이면 전체 순위입니다.
+     */
+    public List<Long> topProductIds(Long categoryId, int limit) {
+        TrendingRanking current = ranking;
+        if (!properties.isEnabled() || current == null) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(limit);
+        current.top(categoryId, limit, System.currentTimeMillis()).forEach(scored -> ids.add(scored.productId()));
+        return ids;
+    }
+
+    public int size() {
+        TrendingRanking current = ranking;
+        return current != null ? current.size() : 0;
+    }
+
+    /**
+     * 애플리케이션 시작 시 DB에서 순위를 다시 만듭니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        TrendingRanking rebuilt = new TrendingRanking(properties.getHalfLifeHours(), startedAt);
+        try {
+            long[] latestSnapshot = {0};
+            jdbcTemplate.query(SELECT_SNAPSHOT, rs -> {
+                long computedAt = rs.getTimestamp("computed_at").getTime();
+                latestSnapshot[0] = Math.max(latestSnapshot[0], computedAt);
+                rebuilt.add(rs.getLong("product_id"), rs.getLong("category_id"), rs.getDouble("score"), computedAt, startedAt);
+            });
+            long since = latestSnapshot[0] > 0
+                    ? latestSnapshot[0]
+                    : startedAt - (long) (properties.getHalfLifeHours() * 10 * 3_600_000d);
+            Timestamp sinceTimestamp = new Timestamp(since);
+            jdbcTemplate.query(SELECT_LIKES_SINCE, rs -> {
+                rebuilt.add(rs.getLong(1), rs.getLong(2), properties.getLikeWeight(), rs.getTimestamp(3).getTime(), startedAt);
+            }, sinceTimestamp);
+            jdbcTemplate.query(SELECT_CHAT_ROOMS_SINCE, rs -> {
+                rebuilt.add(rs.getLong(1), rs.getLong(2), properties.getChatRoomWeight(), rs.getTimestamp(3).getTime(), startedAt);
+            }, sinceTimestamp);
+            log.info("인기 상품 순위 재구성 완료: {}개 상품, 스냅샷 기준={}, {}ms",
+                    rebuilt.size(), latestSnapshot[0] > 0 ? sinceTimestamp : "없음", System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.warn("인기 상품 순위 재구성 실패, 빈 순위로 시작합니다: {}", e.getMessage());
+        }
+        ranking = rebuilt;
+        rebuilding = false;
+        // 재구성 쿼리가 이미 읽은 신호는 건너뛰고 이후 신호만 반영
+        drainPending(startedAt);
+    }
+
+    /**
+     * 점수가 낮아진 상품을 정리하고 현재 점수를 스냅샷으로 저장합니다.
+     */
+    @Scheduled(initialDelayString = "${ssak3.trending.snapshot-interval-ms:300000}",
+            fixedDelayString = "${ssak3.trending.snapshot-interval-ms:300000}")
+    public void persistSnapshot() {
+        TrendingRanking current = ranking;
+        if (!properties.isEnabled() || current == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        current.maintain(now);
+        List<TrendingRanking.Scored> scores = current.snapshot(now);
+        Timestamp computedAt = new Timestamp(now);
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                jdbcTemplate.update(DELETE_SNAPSHOT);
+                List<Object[]> rows = new ArrayList<>(scores.size());
+                for (TrendingRanking.Scored scored : scores) {
+                    if (scored.categoryId() != null) {
+                        rows.add(new Object[]{scored.productId(), scored.categoryId(), scored.score(), computedAt});
+                    }
+                }
+                if (!rows.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_SNAPSHOT, rows);
+                }
+            });
+            log.debug("인기 상품 스냅샷 저장: {}개", scores.size());
+        } catch (Exception e) {
+            log.warn("인기 상품 스냅샷 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private void drainPending(long notBeforeMillis) {
+        TrendingSignal signal;
+        while ((signal = pendingSignals.poll()) != null) {
+            if (signal.type() == TrendingSignal.Type.LIKE_REMOVED || signal.occurredAtMillis() >= notBeforeMillis) {
+                apply(ranking, signal);
+            }
+        }
+    }
+
+    private void apply(TrendingRanking target, TrendingSignal signal) {
+        double weight = switch (signal.type()) {
+            case LIKE_ADDED -> properties.getLikeWeight();
+            case LIKE_REMOVED -> -properties.getLikeWeight();
+            case CHAT_ROOM_CREATED -> properties.getChatRoomWeight();
+        };
+        target.add(signal.productId(), signal.categoryId(), weight, signal.occurredAtMillis(), System.currentTimeMillis());
+    }
+}
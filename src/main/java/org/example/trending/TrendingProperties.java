@@ -0,0 +1,45 @@
+package org.example.trending;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 인기 상품 순위 설정입니다. (ssak3.trending.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ssak3.trending")
+public class TrendingProperties {
+
+    /**
+     * 순위 계산 사용 여부. 끄면 신호를 무시하고 인기 상품 목록이 비어 있습니다.
+     */
+    @Value("${ssak3.trending.enabled:true}")
+    private boolean enabled = true;
+
+    /**
+     * 점수 반감기(시간). 이 시간이 지나면 신호 하나의 점수가 절반이 됩니다.
+     */
+    @Value("${ssak3.trending.half-life-hours:24}")
+    private double halfLifeHours = 24;
+
+    /**
+     * 찜 한 번의 가중치
+     */
+    @Value("${ssak3.trending.like-weight:1.0}")
+    private double likeWeight = 1.0;
+
+    /**
+     * 채팅방 생성(구매 문의) 한 번의 가중치. 찜보다 구매 의사가 강한 신호라 더 크게 둡니다.
+     */
+    @Value("${ssak3.trending.chat-room-weight:3.0}")
+    private double chatRoomWeight = 3.0;
+
+    /**
+     * 점수 스냅샷을 DB에 저장하는 주기(ms). 재시작 시 스냅샷 이후 신호만 다시 읽습니다.
+     */
+    @Value("${ssak3.trending.snapshot-interval-ms:300000}")
+    private long snapshotIntervalMs = 300_000;
+}
@@ -0,0 +1,174 @@
+package org.example.trending;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 상품별 지수 감쇠 점수를 정렬된 상태로 유지합니다. (전체 + 카테고리별)
+ *
+ * <p>점수를 기준 시각 t0에 맞춘 값 {@code w·e^{λ(t−t0)}}로 저장하면 모든 상품이 같은 비율로 감쇠하므로
+ * 시간이 지나도 순서가 바뀌지 않습니다. 신호가 들어오면 그 상품만 다시 정렬하고,
+ * 상위 N개 조회는 정렬된 집합의 앞부분만 읽습니다. 현재 점수는 {@code 저장 값 × e^{−λ(now−t0)}}입니다.</p>
+ *
+ * <p>지수가 커져 double 범위를 넘지 않도록 일정 시간이 지나면 기준 시각을 옮겨 다시 만듭니다.
+ * 쓰기는 락으로 직렬화하고, 읽기는 락 없이 동시 정렬 집합을 순회합니다.</p>
+ */
+final class TrendingRanking {
+
+    /** 이보다 낮아진 점수는 순위에서 뺍니다. (메모리와 스냅샷 크기 제한) */
+    static final double MIN_SCORE = 0.01;
+    /** λ(now−t0)가 이 값을 넘으면 기준 시각을 옮깁니다. (e^20 ≈ 4.8억) */
+    private static final double MAX_EXPONENT = 20;
+
+    private static final Comparator<Entry> ORDER = Comparator.comparingDouble(Entry::scaled).reversed()
+            .thenComparingLong(Entry::productId);
+
+    /**
+     * @param scaled 기준 시각에 맞춘 점수
+     */
+    record Entry(long productId, Long categoryId, double scaled) {
+    }
+
+    /**
+     * @param score 조회 시각 기준 점수
+     */
+    record Scored(long productId, Long categoryId, double score) {
+    }
+
+    private static final class Index {
+        final long referenceMillis;
+        final Map<Long, Entry> entries = new HashMap<>();
+        final NavigableSet<Entry> overall = new ConcurrentSkipListSet<>(ORDER);
+        final ConcurrentMap<Long, NavigableSet<Entry>> byCategory = new ConcurrentHashMap<>();
+
+        Index(long referenceMillis) {
+            this.referenceMillis = referenceMillis;
+        }
+
+        void put(Entry entry) {
+            entries.put(entry.productId(), entry);
+            overall.add(entry);
+            if (entry.categoryId() != null) {
+                byCategory.computeIfAbsent(entry.categoryId(), id -> new ConcurrentSkipListSet<>(ORDER)).add(entry);
+            }
+        }
+
+        void remove(Entry entry) {
+            entries.remove(entry.productId());
+            overall.remove(entry);
+            if (entry.categoryId() != null) {
+                NavigableSet<Entry> category = byCategory.get(entry.categoryId());
+                if (category != null) {
+                    category.remove(entry);
+                }
+            }
+        }
+    }
+
+    private final double lambda;
+    private final Object lock = new Object();
+    private volatile Index index;
+
+    TrendingRanking(double halfLifeHours, long nowMillis) {
+        this.lambda = Math.log(2) / (halfLifeHours * 3_600_000d);
+        this.index = new Index(nowMillis);
+    }
+
+    /**
+     * {@code eventMillis}에 발생한 가중치 {@code weight}의 신호를 더합니다. 음수면 그만큼 뺍니다.
+     *
+     * @param categoryId null이면 기존 카테고리를 유지
+     */
+    void add(long productId, Long categoryId, double weight, long eventMillis, long nowMillis) {
+        synchronized (lock) {
+            Index current = index;
+            double scaled = weight * Math.exp(lambda * (eventMillis - current.referenceMillis));
+            Long category = categoryId;
+            Entry existing = current.entries.get(productId);
+            if (existing != null) {
+                current.remove(existing);
+                scaled += existing.scaled();
+                if (category == null) {
+                    category = existing.categoryId();
+                }
+            }
+            if (scaled * decay(current, nowMillis) >= MIN_SCORE) {
+                current.put(new Entry(productId, category, scaled));
+            }
+        }
+    }
+
+    /**
+     * 점수 상위 {@code limit}개를 반환합니다. {@code categoryId}가 null이면 전체 순위입니다.
+     */
+    List<Scored> top(Long categoryId, int limit, long nowMillis) {
+        Index current = index;
+        NavigableSet<Entry> ranked = categoryId == null ? current.overall : current.byCategory.get(categoryId);
+        if (ranked == null) {
+            return List.of();
+        }
+        double decay = decay(current, nowMillis);
+        List<Scored> top = new ArrayList<>(Math.min(limit, 64));
+        Iterator<Entry> iterator = ranked.iterator();
+        while (top.size() < limit && iterator.hasNext()) {
+            Entry entry = iterator.next();
+            top.add(new Scored(entry.productId(), entry.categoryId(), entry.scaled() * decay));
+        }
+        return top;
+    }
+
+    /**
+     * 현재 시각 기준 전체 점수 (스냅샷 저장용)
+     */
+    List<Scored> snapshot(long nowMillis) {
+        return top(null, Integer.MAX_VALUE, nowMillis);
+    }
+
+    /**
+     * 점수가 {@link #MIN_SCORE} 아래로 떨어진 상품을 빼고, 필요하면 기준 시각을 현재로 옮깁니다.
+     */
+    void maintain(long nowMillis) {
+        synchronized (lock) {
+            Index current = index;
+            double decay = decay(current, nowMillis);
+            if (lambda * (nowMillis - current.referenceMillis) > MAX_EXPONENT) {
+                // 순서는 그대로이므로 값만 현재 기준으로 바꿔 새 인덱스를 만든 뒤 한 번에 교체
+                Index rebased = new Index(nowMillis);
+                for (Entry entry : current.overall) {
+                    double score = entry.scaled() * decay;
+                    if (score >= MIN_SCORE) {
+                        rebased.put(new Entry(entry.productId(), entry.categoryId(), score));
+                    }
+                }
+                index = rebased;
+                return;
+            }
+            Iterator<Entry> lowest = current.overall.descendingIterator();
+            List<Entry> expired = new ArrayList<>();
+            while (lowest.hasNext()) {
+                Entry entry = lowest.next();
+                if (entry.scaled() * decay >= MIN_SCORE) {
+                    break;
+                }
+                expired.add(entry);
+            }
+            expired.forEach(current::remove);
+        }
+    }
+
+    int size() {
+        return index.overall.size();
+    }
+
+    private double decay(Index current, long nowMillis) {
+        return Math.exp(-lambda * (nowMillis - current.referenceMillis));
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.trending;
+
+/**
+ * 인기 순위에 반영할 사용자 행동. 서비스 계층이 발행하고 {@link TrendingEngine}이 커밋 후에 반영합니다.
+ *
+ * @param categoryId       상품 카테고리 (카테고리별 순위용)
+ * @param occurredAtMillis 신호 시각. 찜 취소는 취소 시각이 아니라 원래 찜한 시각이라, 그때 더한 점수를 정확히 뺍니다.
+ */
+public record TrendingSignal(Type type, Long productId, Long categoryId, long occurredAtMillis) {
+
+    public enum Type {
+        LIKE_ADDED,
+        LIKE_REMOVED,
+        CHAT_ROOM_CREATED
+    }
+
+    public static TrendingSignal likeAdded(Long productId, Long categoryId) {
+        return new TrendingSignal(Type.LIKE_ADDED, productId, categoryId, System.currentTimeMillis());
+    }
+
+    public static TrendingSignal likeRemoved(Long productId, Long categoryId, long likedAtMillis) {
+        return new TrendingSignal(Type.LIKE_REMOVED, productId, categoryId, likedAtMillis);
+    }
+
+    public static TrendingSignal chatRoomCreated(Long productId, Long categoryId) {
+        return new TrendingSignal(Type.CHAT_ROOM_CREATED, productId, categoryId, System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,176 @@
+package org.example.view;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품 조회수를 메모리에 모았다가 주기적으로 {@code products.view_count}에 한꺼번에 더합니다.
+ *
+ * <p>조회마다 UPDATE를 실행하지 않고 상품별 {@link LongAdder}(스레드별 셀로 나뉘어 경합이 없음)에 더한 뒤,
+ * {@code ssak3.view-count.flush-interval-ms}마다 상품 ID 순으로 배치 UPDATE를 실행합니다.
+ * 반영한 만큼만 빼므로 반영 중에 들어온 조회도 잃지 않습니다.</p>
+ *
+ * <p>같은 사용자의 반복 조회는 고정 크기 해시 슬롯({@value #DEDUP_SLOTS}개)으로 거릅니다.
+ * 슬롯마다 (상품, 사용자) 지문과 마지막 조회 시각(분)만 저장하므로 메모리가 일정하고 락이 없습니다.
+ * 충돌 시 이전 기록을 덮어써 가끔 중복 조회가 한 번 더 세질 수 있지만, 조회수가 부풀려지는 정도는 미미합니다.</p>
+ *
+ * <p>DB 값은 최대 반영 주기만큼 늦습니다. 상품 상세 응답의 ETag에는 DB에 반영된 조회수가 포함되므로,
+ * 반영 주기마다 조회수가 바뀐 상품의 캐시는 200으로 다시 내려갑니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductViewCounter {
+
+    static final int DEDUP_SLOTS = 1 << 16;
+    private static final int BATCH_SIZE = 500;
+    private static final int MINUTE_BITS = 24;
+    private static final long MINUTE_MASK = (1L << MINUTE_BITS) - 1;
+    private static final int IDLE_ENTRY_THRESHOLD = 100_000;
+
+    private static final String INCREMENT_VIEW_COUNT = "UPDATE products SET view_count = view_count + ? WHERE id = ?";
+
+    private final ViewCountProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ConcurrentMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // 상위 40비트: (상품, 사용자) 지문, 하위 24비트: 마지막 조회 시각(epoch 분)
+    private final AtomicLongArray recentViews = new AtomicLongArray(DEDUP_SLOTS);
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+
+    /**
+     * 상품 조회를 기록합니다. 같은 사용자가 중복 확인 시간 안에 다시 본 경우는 세지 않습니다.
+     *
+     * @param viewerKey 사용자 식별 값 (로그인 사용자 ID 또는 IP+User-Agent)
+     */
+    public void record(Long productId, String viewerKey) {
+        if (!properties.isEnabled() || productId == null) {
+            return;
+        }
+        if (viewerKey != null && isDuplicate(productId, viewerKey)) {
+            deduplicated.increment();
+            return;
+        }
+        pending.computeIfAbsent(productId, id -> new LongAdder()).increment();
+        recorded.increment();
+    }
+
+    /**
+     * 요청에서 사용자 식별 값을 만듭니다. userId가 없으면 프록시(Render) 뒤의 실제 IP와 User-Agent를 사용합니다.
+     */
+    public static String viewerKey(Long userId, HttpServletRequest request) {
+        if (userId != null) {
+            return "u:" + userId;
+        }
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        String ip = forwardedFor != null && !forwardedFor.isBlank()
+                ? forwardedFor.split(",")[0].trim()
+                : request.getRemoteAddr();
+        return "a:" + ip + "|" + request.getHeader("User-Agent");
+    }
+
+    private boolean isDuplicate(long productId, String viewerKey) {
+        long hash = mix(productId * 0x9E3779B97F4A7C15L ^ viewerKey.hashCode() * 0xC2B2AE3D27D4EB4FL
+                ^ (long) viewerKey.length() << 32);
+        int slot = (int) (hash & (DEDUP_SLOTS - 1));
+        long fingerprint = hash >>> MINUTE_BITS;
+        long nowMinute = (System.currentTimeMillis() / 60_000) & MINUTE_MASK;
+
+        long previous = recentViews.get(slot);
+        if (previous >>> MINUTE_BITS == fingerprint) {
+            long elapsed = (nowMinute - (previous & MINUTE_MASK)) & MINUTE_MASK;
+            if (elapsed < properties.getDedupWindowMinutes()) {
+                return true;
+            }
+        }
+        recentViews.set(slot, fingerprint << MINUTE_BITS | nowMinute);
+        return false;
+    }
+
+    /**
+     * 모인 조회수를 DB에 반영합니다. 실패하면 다음 주기에 다시 시도합니다.
+     */
+    @Scheduled(initialDelayString = "${ssak3.view-count.flush-interval-ms:10000}",
+            fixedDelayString = "${ssak3.view-count.flush-interval-ms:10000}")
+    public void flush() {
+        // 상품 ID 순으로 갱신해 여러 인스턴스가 동시에 반영할 때 행 잠금 순서를 맞춤
+        Map<Long, Long> increments = new TreeMap<>();
+        pending.forEach((productId, adder) -> {
+            long count = adder.sum();
+            if (count > 0) {
+                increments.put(productId, count);
+            }
+        });
+        if (increments.isEmpty()) {
+            pruneIdle();
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>(increments.size());
+        increments.forEach((productId, count) -> rows.add(new Object[]{count, productId}));
+        try {
+            for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(INCREMENT_VIEW_COUNT, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+            }
+        } catch (Exception e) {
+            log.warn("상품 조회수 반영 실패 ({}개 상품), 다음 주기에 다시 시도합니다: {}", increments.size(), e.getMessage());
+            return;
+        }
+        // 읽은 만큼만 빼서 반영 중에 더해진 조회는 남김
+        increments.forEach((productId, count) -> pending.get(productId).add(-count));
+        log.debug("상품 조회수 반영: {}개 상품, {}회", increments.size(),
+                increments.values().stream().mapToLong(Long::longValue).sum());
+        pruneIdle();
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 아직 DB에 반영하지 않은 조회 수
+     */
+    public long getPendingCount() {
+        long total = 0;
+        for (LongAdder adder : pending.values()) {
+            total += adder.sum();
+        }
+        return total;
+    }
+
+    public long getRecordedCount() {
+        return recorded.sum();
+    }
+
+    public long getDeduplicatedCount() {
+        return deduplicated.sum();
+    }
+
+    private void pruneIdle() {
+        if (pending.size() > IDLE_ENTRY_THRESHOLD) {
+            pending.values().removeIf(adder -> adder.sum() == 0);
+        }
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+}
@@ -0,0 +1,33 @@
+package org.example.view;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 상품 조회수 집계 설정입니다. (ssak3.view-count.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ssak3.view-count")
+public class ViewCountProperties {
+
+    /**
+     * 조회수 집계 사용 여부
+     */
+    @Value("${ssak3.view-count.enabled:true}")
+    private boolean enabled = true;
+
+    /**
+     * 메모리에 모은 조회수를 DB에 반영하는 주기(밀리초). 종료 시에도 한 번 반영합니다.
+     */
+    @Value("${ssak3.view-count.flush-interval-ms:10000}")
+    private long flushIntervalMs = 10000;
+
+    /**
+     * 같은 사용자가 이 시간(분) 안에 다시 본 것은 한 번으로 셉니다.
+     */
+    @Value("${ssak3.view-count.dedup-window-minutes:30}")
+    private int dedupWindowMinutes = 30;
+}
@@ -0,0 +1,22 @@
+-- =============================================================================
+-- V10: 채팅방 내 메시지 검색용 토큰 색인 (MessageSearchIndex)
+-- =============================================================================
+
+-- 메시지 내용의 2글자 토큰(bigram) -> 메시지 id. 채팅방 id가 앞에 있어 한 채팅방 안에서만 찾습니다.
+-- (보관된 메시지의 토큰은 보관 시 지우고, 검색 때 보관 데이터를 직접 확인)
+CREATE TABLE message_search_tokens (
+    chat_room_id BIGINT     NOT NULL,
+    token        VARCHAR(8) NOT NULL,
+    message_id   BIGINT     NOT NULL,
+    CONSTRAINT pk_message_search_tokens PRIMARY KEY (chat_room_id, token, message_id),
+    CONSTRAINT fk_message_search_tokens_chat_room FOREIGN KEY (chat_room_id) REFERENCES chat_rooms (id)
+);
+
+-- 색인 진행 위치 (한 행). MessageSearchIndex가 전송 트랜잭션과 별도로 next_message_id부터 id 순으로 색인하며
+-- 위치를 옮깁니다. 이 위치 이후 메시지는 검색 시 messages에서 직접 확인합니다.
+CREATE TABLE message_search_progress (
+    id              INTEGER PRIMARY KEY,
+    next_message_id BIGINT  NOT NULL
+);
+
+INSERT INTO message_search_progress (id, next_message_id) VALUES (1, 0);
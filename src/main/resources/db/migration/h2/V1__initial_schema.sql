@@ -0,0 +1,84 @@
+-- =============================================================================
+-- V1: 초기 스키마 (기존 ddl-auto: update로 만들어진 테이블과 동일)
+-- 이미 테이블이 있는 DB는 baseline-on-migrate로 V1을 건너뜁니다.
+-- =============================================================================
+
+CREATE TABLE users (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    kakao_id      BIGINT           NOT NULL,
+    nickname      VARCHAR(30)      NOT NULL,
+    profile_image VARCHAR(255),
+    temperature   DOUBLE PRECISION NOT NULL,
+    created_at    TIMESTAMP(6),
+    updated_at    TIMESTAMP(6),
+    CONSTRAINT uk_users_kakao_id UNIQUE (kakao_id)
+);
+
+CREATE TABLE categories (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name       VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    CONSTRAINT uk_categories_name UNIQUE (name)
+);
+
+CREATE TABLE products (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    seller_id   BIGINT       NOT NULL,
+    category_id BIGINT       NOT NULL,
+    title       VARCHAR(255) NOT NULL,
+    description TEXT,
+    price       INTEGER      NOT NULL,
+    status      VARCHAR(255) NOT NULL,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    CONSTRAINT ck_products_status CHECK (status IN ('ON_SALE', 'RESERVED', 'SOLD_OUT')),
+    CONSTRAINT fk_products_seller FOREIGN KEY (seller_id) REFERENCES users (id),
+    CONSTRAINT fk_products_category FOREIGN KEY (category_id) REFERENCES categories (id)
+);
+
+CREATE TABLE product_images (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    product_id  BIGINT       NOT NULL,
+    image_url   VARCHAR(255) NOT NULL,
+    image_order INTEGER      NOT NULL,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    CONSTRAINT fk_product_images_product FOREIGN KEY (product_id) REFERENCES products (id)
+);
+
+CREATE TABLE likes (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id    BIGINT NOT NULL,
+    product_id BIGINT NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    CONSTRAINT uk_likes_user_product UNIQUE (user_id, product_id),
+    CONSTRAINT fk_likes_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_likes_product FOREIGN KEY (product_id) REFERENCES products (id)
+);
+
+CREATE TABLE chat_rooms (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    buyer_id   BIGINT NOT NULL,
+    seller_id  BIGINT NOT NULL,
+    product_id BIGINT NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    CONSTRAINT uk_chat_rooms_buyer_seller_product UNIQUE (buyer_id, seller_id, product_id),
+    CONSTRAINT fk_chat_rooms_buyer FOREIGN KEY (buyer_id) REFERENCES users (id),
+    CONSTRAINT fk_chat_rooms_seller FOREIGN KEY (seller_id) REFERENCES users (id),
+    CONSTRAINT fk_chat_rooms_product FOREIGN KEY (product_id) REFERENCES products (id)
+);
+
+CREATE TABLE messages (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    chat_room_id BIGINT  NOT NULL,
+    sender_id    BIGINT  NOT NULL,
+    content      TEXT    NOT NULL,
+    is_read      BOOLEAN NOT NULL,
+    created_at   TIMESTAMP(6),
+    updated_at   TIMESTAMP(6),
+    CONSTRAINT fk_messages_chat_room FOREIGN KEY (chat_room_id) REFERENCES chat_rooms (id),
+    CONSTRAINT fk_messages_sender FOREIGN KEY (sender_id) REFERENCES users (id)
+);
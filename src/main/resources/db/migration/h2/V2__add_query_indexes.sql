@@ -0,0 +1,25 @@
+-- =============================================================================
+-- V2: 자주 실행되는 조회에 맞춘 인덱스
+-- (H2는 부분 인덱스를 지원하지 않아 안 읽은 메시지 인덱스는 is_read를 포함한 복합 인덱스로 만듭니다)
+-- =============================================================================
+
+-- 채팅방 메시지 목록: WHERE chat_room_id = ? ORDER BY created_at
+CREATE INDEX IF NOT EXISTS idx_messages_room_created ON messages (chat_room_id, created_at);
+
+-- 안 읽은 메시지 수: WHERE chat_room_id = ? AND is_read = false [AND sender_id <> ?]
+CREATE INDEX IF NOT EXISTS idx_messages_room_unread ON messages (chat_room_id, is_read, sender_id);
+
+-- 카테고리별 상품 (최신순)
+CREATE INDEX IF NOT EXISTS idx_products_category_created ON products (category_id, created_at DESC);
+
+-- 판매자별 상품
+CREATE INDEX IF NOT EXISTS idx_products_seller ON products (seller_id);
+
+-- 상품 이미지 (순서대로)
+CREATE INDEX IF NOT EXISTS idx_product_images_product_order ON product_images (product_id, image_order);
+
+-- 판매자로 참여한 채팅방 (구매자 쪽은 유니크 제약 (buyer_id, ...)이 사용됨)
+CREATE INDEX IF NOT EXISTS idx_chat_rooms_seller ON chat_rooms (seller_id);
+
+-- 상품을 찜한 사용자 (사용자 쪽은 유니크 제약 (user_id, product_id)이 사용됨)
+CREATE INDEX IF NOT EXISTS idx_likes_product ON likes (product_id);
@@ -0,0 +1,11 @@
+-- =============================================================================
+-- V4: 인기 상품 점수 스냅샷 (TrendingEngine이 주기적으로 저장, 재시작 시 순위 복원용)
+-- 상품이 삭제되어도 스냅샷은 다음 저장 때 갱신되므로 외래 키를 두지 않습니다.
+-- =============================================================================
+
+CREATE TABLE product_trending_snapshots (
+    product_id  BIGINT           NOT NULL PRIMARY KEY,
+    category_id BIGINT           NOT NULL,
+    score       DOUBLE PRECISION NOT NULL,
+    computed_at TIMESTAMP(6)     NOT NULL
+);
@@ -0,0 +1,6 @@
+-- =============================================================================
+-- V6: 채팅방 메시지 페이지 조회 인덱스
+-- =============================================================================
+
+-- 최근 메시지 페이지와 이전 기록 스크롤: WHERE chat_room_id = ? [AND id < ?] ORDER BY id DESC LIMIT n
+CREATE INDEX IF NOT EXISTS idx_messages_room_id ON messages (chat_room_id, id);
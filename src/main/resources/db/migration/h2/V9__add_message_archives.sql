@@ -0,0 +1,20 @@
+-- =============================================================================
+-- V9: 오래된 메시지의 월 단위 보관 (MessageArchive)
+-- =============================================================================
+-- (PostgreSQL은 messages 테이블을 월별 파티션으로 바꾸지만 H2는 파티션을 지원하지 않아 보관 테이블만 만듭니다)
+
+-- 이 순번까지의 메시지는 message_archives로 옮겨짐 (0이면 보관된 메시지 없음)
+ALTER TABLE chat_rooms ADD COLUMN archived_through_seq BIGINT DEFAULT 0 NOT NULL;
+
+-- 채팅방별 보관 청크: 메시지를 id 순으로 최대 archive-chunk-size개씩 gzip으로 압축 (이전 기록 조회는 필요한 청크만 읽음)
+CREATE TABLE message_archives (
+    chat_room_id  BIGINT       NOT NULL,
+    first_id      BIGINT       NOT NULL,
+    last_id       BIGINT       NOT NULL,
+    last_seq      BIGINT       NOT NULL,
+    message_count INTEGER      NOT NULL,
+    payload       BLOB         NOT NULL,
+    archived_at   TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_message_archives PRIMARY KEY (chat_room_id, first_id),
+    CONSTRAINT fk_message_archives_chat_room FOREIGN KEY (chat_room_id) REFERENCES chat_rooms (id)
+);
@@ -0,0 +1,26 @@
+-- =============================================================================
+-- V2: 자주 실행되는 조회에 맞춘 인덱스
+-- CONCURRENTLY로 만들어 운영 중에도 쓰기를 막지 않습니다 (Flyway가 트랜잭션 밖에서 실행).
+-- =============================================================================
+
+-- 채팅방 메시지 목록: WHERE chat_room_id = ? ORDER BY created_at
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_messages_room_created ON messages (chat_room_id, created_at);
+
+-- 안 읽은 메시지 수: WHERE chat_room_id = ? AND is_read = false [AND sender_id <> ?]
+-- 읽은 메시지가 대부분이므로 안 읽은 행만 담는 부분 인덱스로 크기를 줄입니다.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_messages_room_unread ON messages (chat_room_id, sender_id) WHERE is_read = false;
+
+-- 카테고리별 상품 (최신순)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_category_created ON products (category_id, created_at DESC);
+
+-- 판매자별 상품
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_seller ON products (seller_id);
+
+-- 상품 이미지 (순서대로)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_images_product_order ON product_images (product_id, image_order);
+
+-- 판매자로 참여한 채팅방 (구매자 쪽은 유니크 제약 (buyer_id, ...)이 사용됨)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_chat_rooms_seller ON chat_rooms (seller_id);
+
+-- 상품을 찜한 사용자 (사용자 쪽은 유니크 제약 (user_id, product_id)이 사용됨)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_likes_product ON likes (product_id);
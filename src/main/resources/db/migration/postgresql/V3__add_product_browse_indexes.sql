@@ -0,0 +1,15 @@
+-- =============================================================================
+-- V3: 상품 탐색(/api/products/browse) 필터/정렬/패싯용 인덱스
+-- =============================================================================
+
+-- 전체 최신순 키셋 페이지: ORDER BY created_at DESC, id DESC
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_created_id ON products (created_at DESC, id DESC);
+
+-- 가격순 키셋 페이지와 가격 구간 필터: ORDER BY price, id
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_price_id ON products (price, id);
+
+-- 상태 필터 + 최신순 (판매중만 보기)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_status_created ON products (status, created_at DESC, id DESC);
+
+-- 카테고리/상태별 패싯 건수와 카테고리 안 가격 필터 (테이블을 읽지 않고 인덱스만으로 집계)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_category_status_price ON products (category_id, status, price);
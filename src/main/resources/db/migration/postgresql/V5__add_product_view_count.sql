@@ -0,0 +1,5 @@
+-- =============================================================================
+-- V5: 상품 조회수 (ProductViewCounter가 주기적으로 view_count = view_count + ? 로 반영)
+-- =============================================================================
+
+ALTER TABLE products ADD COLUMN view_count BIGINT DEFAULT 0 NOT NULL;
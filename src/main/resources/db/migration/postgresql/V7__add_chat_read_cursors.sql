@@ -0,0 +1,33 @@
+-- =============================================================================
+-- V7: 메시지별 읽음 플래그(is_read)를 채팅방 메시지 순번 + 참여자별 읽음 커서로 대체
+-- =============================================================================
+-- 안 읽은 메시지 수 = last_message_seq - {buyer|seller}_last_read_seq
+-- (메시지를 보내면 보낸 사람의 커서도 새 메시지로 이동하므로 커서 이후 메시지는 모두 상대방 메시지)
+-- 데이터를 옮기는 마이그레이션이라 트랜잭션 안에서 실행합니다. (CONCURRENTLY 사용 안 함)
+
+ALTER TABLE chat_rooms ADD COLUMN last_message_seq BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE chat_rooms ADD COLUMN buyer_last_read_seq BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE chat_rooms ADD COLUMN seller_last_read_seq BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE messages ADD COLUMN seq BIGINT;
+
+-- 기존 메시지에 채팅방별 순번 부여 (id 순)
+UPDATE messages m
+SET seq = numbered.seq
+FROM (SELECT id, ROW_NUMBER() OVER (PARTITION BY chat_room_id ORDER BY id) AS seq FROM messages) numbered
+WHERE m.id = numbered.id;
+
+ALTER TABLE messages ALTER COLUMN seq SET NOT NULL;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_messages_room_seq ON messages (chat_room_id, seq);
+
+-- 읽음 커서: 자신이 보낸 메시지와 읽음 표시된 상대방 메시지 중 마지막 순번
+UPDATE chat_rooms r
+SET last_message_seq     = COALESCE((SELECT MAX(m.seq) FROM messages m WHERE m.chat_room_id = r.id), 0),
+    buyer_last_read_seq  = COALESCE((SELECT MAX(m.seq) FROM messages m
+                                     WHERE m.chat_room_id = r.id
+                                       AND (m.sender_id = r.buyer_id OR m.is_read)), 0),
+    seller_last_read_seq = COALESCE((SELECT MAX(m.seq) FROM messages m
+                                     WHERE m.chat_room_id = r.id
+                                       AND (m.sender_id = r.seller_id OR m.is_read)), 0);
+
+DROP INDEX IF EXISTS idx_messages_room_unread;
+ALTER TABLE messages DROP COLUMN is_read;
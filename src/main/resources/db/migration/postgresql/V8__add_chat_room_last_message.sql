@@ -0,0 +1,24 @@
+-- =============================================================================
+-- V8: 채팅방 마지막 메시지 요약 (채팅방 목록이 messages 테이블을 읽지 않도록)
+-- =============================================================================
+-- 메시지 전송과 같은 트랜잭션에서 갱신합니다. 데이터를 옮기는 마이그레이션이라 트랜잭션 안에서 실행합니다.
+
+ALTER TABLE chat_rooms ADD COLUMN last_message_id BIGINT;
+ALTER TABLE chat_rooms ADD COLUMN last_message_preview VARCHAR(200);
+ALTER TABLE chat_rooms ADD COLUMN last_message_sender_id BIGINT;
+ALTER TABLE chat_rooms ADD COLUMN last_message_at TIMESTAMP(6);
+
+-- 기존 채팅방: 순번이 가장 큰 메시지로 채움
+UPDATE chat_rooms r
+SET last_message_id        = m.id,
+    last_message_preview   = SUBSTRING(m.content, 1, 200),
+    last_message_sender_id = m.sender_id,
+    last_message_at        = m.created_at
+FROM messages m
+WHERE m.chat_room_id = r.id
+  AND m.seq = r.last_message_seq;
+
+-- 참여자별 채팅방 목록을 최근 메시지순으로 (기존 판매자 단일 컬럼 인덱스는 대체)
+CREATE INDEX IF NOT EXISTS idx_chat_rooms_buyer_last_message ON chat_rooms (buyer_id, last_message_at DESC NULLS LAST);
+CREATE INDEX IF NOT EXISTS idx_chat_rooms_seller_last_message ON chat_rooms (seller_id, last_message_at DESC NULLS LAST);
+DROP INDEX IF EXISTS idx_chat_rooms_seller;
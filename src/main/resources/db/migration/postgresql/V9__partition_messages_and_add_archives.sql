@@ -0,0 +1,82 @@
+-- =============================================================================
+-- V9: messages 월별 파티션 + 오래된 메시지의 월 단위 보관 (MessageArchive)
+-- =============================================================================
+-- 기존 messages를 created_at 기준 월별 RANGE 파티션 테이블로 옮깁니다. 데이터를 복사하므로 트랜잭션 안에서
+-- 실행되며, 복사하는 동안 messages 쓰기가 막힙니다. 이후 월의 파티션은 MessagePartitionMaintainer가 미리 만듭니다.
+--
+-- 파티션 키가 기본 키/유니크 인덱스에 포함되어야 하므로
+--   - 기본 키는 (id, created_at), id는 시퀀스 기본값으로 발급 (파티션 테이블은 IDENTITY 미지원 버전 고려)
+--   - (chat_room_id, seq) 유니크는 (chat_room_id, seq, created_at)으로 유지. 같은 파티션(같은 월) 안에서는 중복 순번을
+--     막지만 다른 월에 같은 순번이 들어가는 것까지는 막지 못함 (순번은 채팅방 행 잠금 안에서 발급되므로 정상 경로에서는 중복 없음)
+--
+-- 메시지 조회는 created_at 범위(채팅방 생성 ~ 마지막 메시지 시각)를 함께 걸어 범위 밖 파티션을 건너뜁니다.
+
+-- 1. 기존 테이블 이름 변경 (인덱스/제약 이름 충돌 방지)
+ALTER TABLE messages RENAME TO messages_unpartitioned;
+ALTER TABLE messages_unpartitioned RENAME CONSTRAINT messages_pkey TO messages_unpartitioned_pkey;
+DROP INDEX IF EXISTS idx_messages_room_created;
+DROP INDEX IF EXISTS idx_messages_room_id;
+DROP INDEX IF EXISTS uk_messages_room_seq;
+
+-- 2. 파티션 테이블
+CREATE TABLE messages (
+    id           BIGINT       NOT NULL,
+    chat_room_id BIGINT       NOT NULL,
+    sender_id    BIGINT       NOT NULL,
+    content      TEXT         NOT NULL,
+    seq          BIGINT       NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    updated_at   TIMESTAMP(6),
+    CONSTRAINT messages_pkey PRIMARY KEY (id, created_at),
+    CONSTRAINT fk_messages_chat_room FOREIGN KEY (chat_room_id) REFERENCES chat_rooms (id),
+    CONSTRAINT fk_messages_sender FOREIGN KEY (sender_id) REFERENCES users (id)
+) PARTITION BY RANGE (created_at);
+
+-- 가장 오래된 메시지의 달부터 3개월 뒤까지 월별 파티션 (messages_YYYY_MM)
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', COALESCE((SELECT MIN(created_at) FROM messages_unpartitioned), now()))::date;
+    last_month  DATE := (date_trunc('month', now()) + INTERVAL '3 months')::date;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF messages FOR VALUES FROM (%L) TO (%L)',
+                       'messages_' || to_char(month_start, 'YYYY_MM'),
+                       month_start, (month_start + INTERVAL '1 month')::date);
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+-- 파티션이 아직 없는 기간의 메시지용
+CREATE TABLE IF NOT EXISTS messages_default PARTITION OF messages DEFAULT;
+
+-- 3. 데이터 복사 후 기존 테이블 삭제
+INSERT INTO messages (id, chat_room_id, sender_id, content, seq, created_at, updated_at)
+SELECT id, chat_room_id, sender_id, content, seq, COALESCE(created_at, updated_at, now()), updated_at
+FROM messages_unpartitioned;
+
+DROP TABLE messages_unpartitioned;
+
+-- 4. id 발급 시퀀스 (기존 IDENTITY 시퀀스는 테이블과 함께 삭제됨)
+CREATE SEQUENCE IF NOT EXISTS messages_id_seq OWNED BY messages.id;
+SELECT setval('messages_id_seq', COALESCE((SELECT MAX(id) FROM messages), 0) + 1, false);
+ALTER TABLE messages ALTER COLUMN id SET DEFAULT nextval('messages_id_seq');
+
+-- 5. 인덱스 (부모에 만들면 모든 파티션에 생성)
+CREATE INDEX IF NOT EXISTS idx_messages_room_id ON messages (chat_room_id, id);
+CREATE INDEX IF NOT EXISTS idx_messages_room_created ON messages (chat_room_id, created_at);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_messages_room_seq ON messages (chat_room_id, seq, created_at);
+
+-- 6. 메시지 보관 (보관이 끝난 월 파티션은 MessageArchive가 떼어 내 삭제)
+ALTER TABLE chat_rooms ADD COLUMN archived_through_seq BIGINT DEFAULT 0 NOT NULL;
+
+CREATE TABLE message_archives (
+    chat_room_id  BIGINT       NOT NULL,
+    first_id      BIGINT       NOT NULL,
+    last_id       BIGINT       NOT NULL,
+    last_seq      BIGINT       NOT NULL,
+    message_count INTEGER      NOT NULL,
+    payload       BYTEA        NOT NULL,
+    archived_at   TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_message_archives PRIMARY KEY (chat_room_id, first_id),
+    CONSTRAINT fk_message_archives_chat_room FOREIGN KEY (chat_room_id) REFERENCES chat_rooms (id)
+);
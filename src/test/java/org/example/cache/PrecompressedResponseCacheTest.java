@@ -0,0 +1,56 @@
+package org.example.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Accept-Encoding에 따라 미리 압축한 본문과 압축 전 JSON 중 무엇을 보내는지 확인합니다.
+ */
+class PrecompressedResponseCacheTest {
+
+    private final PrecompressedResponseCache cache =
+            new PrecompressedResponseCache(new ObjectMapper(), new ResponseCacheProperties());
+
+    @Test
+    void gzipIsSentOnlyWhenAcceptedWithPositiveQuality() {
+        assertThat(PrecompressedResponseCache.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(PrecompressedResponseCache.acceptsGzip("br;q=1.0, GZIP;q=0.5")).isTrue();
+        assertThat(PrecompressedResponseCache.acceptsGzip("x-gzip")).isTrue();
+        assertThat(PrecompressedResponseCache.acceptsGzip("*")).isTrue();
+
+        assertThat(PrecompressedResponseCache.acceptsGzip(null)).isFalse();
+        assertThat(PrecompressedResponseCache.acceptsGzip("identity")).isFalse();
+        assertThat(PrecompressedResponseCache.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(PrecompressedResponseCache.acceptsGzip("deflate, gzip ; q=0.000")).isFalse();
+        assertThat(PrecompressedResponseCache.acceptsGzip("*;q=1, gzip;q=0")).isFalse();
+        assertThat(PrecompressedResponseCache.acceptsGzip("x-gzip-foo")).isFalse();
+        assertThat(PrecompressedResponseCache.acceptsGzip("gzip;q=abc")).isFalse();
+    }
+
+    @Test
+    void refusedGzipGetsThePlainJsonBody() {
+        PrecompressedResponseCache.CachedBody body = cache.get("test", () -> List.of("가전", "도서"));
+
+        ResponseEntity<byte[]> refused = cache.toResponse(body, request("gzip;q=0, identity"));
+        assertThat(refused.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(refused.getBody()).isEqualTo(body.json());
+
+        ResponseEntity<byte[]> accepted = cache.toResponse(body, request("gzip"));
+        assertThat(accepted.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(accepted.getBody()).isEqualTo(body.gzip());
+    }
+
+    private static ServletWebRequest request(String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/categories");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        return new ServletWebRequest(request);
+    }
+}
@@ -0,0 +1,167 @@
+package org.example.chat;
+
+import org.example.entity.Message;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 그룹 커밋 writer의 배치 저장, 대기 시간 초과 시 취소, 배치 실패 시 메시지별 오류 전달을 확인합니다.
+ *
+ * <p>대기 시간 초과는 다른 커넥션으로 채팅방 행을 잠가 writer가 순번 발급에서 멈추게 해서 재현합니다.</p>
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:group-commit;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "ssak3.chat-group-commit.enabled=true",
+        "ssak3.chat-group-commit.max-wait-ms=100",
+        "ssak3.chat-group-commit.timeout-ms=500"
+})
+@ActiveProfiles("test")
+class GroupCommitMessageWriterTest {
+
+    private static final AtomicLong IDS = new AtomicLong(1000);
+    private static final ExecutorService SENDERS = Executors.newFixedThreadPool(8);
+
+    @Autowired
+    private GroupCommitMessageWriter writer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private long chatRoomId;
+    private long buyerId;
+
+    @AfterAll
+    static void shutdown() {
+        SENDERS.shutdownNow();
+    }
+
+    @BeforeEach
+    void createChatRoom() {
+        long sellerId = insertUser("판매자");
+        buyerId = insertUser("구매자");
+        long categoryId = IDS.incrementAndGet();
+        jdbcTemplate.update("INSERT INTO categories (id, name) VALUES (?, ?)", categoryId, "카테고리-" + categoryId);
+        long productId = IDS.incrementAndGet();
+        jdbcTemplate.update("INSERT INTO products (id, seller_id, category_id, title, price, status) VALUES (?, ?, ?, ?, 1000, 'ON_SALE')",
+                productId, sellerId, categoryId, "상품-" + productId);
+        chatRoomId = IDS.incrementAndGet();
+        jdbcTemplate.update("INSERT INTO chat_rooms (id, buyer_id, seller_id, product_id) VALUES (?, ?, ?, ?)",
+                chatRoomId, buyerId, sellerId, productId);
+    }
+
+    @Test
+    void concurrentMessagesAreCommittedTogether() throws Exception {
+        long batchesBefore = writer.getBatchCount();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Message>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            String content = "메시지 " + i;
+            results.add(SENDERS.submit(() -> {
+                start.await();
+                return writer.send(chatRoomId, buyerId, content);
+            }));
+        }
+        start.countDown();
+
+        List<Long> seqs = new ArrayList<>();
+        for (Future<Message> result : results) {
+            seqs.add(result.get(5, TimeUnit.SECONDS).getSeq());
+        }
+
+        assertThat(seqs).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+        assertThat(writer.getBatchCount() - batchesBefore).isLessThan(5);
+        assertThat(countMessages()).isEqualTo(5);
+    }
+
+    @Test
+    void failedMessageIsReportedWithoutFailingTheRestOfTheBatch() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        Future<Message> valid = SENDERS.submit(() -> {
+            start.await();
+            return writer.send(chatRoomId, buyerId, "정상 메시지");
+        });
+        // content NOT NULL 위반으로 배치가 롤백되고, 메시지별 재저장에서 이 메시지만 실패
+        Future<Message> invalid = SENDERS.submit(() -> {
+            start.await();
+            return writer.send(chatRoomId, buyerId, null);
+        });
+        start.countDown();
+
+        assertThat(valid.get(5, TimeUnit.SECONDS).getContent()).isEqualTo("정상 메시지");
+        assertThatThrownBy(() -> invalid.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(RuntimeException.class);
+        assertThat(countMessages()).isEqualTo(1);
+    }
+
+    @Test
+    void queuedMessageIsCancelledOnTimeoutAndNeverCommitted() throws Exception {
+        long timeoutsBefore = writer.getTimedOutCount();
+        try (Connection lock = dataSource.getConnection()) {
+            lock.setAutoCommit(false);
+            try (PreparedStatement update = lock.prepareStatement(
+                    "UPDATE chat_rooms SET last_message_seq = last_message_seq WHERE id = ?")) {
+                update.setLong(1, chatRoomId);
+                update.executeUpdate();
+            }
+
+            // 첫 메시지: writer가 가져가 순번 발급(행 잠금)에서 멈춤
+            Future<Message> inFlight = SENDERS.submit(() -> writer.send(chatRoomId, buyerId, "저장 중"));
+            awaitEmptyQueue();
+            Thread.sleep(300);
+
+            // 두 번째 메시지: 큐에서 기다리다 시간 초과로 취소
+            assertThatThrownBy(() -> writer.send(chatRoomId, buyerId, "취소됨"))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("지연");
+            assertThat(writer.getTimedOutCount() - timeoutsBefore).isEqualTo(1);
+
+            lock.commit();
+            // 이미 writer가 가져간 메시지는 시간 초과 후에도 결과를 기다려 성공으로 응답
+            assertThat(inFlight.get(10, TimeUnit.SECONDS).getContent()).isEqualTo("저장 중");
+        }
+
+        awaitEmptyQueue();
+        assertThat(jdbcTemplate.queryForList("SELECT content FROM messages WHERE chat_room_id = ?", String.class, chatRoomId))
+                .containsExactly("저장 중");
+    }
+
+    private long insertUser(String nickname) {
+        long id = IDS.incrementAndGet();
+        jdbcTemplate.update("INSERT INTO users (id, kakao_id, nickname, temperature) VALUES (?, ?, ?, 36.5)", id, id, nickname);
+        return id;
+    }
+
+    private int countMessages() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM messages WHERE chat_room_id = ?", Integer.class, chatRoomId);
+    }
+
+    private void awaitEmptyQueue() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (writer.getQueueSize() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(writer.getQueueSize()).isZero();
+    }
+}
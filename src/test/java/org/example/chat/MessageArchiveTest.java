@@ -0,0 +1,100 @@
+package org.example.chat;
+
+import org.example.chat.MessageArchive.ArchivedMessage;
+import org.example.entity.Message;
+import org.example.service.ChatService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 메시지 보관 청크의 인코딩과, 보관 후 메시지 목록이 messages 테이블에서 보관 데이터로 이어지는지 확인합니다.
+ *
+ * <p>청크 크기는 2개로 작게 설정해 한 채팅방의 메시지가 여러 청크에 나뉘도록 합니다.</p>
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:message-archive;DB_CLOSE_DELAY=-1",
+        "ssak3.message-storage.archive-chunk-size=2"
+})
+@ActiveProfiles("test")
+class MessageArchiveTest {
+
+    private static final AtomicLong IDS = new AtomicLong(1000);
+
+    @Autowired
+    private MessageArchive messageArchive;
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void encodedChunkRoundTrips() {
+        List<ArchivedMessage> messages = List.of(
+                new ArchivedMessage(1, 1, 10, "안녕하세요 강남역 2번출구에서 봬요", LocalDateTime.of(2024, 2, 29, 23, 59, 59, 123_456_000)),
+                new ArchivedMessage(2, 2, 11, "👍🏻 좋아요", LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_999_000)),
+                new ArchivedMessage(3, 3, 10, "", LocalDateTime.of(2025, 1, 1, 0, 0)));
+
+        assertThat(MessageArchive.decode(MessageArchive.encode(messages))).containsExactlyElementsOf(messages);
+    }
+
+    @Test
+    void messagePagesContinueFromLiveRowsIntoArchivedChunks() {
+        LocalDateTime now = LocalDateTime.now();
+        long sellerId = insertUser("판매자");
+        long buyerId = insertUser("구매자");
+        long categoryId = IDS.incrementAndGet();
+        jdbcTemplate.update("INSERT INTO categories (id, name) VALUES (?, ?)", categoryId, "카테고리-" + categoryId);
+        long productId = IDS.incrementAndGet();
+        jdbcTemplate.update("INSERT INTO products (id, seller_id, category_id, title, price, status) VALUES (?, ?, ?, ?, 1000, 'ON_SALE')",
+                productId, sellerId, categoryId, "상품-" + productId);
+        long chatRoomId = IDS.incrementAndGet();
+        jdbcTemplate.update("INSERT INTO chat_rooms (id, buyer_id, seller_id, product_id, last_message_seq, last_message_at, created_at) "
+                        + "VALUES (?, ?, ?, ?, 8, ?, ?)",
+                chatRoomId, buyerId, sellerId, productId, Timestamp.valueOf(now), Timestamp.valueOf(now.minusDays(300)));
+        // 1~5번은 보관 대상 월, 6~8번은 최근 메시지
+        for (int seq = 1; seq <= 8; seq++) {
+            LocalDateTime createdAt = seq <= 5 ? now.minusDays(200).plusMinutes(seq) : now.minusMinutes(10 - seq);
+            jdbcTemplate.update("INSERT INTO messages (id, chat_room_id, sender_id, content, seq, created_at) VALUES (?, ?, ?, ?, ?, ?)",
+                    IDS.incrementAndGet(), chatRoomId, seq % 2 == 0 ? sellerId : buyerId, "메시지 " + seq, seq,
+                    Timestamp.valueOf(createdAt));
+        }
+
+        messageArchive.archiveOldMessages();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM messages WHERE chat_room_id = ?", Integer.class, chatRoomId))
+                .isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM message_archives WHERE chat_room_id = ?", Integer.class, chatRoomId))
+                .isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT archived_through_seq FROM chat_rooms WHERE id = ?", Long.class, chatRoomId))
+                .isEqualTo(5);
+
+        List<Message> first = chatService.getChatRoomMessages(chatRoomId, null, 3);
+        assertThat(first).extracting(Message::getSeq).containsExactly(6L, 7L, 8L);
+        List<Message> second = chatService.getChatRoomMessages(chatRoomId, first.get(0).getId(), 3);
+        assertThat(second).extracting(Message::getSeq).containsExactly(3L, 4L, 5L);
+        assertThat(second).extracting(Message::getContent).containsExactly("메시지 3", "메시지 4", "메시지 5");
+        List<Message> third = chatService.getChatRoomMessages(chatRoomId, second.get(0).getId(), 3);
+        assertThat(third).extracting(Message::getSeq).containsExactly(1L, 2L);
+        assertThat(chatService.getChatRoomMessages(chatRoomId, third.get(0).getId(), 3)).isEmpty();
+        assertThat(chatService.getChatRoomMessages(chatRoomId)).extracting(Message::getSeq)
+                .containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L);
+    }
+
+    private long insertUser(String nickname) {
+        long id = IDS.incrementAndGet();
+        jdbcTemplate.update("INSERT INTO users (id, kakao_id, nickname, temperature) VALUES (?, ?, ?, 36.5)", id, id, nickname);
+        return id;
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.chat;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검색 토큰 분리(단어, bigram)와 내용 확인의 정규화를 확인합니다.
+ */
+class MessageSearchIndexTest {
+
+    @Test
+    void koreanTextIsSplitIntoWordsAndBigrams() {
+        List<String> terms = MessageSearchIndex.terms("강남역 2번출구에서 만나요!");
+
+        assertThat(terms).containsExactly("강남역", "2번출구에서", "만나요");
+        assertThat(MessageSearchIndex.tokens(terms)).containsExactly(
+                "강남", "남역", "2번", "번출", "출구", "구에", "에서", "만나", "나요");
+    }
+
+    @Test
+    void mixedScriptsAreNormalizedBeforeSplitting() {
+        // 전각 문자는 NFKC로 반각, 대문자는 소문자로 바꾸고 이모지/문장부호는 단어를 나눔
+        assertThat(MessageSearchIndex.terms("ｉＰｈｏｎｅ15 프로Max👍새상품,  미개봉"))
+                .containsExactly("iphone15", "프로max", "새상품", "미개봉");
+        assertThat(MessageSearchIndex.tokens(List.of("프로max"))).containsExactly("프로", "로m", "ma", "ax");
+    }
+
+    @Test
+    void supplementaryCharactersAreCountedByCodePoint() {
+        assertThat(MessageSearchIndex.tokens(MessageSearchIndex.terms("𠀀𠀁𠀂"))).containsExactly("𠀀𠀁", "𠀁𠀂");
+    }
+
+    @Test
+    void repeatedWordsAreIndexedOnce() {
+        List<String> terms = MessageSearchIndex.terms("네고 네고 가능? 네고");
+
+        assertThat(terms).containsExactly("네고", "가능");
+        assertThat(MessageSearchIndex.tokens(terms)).containsExactly("네고", "가능");
+    }
+
+    @Test
+    void oneCharacterWordsHaveNoTokensButAreStillMatched() {
+        assertThat(MessageSearchIndex.tokens(MessageSearchIndex.terms("네"))).isEmpty();
+        assertThat(MessageSearchIndex.tokens(MessageSearchIndex.terms(" ! "))).isEmpty();
+
+        // 한 글자 단어는 후보 조회에 쓰이지 않고 내용 확인에서만 걸러짐
+        List<String> terms = MessageSearchIndex.terms("a 강남");
+        assertThat(MessageSearchIndex.tokens(terms)).containsExactly("강남");
+        assertThat(MessageSearchIndex.matches("강남 A동 앞", terms)).isTrue();
+        assertThat(MessageSearchIndex.matches("강남 B동 앞", terms)).isFalse();
+    }
+
+    @Test
+    void matchingUsesTheSameNormalization() {
+        assertThat(MessageSearchIndex.matches("ＡＢＣ마트 앞에서 봬요", MessageSearchIndex.terms("abc마트"))).isTrue();
+        assertThat(MessageSearchIndex.matches("강남 역", MessageSearchIndex.terms("강남역"))).isFalse();
+        assertThat(MessageSearchIndex.matches(null, MessageSearchIndex.terms("강남"))).isFalse();
+    }
+}
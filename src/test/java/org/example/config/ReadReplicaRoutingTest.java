@@ -0,0 +1,129 @@
+package org.example.config;
+
+import org.example.entity.Category;
+import org.example.entity.Product;
+import org.example.repository.CategoryRepository;
+import org.example.service.ProductService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 개의 H2 인메모리 DB(프라이머리/레플리카)로 읽기 전용 트랜잭션 라우팅을 확인합니다.
+ *
+ * <p>레플리카에는 복제가 없으므로 같은 마이그레이션을 직접 적용하고, 레플리카에만 있는 데이터를 넣어
+ * 어느 DB에서 읽었는지 구분합니다.</p>
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReadReplicaRoutingTest.PRIMARY_URL,
+        "ssak3.datasource.replica.url=" + ReadReplicaRoutingTest.REPLICA_URL,
+        "ssak3.datasource.replica.username=sa",
+        "ssak3.datasource.replica.password="
+})
+@ActiveProfiles("test")
+class ReadReplicaRoutingTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    private static final String REPLICA_ONLY = "레플리카 전용";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @BeforeAll
+    static void prepareReplica() throws SQLException {
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").locations("classpath:db/migration/h2").load().migrate();
+        try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("INSERT INTO users (id, kakao_id, nickname, temperature) VALUES (9001, 9001, '레플리카 판매자', 36.5)");
+            statement.executeUpdate("INSERT INTO categories (id, name) VALUES (9001, '" + REPLICA_ONLY + "')");
+            statement.executeUpdate("INSERT INTO products (id, seller_id, category_id, title, price, status) "
+                    + "VALUES (9001, 9001, 9001, '" + REPLICA_ONLY + "', 1000, 'ON_SALE')");
+        }
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        assertThat(currentDatabase(true)).isEqualToIgnoringCase("ROUTING-REPLICA");
+    }
+
+    @Test
+    void readWriteTransactionUsesPrimary() {
+        assertThat(currentDatabase(false)).isEqualToIgnoringCase("ROUTING-PRIMARY");
+    }
+
+    @Test
+    void readOnlyServiceMethodReadsFromReplica() {
+        List<Product> products = productService.getAllProducts();
+
+        assertThat(products).extracting(Product::getTitle).contains(REPLICA_ONLY);
+    }
+
+    @Test
+    void readOnlyTransactionFallsBackToPrimaryWhenReplicaIsDown() {
+        ReadWriteRoutingDataSource routing = DataSourceUnwrapper.unwrap(dataSource, ReadWriteRoutingDataSource.class);
+        assertThat(routing).isNotNull();
+        routing.setReplicaAvailable(false);
+        try {
+            assertThat(currentDatabase(true)).isEqualToIgnoringCase("ROUTING-PRIMARY");
+        } finally {
+            routing.setReplicaAvailable(true);
+        }
+    }
+
+    @Test
+    void writesGoToPrimary() {
+        Category saved = categoryRepository.save(Category.builder().name("프라이머리 쓰기").build());
+
+        assertThat(countCategory(PRIMARY_URL, saved.getName())).isEqualTo(1);
+        assertThat(countCategory(REPLICA_URL, saved.getName())).isZero();
+    }
+
+    private String currentDatabase(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    private static int countCategory(String url, String name) {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             var statement = connection.prepareStatement("SELECT COUNT(*) FROM categories WHERE name = ?")) {
+            statement.setString(1, name);
+            try (var resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getInt(1);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.monitoring;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서비스 호출 하나가 실행하는 JDBC 문장 수를 고정하는 테스트용 도우미입니다.
+ *
+ * <pre>{@code
+ * List<ChatRoom> rooms = QueryCountAssertions.assertMaxStatements(5, () -> chatService.getUserChatRooms(userId));
+ * }</pre>
+ *
+ * <p>영속성 컨텍스트에 이미 올라온 엔티티는 쿼리 없이 반환되므로, 측정 전에
+ * {@code EntityManager.flush()}와 {@code clear()}를 호출해야 실제 요청과 같은 값이 나옵니다.</p>
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    /**
+     * 작업을 실행하고 측정 결과를 반환합니다.
+     */
+    public static QueryStats measure(Runnable action) {
+        try (QueryStats stats = QueryStats.begin()) {
+            action.run();
+            return stats;
+        }
+    }
+
+    /**
+     * 작업이 실행한 JDBC 문장 수가 {@code max} 이하인지 검증하고 작업 결과를 반환합니다.
+     */
+    public static <T> T assertMaxStatements(int max, Supplier<T> action) {
+        try (QueryStats stats = QueryStats.begin()) {
+            T result = action.get();
+            assertThat(stats.getStatementCount())
+                    .as("JDBC 문장 수 (%s)", stats)
+                    .isLessThanOrEqualTo(max);
+            return result;
+        }
+    }
+
+    /**
+     * 작업이 실행한 JDBC 문장 수가 정확히 {@code expected}인지 검증하고 작업 결과를 반환합니다.
+     */
+    public static <T> T assertStatements(int expected, Supplier<T> action) {
+        try (QueryStats stats = QueryStats.begin()) {
+            T result = action.get();
+            assertThat(stats.getStatementCount())
+                    .as("JDBC 문장 수 (%s)", stats)
+                    .isEqualTo(expected);
+            return result;
+        }
+    }
+}
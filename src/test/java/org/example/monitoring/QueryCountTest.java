@@ -0,0 +1,109 @@
+package org.example.monitoring;
+
+import jakarta.persistence.EntityManager;
+import org.example.entity.Category;
+import org.example.entity.ChatRoom;
+import org.example.entity.Message;
+import org.example.entity.Product;
+import org.example.entity.ProductImage;
+import org.example.entity.UserProfile;
+import org.example.service.ChatService;
+import org.example.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회 서비스의 쿼리 수를 고정합니다.
+ * 값이 늘어나면 N+1이 다시 생긴 것이므로 원인을 먼저 확인하고, 줄였다면 상한도 함께 낮춥니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class QueryCountTest {
+
+    private static final int ROOM_COUNT = 3;
+    private static final int PRODUCT_COUNT = 3;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private ProductService productService;
+
+    private UserProfile buyer;
+
+    @BeforeEach
+    void setUp() {
+        Category category = persist(Category.builder().name("쿼리 수 테스트").build());
+        buyer = persist(user(8_000_000_001L, "구매자"));
+        for (int i = 0; i < Math.max(ROOM_COUNT, PRODUCT_COUNT); i++) {
+            UserProfile seller = persist(user(8_000_000_100L + i, "판매자" + i));
+            Product product = persist(Product.builder()
+                    .title("상품 " + i)
+                    .description("설명 " + i)
+                    .price(10_000)
+                    .seller(seller)
+                    .category(category)
+                    .build());
+            for (int order = 0; order < 2; order++) {
+                persist(ProductImage.builder().product(product).imageUrl("/uploads/" + i + "_" + order + ".jpg").orderIndex(order).build());
+            }
+            if (i < ROOM_COUNT) {
+                ChatRoom room = persist(ChatRoom.builder().buyer(buyer).seller(seller).product(product)
+                        .lastMessageSeq(2).buyerLastReadSeq(1).sellerLastReadSeq(2).build());
+                persist(Message.builder().chatRoom(room).sender(buyer).seq(1L).content("안녕하세요").build());
+                persist(Message.builder().chatRoom(room).sender(seller).seq(2L).content("네 안녕하세요").build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void getUserChatRoomsStatementCount() {
+        // 사용자 1 + 채팅방(연관 엔티티 포함) 1 (마지막 메시지는 요약 컬럼, 안 읽은 수는 읽음 커서로 계산)
+        List<ChatRoom> rooms = QueryCountAssertions.assertMaxStatements(2,
+                () -> chatService.getUserChatRooms(buyer.getId()));
+
+        assertThat(rooms).hasSize(ROOM_COUNT);
+        // 구매자는 판매자가 보낸 두 번째 메시지를 아직 읽지 않음
+        assertThat(rooms).allSatisfy(room -> assertThat(room.getUnreadCount()).isEqualTo(1L));
+    }
+
+    @Test
+    void getAllProductsStatementCount() {
+        // 상품 1 + 상품마다 판매자, 이미지 2 + 공통 카테고리 1
+        List<Product> products = QueryCountAssertions.assertMaxStatements(2 + 2 * PRODUCT_COUNT,
+                () -> productService.getAllProducts());
+
+        assertThat(products).hasSize(PRODUCT_COUNT);
+    }
+
+    @Test
+    void measureCountsEntityLoads() {
+        QueryStats stats = QueryCountAssertions.measure(() -> chatService.getUserChatRooms(buyer.getId()));
+
+        assertThat(stats.getStatementCount()).isPositive();
+        assertThat(stats.getEntityLoadCount()).isGreaterThanOrEqualTo(ROOM_COUNT);
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    private static UserProfile user(long kakaoId, String nickname) {
+        return UserProfile.builder().kakaoId(kakaoId).nickname(nickname).build();
+    }
+}
@@ -0,0 +1,139 @@
+package org.example.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 주요 리포지토리 쿼리가 마이그레이션에서 만든 인덱스를 타는지 EXPLAIN으로 확인합니다.
+ *
+ * <p>H2는 항상 실행하고, PostgreSQL은 {@code SSAK3_EXPLAIN_PG_URL}(및 {@code _USER}/{@code _PASSWORD})이
+ * 설정된 경우에만 {@code explain_test} 스키마에 마이그레이션한 뒤 실행합니다.
+ * 빈 테이블에서는 PostgreSQL이 순차 스캔을 고르므로 {@code enable_seqscan}을 끄고 인덱스 사용 가능 여부만 봅니다.</p>
+ *
+ * <p>H2는 외래 키마다 자체 인덱스를 만들기 때문에 단일 컬럼 인덱스는 이름 대신
+ * 전체 스캔이 아닌지만 확인합니다.</p>
+ *
+ * <p>PostgreSQL의 messages는 월별 파티션 테이블이라 실행 계획에 파티션별 인덱스
+ * ({@code messages_YYYY_MM_chat_room_id_..._idx})가 나오므로 인덱스 이름의 공통 부분으로 확인합니다.</p>
+ */
+class QueryPlanTest {
+
+    private static final String PG_SCHEMA = "explain_test";
+
+    /**
+     * 검사할 쿼리. {@code h2Index}가 null이면 H2에서는 전체 스캔이 아닌지만 확인합니다.
+     */
+    private record PlanCase(String name, String sql, String pgIndex, String h2Index) {
+    }
+
+    private static final List<PlanCase> CASES = List.of(
+            new PlanCase("채팅방 메시지 목록 (findByChatRoomAndCreatedAtBetweenOrderByCreatedAtAsc)",
+                    "SELECT m.id, m.content FROM messages m WHERE m.chat_room_id = 1 "
+                            + "AND m.created_at BETWEEN TIMESTAMP '2024-01-01 00:00:00' AND TIMESTAMP '2024-03-01 00:00:00' "
+                            + "ORDER BY m.created_at",
+                    "chat_room_id_created_at_idx", "idx_messages_room_created"),
+            new PlanCase("채팅방 이전 메시지 페이지 (findByChatRoomAndIdLessThanAndCreatedAtBetweenOrderByIdDesc)",
+                    "SELECT m.id, m.content FROM messages m WHERE m.chat_room_id = 1 AND m.id < 100 "
+                            + "AND m.created_at BETWEEN TIMESTAMP '2024-01-01 00:00:00' AND TIMESTAMP '2024-03-01 00:00:00' "
+                            + "ORDER BY m.id DESC LIMIT 50",
+                    "chat_room_id_id_idx", null),
+            new PlanCase("채팅방 내 메시지 검색 후보 (MessageSearchIndex.findCandidates)",
+                    "SELECT t.message_id FROM message_search_tokens t WHERE t.chat_room_id = 1 AND t.token IN ('강남', '남역') "
+                            + "AND t.message_id < 100 GROUP BY t.message_id HAVING COUNT(*) = 2 ORDER BY t.message_id DESC LIMIT 42",
+                    "pk_message_search_tokens", null),
+            new PlanCase("카테고리별 상품 (findByCategory)",
+                    "SELECT p.id, p.title FROM products p WHERE p.category_id = 1 ORDER BY p.created_at DESC",
+                    "idx_products_category_created", "idx_products_category_created"),
+            new PlanCase("판매자별 상품 (findBySeller)",
+                    "SELECT p.id, p.title FROM products p WHERE p.seller_id = 1",
+                    "idx_products_seller", null),
+            new PlanCase("상품 이미지 (Product.images)",
+                    "SELECT i.id, i.image_url FROM product_images i WHERE i.product_id = 1 ORDER BY i.image_order",
+                    "idx_product_images_product_order", "idx_product_images_product_order"),
+            new PlanCase("판매자 채팅방 (findBySeller)",
+                    "SELECT r.id FROM chat_rooms r WHERE r.seller_id = 1",
+                    "idx_chat_rooms_seller_last_message", null),
+            new PlanCase("구매자 채팅방 최근 메시지순 (findByBuyerOrSeller)",
+                    "SELECT r.id FROM chat_rooms r WHERE r.buyer_id = 1 ORDER BY r.last_message_at DESC NULLS LAST",
+                    "idx_chat_rooms_buyer_last_message", null),
+            new PlanCase("상품을 찜한 사용자 (findByProduct)",
+                    "SELECT l.id FROM likes l WHERE l.product_id = 1",
+                    "idx_likes_product", null),
+            new PlanCase("판매중 상품 최신순 탐색 (findBrowseIds, status)",
+                    "SELECT p.id FROM products p WHERE p.status = 'ON_SALE' ORDER BY p.created_at DESC, p.id DESC",
+                    "idx_products_status_created", null),
+            new PlanCase("가격 구간 가격순 탐색 (findBrowseIds, minPrice/maxPrice)",
+                    "SELECT p.id FROM products p WHERE p.price >= 10000 AND p.price <= 50000 ORDER BY p.price, p.id",
+                    "idx_products_price_id", null)
+    );
+
+    @Test
+    void h2QueriesUseIndexes() throws SQLException {
+        String url = "jdbc:h2:mem:query-plan;DB_CLOSE_DELAY=-1";
+        migrate(url, "sa", "", "classpath:db/migration/h2", null);
+
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            for (PlanCase planCase : CASES) {
+                String plan = explain(connection, planCase.sql());
+                assertThat(plan).as(planCase.name()).doesNotContainIgnoringCase("tableScan");
+                if (planCase.h2Index() != null) {
+                    assertThat(plan).as(planCase.name()).containsIgnoringCase(planCase.h2Index());
+                }
+            }
+        }
+    }
+
+    @Test
+    void postgresqlQueriesUseIndexes() throws SQLException {
+        String url = System.getenv("SSAK3_EXPLAIN_PG_URL");
+        assumeTrue(url != null && !url.isBlank(), "SSAK3_EXPLAIN_PG_URL이 없어 PostgreSQL EXPLAIN 검사를 건너뜁니다.");
+        String user = System.getenv().getOrDefault("SSAK3_EXPLAIN_PG_USER", "postgres");
+        String password = System.getenv().getOrDefault("SSAK3_EXPLAIN_PG_PASSWORD", "");
+        migrate(url, user, password, "classpath:db/migration/postgresql", PG_SCHEMA);
+
+        try (Connection connection = DriverManager.getConnection(url, user, password)) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET search_path TO " + PG_SCHEMA);
+                statement.execute("SET enable_seqscan = off");
+            }
+            for (PlanCase planCase : CASES) {
+                assertThat(explain(connection, planCase.sql())).as(planCase.name()).contains(planCase.pgIndex());
+            }
+        }
+    }
+
+    private static void migrate(String url, String user, String password, String location, String schema) {
+        // CONCURRENTLY 인덱스 마이그레이션이 Flyway의 트랜잭션 advisory lock을 기다리지 않도록 세션 락 사용 (application.yml과 동일)
+        var configuration = Flyway.configure()
+                .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+                .dataSource(url, user, password)
+                .locations(location);
+        if (schema != null) {
+            configuration.schemas(schema);
+        }
+        configuration.load().migrate();
+    }
+
+    private static String explain(Connection connection, String sql) throws SQLException {
+        List<String> lines = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN " + sql)) {
+            while (resultSet.next()) {
+                lines.add(resultSet.getString(1));
+            }
+        }
+        return String.join("\n", lines);
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.service;
+
+import org.example.entity.Message;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 최근 메시지 버퍼로 응답한 메시지의 읽음 여부가 요청마다 따로 계산되는지 확인합니다.
+ *
+ * <p>읽음 커서가 바뀌기 전과 후에 같은 채팅방을 읽은 두 응답이 서로의 읽음 여부를 덮어쓰지 않아야 합니다.</p>
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:chat-read-state;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+class ChatServiceReadStateTest {
+
+    private static final AtomicLong IDS = new AtomicLong(1000);
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long chatRoomId;
+
+    @BeforeEach
+    void createChatRoomWithMessages() {
+        long sellerId = insertUser("판매자");
+        long buyerId = insertUser("구매자");
+        long categoryId = IDS.incrementAndGet();
+        jdbcTemplate.update("INSERT INTO categories (id, name) VALUES (?, ?)", categoryId, "카테고리-" + categoryId);
+        long productId = IDS.incrementAndGet();
+        jdbcTemplate.update("INSERT INTO products (id, seller_id, category_id, title, price, status) VALUES (?, ?, ?, ?, 1000, 'ON_SALE')",
+                productId, sellerId, categoryId, "상품-" + productId);
+        chatRoomId = IDS.incrementAndGet();
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("INSERT INTO chat_rooms (id, buyer_id, seller_id, product_id, last_message_seq, buyer_last_read_seq, "
+                        + "last_message_at, created_at) VALUES (?, ?, ?, ?, 3, 3, ?, ?)",
+                chatRoomId, buyerId, sellerId, productId, Timestamp.valueOf(now), Timestamp.valueOf(now.minusDays(1)));
+        for (int seq = 1; seq <= 3; seq++) {
+            jdbcTemplate.update("INSERT INTO messages (id, chat_room_id, sender_id, content, seq, created_at) VALUES (?, ?, ?, ?, ?, ?)",
+                    IDS.incrementAndGet(), chatRoomId, buyerId, "메시지 " + seq, seq, Timestamp.valueOf(now.minusMinutes(10 - seq)));
+        }
+    }
+
+    @Test
+    void readersWithDifferentCursorsKeepTheirOwnReadFlags() {
+        // DB에서 읽어 버퍼를 채운 응답과, 버퍼로 응답한 응답 (판매자가 아직 읽지 않음)
+        List<Message> seeded = chatService.getChatRoomMessages(chatRoomId, null, 10);
+        List<Message> beforeRead = chatService.getChatRoomMessages(chatRoomId, null, 10);
+
+        // 판매자가 2번까지 읽은 뒤 버퍼로 응답
+        jdbcTemplate.update("UPDATE chat_rooms SET seller_last_read_seq = 2 WHERE id = ?", chatRoomId);
+        List<Message> afterRead = chatService.getChatRoomMessages(chatRoomId, null, 10);
+
+        assertThat(seeded).extracting(Message::isRead).containsExactly(false, false, false);
+        assertThat(beforeRead).extracting(Message::isRead).containsExactly(false, false, false);
+        assertThat(afterRead).extracting(Message::isRead).containsExactly(true, true, false);
+        assertThat(afterRead).extracting(Message::getSeq).containsExactly(1L, 2L, 3L);
+        assertThat(afterRead.get(0)).isNotSameAs(beforeRead.get(0));
+    }
+
+    private long insertUser(String nickname) {
+        long id = IDS.incrementAndGet();
+        jdbcTemplate.update("INSERT INTO users (id, kakao_id, nickname, temperature) VALUES (?, ?, ?, 36.5)", id, id, nickname);
+        return id;
+    }
+}
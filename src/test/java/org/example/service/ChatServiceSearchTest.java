@@ -0,0 +1,145 @@
+package org.example.service;
+
+import org.example.chat.MessageSearchIndex;
+import org.example.dto.MessageSearchResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 채팅방 내 검색의 페이지 이어받기와, 색인 진행 위치 이후(아직 색인되지 않은) 메시지 검색을 확인합니다.
+ *
+ * <p>색인 작업은 주기 실행 대신 직접 호출하며, 작성된 지 1분이 지난 메시지만 색인되도록 설정합니다.</p>
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:chat-search;DB_CLOSE_DELAY=-1",
+        "ssak3.message-search.index-interval-ms=3600000",
+        "ssak3.message-search.index-settle-ms=60000"
+})
+@ActiveProfiles("test")
+class ChatServiceSearchTest {
+
+    private static final AtomicLong IDS = new AtomicLong(1000);
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private MessageSearchIndex messageSearchIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long chatRoomId;
+    private long buyerId;
+    private long seq;
+
+    @BeforeEach
+    void createChatRoom() {
+        long sellerId = insertUser("판매자");
+        buyerId = insertUser("구매자");
+        long categoryId = IDS.incrementAndGet();
+        jdbcTemplate.update("INSERT INTO categories (id, name) VALUES (?, ?)", categoryId, "카테고리-" + categoryId);
+        long productId = IDS.incrementAndGet();
+        jdbcTemplate.update("INSERT INTO products (id, seller_id, category_id, title, price, status) VALUES (?, ?, ?, ?, 1000, 'ON_SALE')",
+                productId, sellerId, categoryId, "상품-" + productId);
+        chatRoomId = IDS.incrementAndGet();
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("INSERT INTO chat_rooms (id, buyer_id, seller_id, product_id, last_message_at, created_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)",
+                chatRoomId, buyerId, sellerId, productId, Timestamp.valueOf(now), Timestamp.valueOf(now.minusDays(1)));
+        seq = 0;
+    }
+
+    @Test
+    void pagesFollowTheCursorWithoutGapsOrDuplicates() {
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            long id = insertMessage(i % 3 == 2 ? "다른 이야기" : "강남역 " + i + "번 출구", 10);
+            if (i % 3 != 2) {
+                expected.add(0, id);
+            }
+        }
+        messageSearchIndex.indexNewMessages();
+
+        List<Long> found = new ArrayList<>();
+        Long cursor = null;
+        int pages = 0;
+        do {
+            MessageSearchResult result = chatService.searchMessages(chatRoomId, "강남역", cursor, 2);
+            assertThat(result.hits()).hasSizeLessThanOrEqualTo(2);
+            result.hits().forEach(hit -> found.add(hit.messageId()));
+            assertThat(result.hasNext()).isEqualTo(result.nextCursor() != null);
+            cursor = result.nextCursor();
+            pages++;
+        } while (cursor != null && pages < 10);
+
+        assertThat(found).containsExactlyElementsOf(expected);
+        assertThat(pages).isEqualTo(3);
+    }
+
+    @Test
+    void messagesPastTheIndexWatermarkAreStillFound() {
+        long indexed = insertMessage("강남역에서 봬요", 10);
+        long unsettled = insertMessage(indexed + 1000, "강남역 도착했어요", 0);
+        messageSearchIndex.indexNewMessages();
+
+        // 작성된 지 얼마 안 된 메시지 앞에서 멈춤
+        assertThat(messageSearchIndex.indexedBefore()).isEqualTo(indexed + 1);
+        assertThat(countTokens(unsettled)).isZero();
+
+        // 나중에 커밋된 작은 id: 진행 위치가 멈춰 있으므로 다음 실행에서 색인됨
+        long lateCommit = insertMessage("강남역 출구 앞", 5);
+        messageSearchIndex.indexNewMessages();
+        assertThat(messageSearchIndex.indexedBefore()).isEqualTo(lateCommit + 1);
+        assertThat(countTokens(lateCommit)).isPositive();
+
+        // 색인된 메시지와 진행 위치 이후 메시지를 최신순으로 함께 반환
+        MessageSearchResult first = chatService.searchMessages(chatRoomId, "강남역", null, 2);
+        assertThat(first.hits()).extracting(MessageSearchResult.Hit::messageId).containsExactly(unsettled, lateCommit);
+        assertThat(first.hasNext()).isTrue();
+        MessageSearchResult second = chatService.searchMessages(chatRoomId, "강남역", first.nextCursor(), 2);
+        assertThat(second.hits()).extracting(MessageSearchResult.Hit::messageId).containsExactly(indexed);
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    void oneCharacterQueryIsRejected() {
+        assertThatThrownBy(() -> chatService.searchMessages(chatRoomId, "네", null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("2자 이상");
+    }
+
+    private long insertUser(String nickname) {
+        long id = IDS.incrementAndGet();
+        jdbcTemplate.update("INSERT INTO users (id, kakao_id, nickname, temperature) VALUES (?, ?, ?, 36.5)", id, id, nickname);
+        return id;
+    }
+
+    private long insertMessage(String content, int minutesAgo) {
+        return insertMessage(IDS.incrementAndGet(), content, minutesAgo);
+    }
+
+    private long insertMessage(long id, String content, int minutesAgo) {
+        jdbcTemplate.update("INSERT INTO messages (id, chat_room_id, sender_id, content, seq, created_at) VALUES (?, ?, ?, ?, ?, ?)",
+                id, chatRoomId, buyerId, content, ++seq, Timestamp.valueOf(LocalDateTime.now().minusMinutes(minutesAgo)));
+        return id;
+    }
+
+    private int countTokens(long messageId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM message_search_tokens WHERE message_id = ?",
+                Integer.class, messageId);
+    }
+}
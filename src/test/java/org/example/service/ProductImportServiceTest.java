@@ -0,0 +1,206 @@
+package org.example.service;
+
+import org.example.dto.BulkImportResult;
+import org.example.entity.Category;
+import org.example.entity.UserProfile;
+import org.example.repository.CategoryRepository;
+import org.example.repository.UserProfileRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 상품 일괄 등록의 압축 파일 검증, 용량/개수 제한, 일부 실패 시 저장된 이미지 정리를 확인합니다.
+ *
+ * <p>업로드 디렉토리는 임시 디렉토리로 바꾸고, 제한은 작게(압축 해제 1MB, 상품 3개) 설정합니다.</p>
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:product-import;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+class ProductImportServiceTest {
+
+    private static final Path UPLOAD_DIR = createUploadDir();
+
+    @DynamicPropertySource
+    static void importProperties(DynamicPropertyRegistry registry) {
+        registry.add("ssak3.product-import.upload-dir", UPLOAD_DIR::toString);
+        registry.add("ssak3.product-import.max-archive-mb", () -> "1");
+        registry.add("ssak3.product-import.max-items", () -> "3");
+    }
+
+    @Autowired
+    private ProductImportService productImportService;
+
+    @Autowired
+    private UserProfileRepository userProfileRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Long sellerId;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        FileSystemUtils.deleteRecursively(UPLOAD_DIR);
+        Files.createDirectories(UPLOAD_DIR);
+        if (sellerId == null) {
+            sellerId = userProfileRepository.save(UserProfile.builder()
+                    .kakaoId(System.nanoTime())
+                    .nickname("판매자")
+                    .build()).getId();
+        }
+        if (categoryRepository.findAll().stream().noneMatch(category -> "가전".equals(category.getName()))) {
+            categoryRepository.save(Category.builder().name("가전").build());
+        }
+    }
+
+    @Test
+    void archiveWithoutManifestIsRejected() {
+        byte[] archive = zip(Map.of("a.jpg", new byte[]{1, 2, 3}));
+
+        assertThatThrownBy(() -> productImportService.importArchive(sellerId, new ByteArrayInputStream(archive)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("매니페스트");
+    }
+
+    @Test
+    void archiveWithTwoManifestsIsRejected() {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("a.ndjson", line("첫 번째", null));
+        entries.put("b/b.ndjson", line("두 번째", null));
+
+        assertThatThrownBy(() -> productImportService.importArchive(sellerId, new ByteArrayInputStream(zip(entries))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("두 개 이상");
+    }
+
+    @Test
+    void truncatedArchiveIsRejected() {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("items.ndjson", line("잘린 압축", "a.jpg"));
+        // 압축되지 않는 내용이라 절반에서 자르면 이미지 항목 중간이 잘림
+        byte[] image = new byte[4096];
+        new Random(1).nextBytes(image);
+        entries.put("a.jpg", image);
+        byte[] archive = zip(entries);
+        byte[] truncated = Arrays.copyOf(archive, archive.length / 2);
+
+        assertThatThrownBy(() -> productImportService.importArchive(sellerId, new ByteArrayInputStream(truncated)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(uploadedFiles()).isZero();
+    }
+
+    @Test
+    void archiveOverDecompressedLimitIsRejectedWithoutStagingImages() {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("items.ndjson", line("큰 압축", "big.jpg"));
+        entries.put("big.jpg", new byte[2 * 1024 * 1024]);
+
+        assertThatThrownBy(() -> productImportService.importArchive(sellerId, new ByteArrayInputStream(zip(entries))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("압축 해제 용량");
+        assertThat(uploadedFiles()).isZero();
+    }
+
+    @Test
+    void manifestOverItemLimitIsRejected() {
+        String manifest = String.join("\n",
+                text(line("1", null)), text(line("2", null)), text(line("3", null)), text(line("4", null)));
+
+        assertThatThrownBy(() -> productImportService.importManifest(sellerId,
+                new ByteArrayInputStream(manifest.getBytes(StandardCharsets.UTF_8)), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("최대 3개");
+    }
+
+    @Test
+    void failedItemsAreReportedAndTheirImagesRemoved() throws IOException {
+        // 정상 / JSON 오류 / 없는 이미지 / DB 저장 실패(제목 255자 초과)
+        String manifest = String.join("\n",
+                text(line("정상 상품", "ok.jpg")),
+                "{\"title\":",
+                text(line("이미지 없음", "missing.jpg")),
+                text(line("긴 제목".repeat(100), "long.jpg")));
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        entries.put("items.ndjson", manifest.getBytes(StandardCharsets.UTF_8));
+        entries.put("ok.jpg", new byte[]{1, 2, 3});
+        entries.put("long.jpg", new byte[]{4, 5, 6});
+
+        BulkImportResult result = productImportService.importArchive(sellerId, new ByteArrayInputStream(zip(entries)));
+
+        assertThat(result.total()).isEqualTo(4);
+        assertThat(result.created()).isEqualTo(1);
+        assertThat(result.items()).extracting(BulkImportResult.Item::status).containsExactly(
+                BulkImportResult.Status.CREATED,
+                BulkImportResult.Status.FAILED,
+                BulkImportResult.Status.FAILED,
+                BulkImportResult.Status.FAILED);
+        assertThat(result.items().get(1).error()).startsWith("JSON 형식 오류");
+        assertThat(result.items().get(2).error()).startsWith("업로드되지 않은 이미지");
+        assertThat(result.items().get(3).error()).startsWith("저장 실패");
+        // 등록된 상품의 이미지만 남음
+        assertThat(uploadedFiles()).isEqualTo(1);
+    }
+
+    private static byte[] line(String title, String image) {
+        String images = image != null ? ",\"images\":[\"" + image + "\"]" : "";
+        return ("{\"title\":\"" + title + "\",\"price\":1000,\"categoryName\":\"가전\"" + images + "}")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(byte[] line) {
+        return new String(line, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] zip(Map<String, byte[]> entries) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                zip.putNextEntry(new ZipEntry(entry.getKey()));
+                zip.write(entry.getValue());
+                zip.closeEntry();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static long uploadedFiles() {
+        try (Stream<Path> files = Files.list(UPLOAD_DIR)) {
+            return files.count();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Path createUploadDir() {
+        try {
+            return Files.createTempDirectory("ssak3-import-test-");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}